@@ -0,0 +1,102 @@
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * Converts date-ordered rows of money values with the historical rates in effect on their dates.
+ * Instead of searching the rate series for every row, the converter keeps one cursor per source currency
+ * into the series of that currency and only moves it forward while the rows advance in time, merge-joining
+ * the rows with the series. Its memory does not depend on the number of rows, so arbitrarily long streams
+ * can be converted. A row dated before the previous row of its currency is still converted correctly by
+ * searching the series again. An AsOfConverter keeps state between rows and is not thread-safe.
+ */
+public class AsOfConverter {
+    private final HistoricalExchangeRateProvider history;
+    private final Currency toCurrency;
+    private final ExchangeRateProvider.ExchangeRateType type;
+    // Position of the rate in effect for the last row of each currency, -1 before the start of its series
+    private final int[] cursors;
+    private final int[] lastDays;
+    private final BigDecimal[] currentRates;
+
+    /**
+     * Constructs an AsOfConverter.
+     *
+     * @param history    The historical rates.
+     * @param toCurrency The currency all rows are converted to.
+     * @param type       The type of exchange rate to use.
+     * @throws RuntimeException If an argument is null.
+     */
+    public AsOfConverter(HistoricalExchangeRateProvider history, Currency toCurrency, ExchangeRateProvider.ExchangeRateType type) {
+        if (history == null)
+            throw new RuntimeException(ConstErrorMessages.PROVIDER_NULL);
+        else if (toCurrency == null)
+            throw new RuntimeException(ConstErrorMessages.CURRENCY_NULL);
+        else if (type == null)
+            throw new RuntimeException(ConstErrorMessages.EXCHANGE_RATE_TYPE_NULL);
+        this.history = history;
+        this.toCurrency = toCurrency;
+        this.type = type;
+        int currencyCount = Currency.values().length;
+        this.cursors = new int[currencyCount];
+        this.lastDays = new int[currencyCount];
+        this.currentRates = new BigDecimal[currencyCount];
+        Arrays.fill(cursors, -1);
+        Arrays.fill(lastDays, Integer.MIN_VALUE);
+    }
+
+    /**
+     * Converts one row with the rate in effect on its date.
+     *
+     * @param row The row to convert.
+     * @return A new MoneyValue holding the converted value, rounded like Converter.convertTo.
+     * @throws RuntimeException If the row is null.
+     * @throws IllegalArgumentException If there is no rate on or before the date of the row.
+     */
+    public MoneyValue convert(DatedMoneyValue row) {
+        if (row == null)
+            throw new RuntimeException(ConstErrorMessages.MONEY_VALUE_NULL);
+        ImmutableMoneyValue value = row.getImmutableValue();
+        Currency from = value.getCurrency();
+        if (from == toCurrency)
+            return value.toMoneyValue();
+
+        int ordinal = from.ordinal();
+        int day = HistoricalExchangeRateProvider.lookupDay(row.getDate());
+        int cursor = cursors[ordinal];
+        if (day < lastDays[ordinal]) {
+            cursor = history.positionAsOf(from, toCurrency, type, day);
+        } else {
+            int[] days = history.seriesDays(from, toCurrency, type);
+            while (cursor + 1 < days.length && days[cursor + 1] <= day)
+                cursor++;
+        }
+        lastDays[ordinal] = day;
+        if (cursor != cursors[ordinal]) {
+            cursors[ordinal] = cursor;
+            currentRates[ordinal] = null;
+        }
+        if (cursor < 0)
+            throw new IllegalArgumentException("Exchange rate not found for: " + from + " to " + toCurrency);
+
+        BigDecimal rate = currentRates[ordinal];
+        if (rate == null) {
+            rate = BigDecimal.valueOf(history.seriesRates(from, toCurrency, type)[cursor]);
+            currentRates[ordinal] = rate;
+        }
+        return new MoneyValue(value.getAmount().multiply(rate), toCurrency);
+    }
+
+    /**
+     * Lazily converts a stream of rows in their order. The stream is processed sequentially.
+     *
+     * @param rows The rows to convert, best ordered by date.
+     * @return A stream of the converted values in the order of the rows.
+     * @throws RuntimeException If the stream is null.
+     */
+    public Stream<MoneyValue> convertAll(Stream<DatedMoneyValue> rows) {
+        if (rows == null)
+            throw new RuntimeException(ConstErrorMessages.MONEY_VALUE_NULL);
+        return rows.sequential().map(this::convert);
+    }
+}
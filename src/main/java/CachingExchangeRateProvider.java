@@ -0,0 +1,280 @@
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An ExchangeRateProvider decorator that caches the rates of a slower provider.
+ * Each ExchangeRateType has its own freshness policy: REALTIME rates expire after a fixed time to live,
+ * DAILY rates at the next day boundary and MONTHLY rates at the next month boundary of the configured zone.
+ * The cache holds at most one entry per rate type and currency pair in a dense array, so its size is bounded;
+ * reads are lock-free and only a miss calls the underlying provider.
+ * In stale-while-revalidate mode an expired REALTIME rate is still served for up to a maximum staleness
+ * while a background task refreshes it, so callers only wait for the provider once a rate is older than that.
+ */
+public class CachingExchangeRateProvider implements ExchangeRateProvider {
+
+    /**
+     * The default time to live of REALTIME rates.
+     */
+    public static final Duration DEFAULT_REALTIME_TTL = Duration.ofSeconds(5);
+
+    private final ExchangeRateProvider delegate;
+    private final long realtimeTtlMillis;
+    private final Clock clock;
+    private final ZoneId zone;
+    private final Executor refreshExecutor;
+    private final long maxStalenessMillis;
+    private final AtomicReferenceArray<Entry> entries = new AtomicReferenceArray<>(RateTable.size());
+    // 1 while a background refresh of the entry is running
+    private final AtomicIntegerArray refreshing = new AtomicIntegerArray(RateTable.size());
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructs a CachingExchangeRateProvider with the default REALTIME time to live,
+     * the system clock and day and month boundaries in UTC.
+     *
+     * @param delegate The provider whose rates are cached.
+     */
+    public CachingExchangeRateProvider(ExchangeRateProvider delegate) {
+        this(delegate, DEFAULT_REALTIME_TTL, Clock.systemUTC(), ZoneOffset.UTC);
+    }
+
+    /**
+     * Constructs a CachingExchangeRateProvider.
+     *
+     * @param delegate    The provider whose rates are cached.
+     * @param realtimeTtl How long a REALTIME rate stays fresh.
+     * @param clock       The clock used to decide whether an entry has expired.
+     * @param zone        The zone whose day and month boundaries expire DAILY and MONTHLY rates.
+     * @throws RuntimeException If an argument is null.
+     */
+    public CachingExchangeRateProvider(ExchangeRateProvider delegate, Duration realtimeTtl, Clock clock, ZoneId zone) {
+        this(delegate, realtimeTtl, clock, zone, null, Duration.ZERO);
+    }
+
+    /**
+     * Constructs a CachingExchangeRateProvider in stale-while-revalidate mode.
+     * An expired REALTIME rate is served for up to maxStaleness past its expiry while the refresh executor
+     * fetches a new one; after that, callers block on the provider as usual. Java 17 has no virtual threads,
+     * so the executor is supplied by the caller; on newer runtimes a virtual-thread-per-task executor fits well.
+     *
+     * @param delegate        The provider whose rates are cached.
+     * @param realtimeTtl     How long a REALTIME rate stays fresh.
+     * @param clock           The clock used to decide whether an entry has expired.
+     * @param zone            The zone whose day and month boundaries expire DAILY and MONTHLY rates.
+     * @param refreshExecutor The executor running background refreshes, null to always refresh synchronously.
+     * @param maxStaleness    How long past its expiry a REALTIME rate may still be served.
+     * @throws RuntimeException If an argument other than the executor is null.
+     */
+    public CachingExchangeRateProvider(ExchangeRateProvider delegate, Duration realtimeTtl, Clock clock, ZoneId zone,
+                                       Executor refreshExecutor, Duration maxStaleness) {
+        if (delegate == null || realtimeTtl == null || clock == null || zone == null || maxStaleness == null)
+            throw new RuntimeException(ConstErrorMessages.CACHE_CONFIGURATION_NULL);
+        this.delegate = delegate;
+        this.realtimeTtlMillis = realtimeTtl.toMillis();
+        this.clock = clock;
+        this.zone = zone;
+        this.refreshExecutor = refreshExecutor;
+        this.maxStalenessMillis = refreshExecutor == null ? 0 : maxStaleness.toMillis();
+    }
+
+    /**
+     * Retrieves the exchange rate, from the cache if it is still fresh.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate (e.g., REALTIME, MONTHLY, DAILY).
+     * @return The exchange rate from currency 'from' to currency 'to' as a Double value.
+     * @throws RuntimeException If a currency or the type is null.
+     */
+    @Override
+    public Double getExchangeRate(Currency from, Currency to, ExchangeRateType type) {
+        return entry(from, to, type).rate;
+    }
+
+    /**
+     * Retrieves the exchange rate as a primitive double, from the cache if it is still fresh.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate (e.g., REALTIME, MONTHLY, DAILY).
+     * @return The exchange rate from currency 'from' to currency 'to'.
+     * @throws RuntimeException If a currency or the type is null.
+     */
+    @Override
+    public double getExchangeRateAsDouble(Currency from, Currency to, ExchangeRateType type) {
+        return entry(from, to, type).rate;
+    }
+
+    /**
+     * Retrieves the exchange rate as a BigDecimal that is built once per cached entry.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate (e.g., REALTIME, MONTHLY, DAILY).
+     * @return The exchange rate from currency 'from' to currency 'to'.
+     * @throws RuntimeException If a currency or the type is null.
+     */
+    @Override
+    public BigDecimal getExchangeRateAsBigDecimal(Currency from, Currency to, ExchangeRateType type) {
+        Entry entry = entry(from, to, type);
+        return entry.decimalRate != null ? entry.decimalRate : BigDecimal.valueOf(entry.rate);
+    }
+
+    /**
+     * Returns how many lookups were answered from the cache.
+     *
+     * @return The number of cache hits.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns how many lookups were answered with an expired rate while it was refreshed in the background.
+     *
+     * @return The number of stale hits.
+     */
+    public long getStaleHitCount() {
+        return staleHits.sum();
+    }
+
+    /**
+     * Returns how many lookups had to call the underlying provider.
+     *
+     * @return The number of cache misses.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Removes all cached rates, so that the next lookups call the underlying provider again.
+     */
+    public void invalidateAll() {
+        for (int i = 0; i < entries.length(); i++)
+            entries.set(i, null);
+    }
+
+    /**
+     * Returns the fresh cache entry of a rate, loading it from the underlying provider if necessary.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate.
+     * @return The fresh entry.
+     */
+    private Entry entry(Currency from, Currency to, ExchangeRateType type) {
+        if (from == null || to == null)
+            throw new RuntimeException(ConstErrorMessages.CURRENCY_NULL);
+        else if (type == null)
+            throw new RuntimeException(ConstErrorMessages.EXCHANGE_RATE_TYPE_NULL);
+
+        int index = RateTable.index(from, to, type);
+        long now = clock.millis();
+        Entry entry = entries.get(index);
+        if (entry != null && now < entry.expiresAtMillis) {
+            hits.increment();
+            return entry;
+        }
+        if (entry != null && type == ExchangeRateType.REALTIME && now - entry.expiresAtMillis < maxStalenessMillis) {
+            staleHits.increment();
+            refreshInBackground(from, to, type, index);
+            return entry;
+        }
+
+        misses.increment();
+        return load(from, to, type, index);
+    }
+
+    /**
+     * Fetches a rate from the underlying provider and stores it in the cache.
+     *
+     * @param from  The currency to convert from.
+     * @param to    The currency to convert to.
+     * @param type  The type of exchange rate.
+     * @param index The cache index of the rate.
+     * @return The new entry.
+     */
+    private Entry load(Currency from, Currency to, ExchangeRateType type, int index) {
+        double rate = delegate.getExchangeRateAsDouble(from, to, type);
+        Entry entry = new Entry(rate, expiresAt(type, clock.millis()));
+        entries.set(index, entry);
+        return entry;
+    }
+
+    /**
+     * Starts a background refresh of a rate unless one is already running.
+     * A failed refresh leaves the stale entry in place until it exceeds the maximum staleness.
+     *
+     * @param from  The currency to convert from.
+     * @param to    The currency to convert to.
+     * @param type  The type of exchange rate.
+     * @param index The cache index of the rate.
+     */
+    private void refreshInBackground(Currency from, Currency to, ExchangeRateType type, int index) {
+        if (!refreshing.compareAndSet(index, 0, 1))
+            return;
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(from, to, type, index);
+                } catch (RuntimeException e) {
+                    // Keep serving the stale rate; the next lookup past the maximum staleness reports the failure
+                } finally {
+                    refreshing.set(index, 0);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.set(index, 0);
+        }
+    }
+
+    /**
+     * Computes when a rate loaded now stops being fresh.
+     *
+     * @param type The type of exchange rate.
+     * @param now  The current time in epoch milliseconds.
+     * @return The expiry time in epoch milliseconds.
+     */
+    long expiresAt(ExchangeRateType type, long now) {
+        if (type == ExchangeRateType.REALTIME)
+            return now + realtimeTtlMillis;
+
+        LocalDate today = LocalDate.ofInstant(Instant.ofEpochMilli(now), zone);
+        LocalDate boundary = type == ExchangeRateType.DAILY ? today.plusDays(1) : today.withDayOfMonth(1).plusMonths(1);
+        return boundary.atStartOfDay(zone).toInstant().toEpochMilli();
+    }
+
+    /**
+     * An immutable cached rate together with its expiry time.
+     */
+    static final class Entry {
+        final double rate;
+        final BigDecimal decimalRate;
+        final long expiresAtMillis;
+
+        /**
+         * Constructs an Entry.
+         *
+         * @param rate            The cached rate.
+         * @param expiresAtMillis The time in epoch milliseconds from which the rate is stale.
+         */
+        Entry(double rate, long expiresAtMillis) {
+            this.rate = rate;
+            this.decimalRate = Double.isFinite(rate) ? BigDecimal.valueOf(rate) : null;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
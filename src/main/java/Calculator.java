@@ -1,13 +1,22 @@
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * The Calculator class provides methods to perform arithmetic operations on MoneyValue objects.
  * It supports addition, subtraction, multiplication, and division of MoneyValue instances.
  * The class ensures that the operations are performed in the same currency, using a ConverterClient
  * if necessary to handle currency conversions.
+ * The running total is kept as an ImmutableMoneyValue and replaced after every operation, so the
+ * MoneyValue handed to the calculator is never modified. An operation takes the calculator's monitor
+ * and one snapshot of its operand; the running total itself needs no locking.
  */
 public class Calculator {
-    private MoneyValueClient mv_;
+    // Number of values a fork/join leaf sums sequentially
+    private static final int SUM_ALL_THRESHOLD = 8192;
+
+    private volatile ImmutableMoneyValue mv_;
     private ConverterClient cv_;
 
     /**
@@ -25,17 +34,18 @@ public class Calculator {
         else if (cv == null)
             throw new RuntimeException(ConstErrorMessages.CONVERTER_NULL);
 
-        this.mv_ = mv;
+        this.mv_ = mv.toImmutable();
         this.cv_ = cv;
     }
 
     /**
      * Returns the current MoneyValue client.
      * This client contains the monetary value and its associated currency.
+     * A new MoneyValue is returned on every call, so changing it does not affect the calculator.
      *
      * @return the MoneyValue client representing the current monetary value
      */
-    public MoneyValueClient getMoneyValueClient() { return this.mv_; }
+    public MoneyValueClient getMoneyValueClient() { return this.mv_.toMoneyValue(); }
 
     /**
      * Returns the Converter client.
@@ -47,7 +57,7 @@ public class Calculator {
     synchronized public void setMoneyValue(MoneyValue mv) {
         if(mv == null)
             throw new RuntimeException(ConstErrorMessages.MONEY_VALUE_NULL);
-        this.mv_ = mv;
+        this.mv_ = mv.toImmutable();
     }
 
     /**
@@ -78,9 +88,52 @@ public class Calculator {
         if(isMoneyValueValid(other))
             throw new RuntimeException(ConstErrorMessages.INVALID_MONEY_VALUE_AS_STRING);
 
-        MoneyValue otherInSameCurrency = mv_.getCurrency() == other.getCurrency() ?
-                                            other : cv_.convertTo(other, mv_.getCurrency());
-        mv_.add(otherInSameCurrency);
+        mv_ = mv_.plus(inSameCurrency(other));
+        return this;
+    }
+
+    /**
+     * Adds all specified MoneyValues to the current MoneyValue in this calculator.
+     * The values are summed per currency in parallel with fork/join and without locking;
+     * each currency's subtotal is then converted once to the currency of the current MoneyValue.
+     *
+     * @param values the MoneyValues to add
+     * @return this Calculator instance, updated with the new total
+     * @throws RuntimeException if the collection or one of its values is null
+     */
+    public Calculator sumAll(Collection<MoneyValue> values) {
+        if (values == null)
+            throw new RuntimeException(ConstErrorMessages.MONEY_VALUE_NULL);
+        return sumAll(values.toArray(new MoneyValue[0]));
+    }
+
+    /**
+     * Adds all specified MoneyValues to the current MoneyValue in this calculator.
+     * The values are summed per currency in parallel with fork/join and without locking;
+     * each currency's subtotal is then converted once to the currency of the current MoneyValue.
+     *
+     * @param values the MoneyValues to add
+     * @return this Calculator instance, updated with the new total
+     * @throws RuntimeException if the array or one of its values is null
+     */
+    public Calculator sumAll(MoneyValue... values) {
+        if (values == null)
+            throw new RuntimeException(ConstErrorMessages.MONEY_VALUE_NULL);
+
+        CurrencyTotals totals;
+        try {
+            totals = ForkJoinPool.commonPool().invoke(new SumTask(values, 0, values.length));
+        } catch (RuntimeException e) {
+            // Fork/join rethrows a copy of exceptions from other threads with the original as cause
+            if (e.getCause() != null && e.getCause().getClass() == e.getClass())
+                throw (RuntimeException) e.getCause();
+            throw e;
+        }
+
+        synchronized (this) {
+            Currency currency = mv_.getCurrency();
+            mv_ = mv_.plus(ImmutableMoneyValue.of(totals.convertAmount(currency, cv_, ExchangeRateProvider.ExchangeRateType.REALTIME), currency));
+        }
         return this;
     }
 
@@ -98,9 +151,7 @@ public class Calculator {
         if(isMoneyValueValid(other))
             throw new RuntimeException(ConstErrorMessages.INVALID_MONEY_VALUE_AS_STRING);
 
-        MoneyValue otherInSameCurrency = mv_.getCurrency() == other.getCurrency() ?
-                other : cv_.convertTo(other, mv_.getCurrency());
-        mv_.multiply(otherInSameCurrency);
+        mv_ = mv_.times(inSameCurrency(other));
         return this;
     }
 
@@ -118,9 +169,7 @@ public class Calculator {
         if(isMoneyValueValid(other))
             throw new RuntimeException(ConstErrorMessages.INVALID_MONEY_VALUE_AS_STRING);
 
-        MoneyValue otherInSameCurrency = mv_.getCurrency() == other.getCurrency() ?
-                other : cv_.convertTo(other, mv_.getCurrency());
-        mv_.subtract(otherInSameCurrency);
+        mv_ = mv_.minus(inSameCurrency(other));
         return this;
     }
 
@@ -138,12 +187,23 @@ public class Calculator {
         if(isMoneyValueValid(other) || other.getAmount().equals(BigDecimal.valueOf(0.0)))
             throw new RuntimeException(ConstErrorMessages.INVALID_MONEY_VALUE_AS_STRING);
 
-        MoneyValue otherInSameCurrency = mv_.getCurrency() == other.getCurrency() ?
-                other : cv_.convertTo(other, mv_.getCurrency());
-        mv_.divide(otherInSameCurrency);
+        mv_ = mv_.dividedBy(inSameCurrency(other));
         return this;
     }
 
+    /**
+     * Takes a snapshot of an operand in the currency of the running total.
+     * The operand may be changed by its owner at any time, so it is read exactly once;
+     * an operand in another currency is read by the Converter client instead.
+     *
+     * @param other the operand
+     * @return the operand as an ImmutableMoneyValue in the currency of the running total
+     */
+    private ImmutableMoneyValue inSameCurrency(MoneyValue other) {
+        Currency currency = mv_.getCurrency();
+        return other.getCurrency() == currency ? other.toImmutable() : cv_.convertTo(other, currency).toImmutable();
+    }
+
     /**
      * Validates the specified MoneyValue.
      * A valid MoneyValue is not null. This method can be extended to include additional validation
@@ -156,4 +216,43 @@ public class Calculator {
         return mv == null;
     }
 
+    /**
+     * Sums a range of MoneyValues per currency, splitting it in halves until it is small enough.
+     */
+    private static final class SumTask extends RecursiveTask<CurrencyTotals> {
+        private static final long serialVersionUID = 1L;
+
+        private final MoneyValue[] values;
+        private final int from;
+        private final int to;
+
+        /**
+         * Constructs a SumTask for the given range.
+         *
+         * @param values the MoneyValues to sum
+         * @param from   the first index of the range, inclusive
+         * @param to     the last index of the range, exclusive
+         */
+        SumTask(MoneyValue[] values, int from, int to) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected CurrencyTotals compute() {
+            if (to - from <= SUM_ALL_THRESHOLD) {
+                CurrencyTotals totals = new CurrencyTotals();
+                for (int i = from; i < to; i++)
+                    totals.add(values[i]);
+                return totals;
+            }
+
+            int middle = (from + to) >>> 1;
+            SumTask left = new SumTask(values, from, middle);
+            left.fork();
+            CurrencyTotals right = new SumTask(values, middle, to).compute();
+            return left.join().merge(right);
+        }
+    }
 }
@@ -0,0 +1,109 @@
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An ExchangeRateProvider decorator that lets only one lookup per rate type and currency pair reach the
+ * underlying provider at a time. Threads asking for a rate that is already being fetched wait for that
+ * fetch and share its result or exception instead of calling the provider themselves.
+ * Nothing is kept once a fetch completes, so it composes with caching providers on either side:
+ * placed behind a CachingExchangeRateProvider it collapses the misses of an expired entry into one fetch.
+ */
+public class CoalescingExchangeRateProvider implements ExchangeRateProvider {
+    private final ExchangeRateProvider delegate;
+    private final AtomicReferenceArray<CompletableFuture<Double>> inFlight = new AtomicReferenceArray<>(RateTable.size());
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Constructs a CoalescingExchangeRateProvider.
+     *
+     * @param delegate The provider whose lookups are coalesced.
+     * @throws RuntimeException If the provider is null.
+     */
+    public CoalescingExchangeRateProvider(ExchangeRateProvider delegate) {
+        if (delegate == null)
+            throw new RuntimeException(ConstErrorMessages.PROVIDER_NULL);
+        this.delegate = delegate;
+    }
+
+    /**
+     * Retrieves the exchange rate, joining a lookup of the same rate that is already in flight.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate (e.g., REALTIME, MONTHLY, DAILY).
+     * @return The exchange rate from currency 'from' to currency 'to' as a Double value.
+     * @throws RuntimeException If a currency or the type is null, or the lookup failed.
+     */
+    @Override
+    public Double getExchangeRate(Currency from, Currency to, ExchangeRateType type) {
+        return getExchangeRateAsDouble(from, to, type);
+    }
+
+    /**
+     * Retrieves the exchange rate as a primitive double, joining a lookup of the same rate that is already in flight.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate (e.g., REALTIME, MONTHLY, DAILY).
+     * @return The exchange rate from currency 'from' to currency 'to'.
+     * @throws RuntimeException If a currency or the type is null, or the lookup failed.
+     */
+    @Override
+    public double getExchangeRateAsDouble(Currency from, Currency to, ExchangeRateType type) {
+        if (from == null || to == null)
+            throw new RuntimeException(ConstErrorMessages.CURRENCY_NULL);
+        else if (type == null)
+            throw new RuntimeException(ConstErrorMessages.EXCHANGE_RATE_TYPE_NULL);
+
+        int index = RateTable.index(from, to, type);
+        CompletableFuture<Double> fetch = new CompletableFuture<>();
+        while (!inFlight.compareAndSet(index, null, fetch)) {
+            CompletableFuture<Double> running = inFlight.get(index);
+            if (running != null) {
+                coalesced.increment();
+                return await(running);
+            }
+        }
+
+        try {
+            double rate = delegate.getExchangeRateAsDouble(from, to, type);
+            fetch.complete(rate);
+            return rate;
+        } catch (RuntimeException | Error e) {
+            fetch.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.compareAndSet(index, fetch, null);
+        }
+    }
+
+    /**
+     * Returns how many lookups waited for a fetch of another thread instead of calling the underlying provider.
+     *
+     * @return The number of coalesced lookups.
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Waits for a fetch of another thread and rethrows its exception unwrapped.
+     *
+     * @param fetch The running fetch.
+     * @return The fetched rate.
+     */
+    private static double await(CompletableFuture<Double> fetch) {
+        try {
+            return fetch.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            else if (cause instanceof Error)
+                throw (Error) cause;
+            throw e;
+        }
+    }
+}
@@ -24,6 +24,11 @@ interface ConstErrorMessages {
      */
     String DIVIDE_BY_ZERO = "Can not divide by zero";
 
+    /**
+     * Error message when an amount does not fit into a fixed-point long of minor units.
+     */
+    String AMOUNT_OVERFLOW = "Amount exceeds the fixed-point range";
+
     // Calculator
 
     /**
@@ -47,4 +52,107 @@ interface ConstErrorMessages {
      * Error message when the currency is null.
      */
     String CURRENCY_NULL = "Currency can not be null";
+
+    // CachingExchangeRateProvider
+
+    /**
+     * Error message when the provider, time to live, clock or zone of a rate cache is null.
+     */
+    String CACHE_CONFIGURATION_NULL = "Cache configuration can not be null";
+
+    // CoalescingExchangeRateProvider
+
+    /**
+     * Error message when the provider that lookups are delegated to is null.
+     */
+    String PROVIDER_NULL = "ExchangeRateProvider can not be null";
+
+    // ExchangeRateRefresher
+
+    /**
+     * Error message when the scheduler, period or jitter of a refresher is null.
+     */
+    String REFRESH_CONFIGURATION_NULL = "Refresh configuration can not be null";
+
+    // SnapshotExchangeRateProvider
+
+    /**
+     * Error message when a rate table to publish or serve is null.
+     */
+    String RATE_TABLE_NULL = "RateTable can not be null";
+
+    /**
+     * Error message when the changes applied to a rate table are null.
+     */
+    String RATE_UPDATE_NULL = "Rate table update can not be null";
+
+    /**
+     * Error message when a published rate table is not newer than the one already served.
+     */
+    String RATE_TABLE_OUTDATED = "RateTable is not newer than the published one";
+
+    // RateTable
+
+    /**
+     * Error message when the precision of derived rates is null.
+     */
+    String MATH_CONTEXT_NULL = "MathContext can not be null";
+
+    /**
+     * Error message when derived rates are requested with unlimited precision, which fails for non-terminating inverses.
+     */
+    String MATH_CONTEXT_UNLIMITED = "MathContext must have a limited precision";
+
+    // HistoricalExchangeRateProvider
+
+    /**
+     * Error message when the date of a historical rate is null.
+     */
+    String DATE_NULL = "Date can not be null";
+
+    /**
+     * Error message when a historical rate is put for a date whose epoch day does not fit into an int.
+     */
+    String DATE_OUT_OF_RANGE = "Date is out of the supported range";
+
+    // MappedExchangeRateProvider
+
+    /**
+     * Error message when a file is not a rate table file written for the currencies of this build.
+     */
+    String INVALID_RATE_FILE = "Invalid rate table file";
+
+    /**
+     * Error message when the path of a rate table file is null.
+     */
+    String PATH_NULL = "Path can not be null";
+
+    /**
+     * Error message when a rate table file stays mid-update for too long, such as after its writer died while publishing.
+     */
+    String RATE_FILE_STALLED = "Rate table file is not being updated to completion";
+
+    // RateDumpLoader
+
+    /**
+     * Error message when a rate dump is malformed.
+     */
+    String INVALID_RATE_DUMP = "Invalid rate dump";
+
+    /**
+     * Error message when a rate dump names a currency that does not exist.
+     */
+    String UNKNOWN_CURRENCY = "Unknown currency";
+
+    /**
+     * Error message when a rate dump holds a rate that is zero, negative or too large for a double.
+     */
+    String INVALID_RATE = "Exchange rate must be positive";
+
+    // IsoCurrencyRegistry
+
+    /**
+     * Error message when an ISO 4217 currency has no Currency constant to hold money values in.
+     */
+    String UNSUPPORTED_CURRENCY = "Currency is not supported";
 }
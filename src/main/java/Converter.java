@@ -1,4 +1,5 @@
 import java.math.BigDecimal;
+import java.math.BigInteger;
 
 /**
  * The Converter class implements the ConverterClient interface and provides methods to convert
@@ -47,8 +48,121 @@ public class Converter implements ConverterClient {
             throw new RuntimeException(ConstErrorMessages.EXCHANGE_RATE_TYPE_NULL);
 
 
-        BigDecimal toFactor = BigDecimal.valueOf(exchangeRateProvider.getExchangeRate(mv.getCurrency(), toCurrency, type));
+        BigDecimal toFactor = exchangeRateProvider.getExchangeRateAsBigDecimal(mv.getCurrency(), toCurrency, type);
 
         return new MoneyValue(mv.getAmount().multiply(toFactor), toCurrency);
     }
+
+    /**
+     * Converts an amount to the given target currency without rounding it.
+     *
+     * @param amount the amount to convert
+     * @param fromCurrency the currency of the amount
+     * @param toCurrency the target currency to convert to
+     * @param type the type of exchange rate to use
+     * @return the exact product of the amount and the exchange rate
+     * @throws RuntimeException if an argument is null
+     */
+    @Override
+    public BigDecimal convertAmount(BigDecimal amount, Currency fromCurrency, Currency toCurrency, ExchangeRateProvider.ExchangeRateType type) {
+        if (amount == null)
+            throw new RuntimeException(ConstErrorMessages.AMOUNT_NULL);
+        else if (fromCurrency == null || toCurrency == null)
+            throw new RuntimeException(ConstErrorMessages.CURRENCY_NULL);
+        else if (type == null)
+            throw new RuntimeException(ConstErrorMessages.EXCHANGE_RATE_TYPE_NULL);
+        if (fromCurrency == toCurrency)
+            return amount;
+        return amount.multiply(exchangeRateProvider.getExchangeRateAsBigDecimal(fromCurrency, toCurrency, type));
+    }
+
+    /**
+     * Converts the specified MoneyValue to the given ISO 4217 currency.
+     * Only currencies that money values can be held in are supported, see IsoCurrency.getCurrency.
+     *
+     * @param mv the MoneyValue to convert
+     * @param toCurrency the target currency to convert to
+     * @param type the type of exchange rate to use
+     * @return a new MoneyValue instance representing the converted amount in the target currency
+     * @throws RuntimeException if an argument is null or the target currency is not supported
+     */
+    public MoneyValue convertToIsoCurrency(MoneyValue mv, IsoCurrency toCurrency, ExchangeRateProvider.ExchangeRateType type) {
+        if (toCurrency == null)
+            throw new RuntimeException(ConstErrorMessages.CONVERTER_NULL);
+        Currency currency = toCurrency.getCurrency();
+        if (currency == null)
+            throw new RuntimeException(ConstErrorMessages.UNSUPPORTED_CURRENCY);
+        return convertTo(mv, currency, type);
+    }
+
+    /**
+     * Returns a Converter that uses the snapshot currently published by the ExchangeRateProvider for all of its
+     * conversions, so a batch spanning several calls sees the same rates even if newer ones are published meanwhile.
+     *
+     * @return a Converter pinned to the current snapshot, or this Converter if the provider does not publish snapshots
+     */
+    public Converter pinSnapshot() {
+        if (!(exchangeRateProvider instanceof RateSnapshotProvider))
+            return this;
+        return new Converter(new SnapshotExchangeRateProvider(((RateSnapshotProvider) exchangeRateProvider).getSnapshot()));
+    }
+
+    /**
+     * Converts all given MoneyValues to the target currency.
+     * The rate of every source currency is looked up only once; amounts stored as hundredths are then
+     * multiplied by the rate in fixed-point arithmetic, rounding exactly like convertTo.
+     * If the ExchangeRateProvider publishes snapshots, all rates are taken from the one current when the call starts.
+     *
+     * @param values the MoneyValues to convert
+     * @param toCurrency the target currency to convert to
+     * @param type the type of exchange rate to use
+     * @return a new array of converted MoneyValues in the order of the input
+     * @throws RuntimeException if the array, one of its values, the target currency or the rate type is null
+     */
+    @Override
+    public MoneyValue[] convertAll(MoneyValue[] values, Currency toCurrency, ExchangeRateProvider.ExchangeRateType type) {
+        if (values == null)
+            throw new RuntimeException(ConstErrorMessages.INVALID_MONEY_VALUE_AS_STRING);
+        else if (toCurrency == null)
+            throw new RuntimeException(ConstErrorMessages.CONVERTER_NULL);
+        else if (type == null)
+            throw new RuntimeException(ConstErrorMessages.EXCHANGE_RATE_TYPE_NULL);
+
+        RateTable snapshot = exchangeRateProvider instanceof RateSnapshotProvider ?
+                ((RateSnapshotProvider) exchangeRateProvider).getSnapshot() : null;
+        int currencyCount = Currency.values().length;
+        BigDecimal[] rates = new BigDecimal[currencyCount];
+        long[] rateUnscaled = new long[currencyCount];
+        int[] rateScale = new int[currencyCount];
+        long[] limits = new long[currencyCount];
+
+        MoneyValue[] result = new MoneyValue[values.length];
+        for (int i = 0; i < values.length; i++) {
+            MoneyValue mv = values[i];
+            if (mv == null)
+                throw new RuntimeException(ConstErrorMessages.INVALID_MONEY_VALUE_AS_STRING);
+
+            int ordinal = mv.getCurrency().ordinal();
+            if (rates[ordinal] == null) {
+                BigDecimal rate = snapshot != null ?
+                        SnapshotExchangeRateProvider.decimalRateOf(snapshot, mv.getCurrency(), toCurrency, type) :
+                        exchangeRateProvider.getExchangeRateAsBigDecimal(mv.getCurrency(), toCurrency, type);
+                rates[ordinal] = rate;
+                BigDecimal normalized = rate.scale() < 0 ? rate.setScale(0) : rate;
+                BigInteger unscaled = normalized.unscaledValue();
+                rateUnscaled[ordinal] = unscaled.longValue();
+                rateScale[ordinal] = normalized.scale();
+                // Largest amount in hundredths whose product with the rate still fits into a long
+                boolean compactRate = unscaled.bitLength() < Long.SIZE && rateUnscaled[ordinal] != Long.MIN_VALUE && rateScale[ordinal] <= 18;
+                limits[ordinal] = !compactRate ? -1 : rateUnscaled[ordinal] == 0 ? Long.MAX_VALUE : Long.MAX_VALUE / Math.abs(rateUnscaled[ordinal]);
+            }
+
+            // Math.abs(Long.MIN_VALUE) stays negative, so that amount has to take the BigDecimal path explicitly
+            long units = mv.isCompact() ? mv.getMinorUnits() : Long.MIN_VALUE;
+            result[i] = units != Long.MIN_VALUE && Math.abs(units) <= limits[ordinal] ?
+                    MoneyValue.ofMinorUnits(FixedPointMath.multiplyByRate(units, rateUnscaled[ordinal], rateScale[ordinal]), toCurrency) :
+                    new MoneyValue(mv.getAmount().multiply(rates[ordinal]), toCurrency);
+        }
+        return result;
+    }
 }
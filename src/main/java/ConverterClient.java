@@ -1,3 +1,8 @@
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * The ConverterClient interface defines methods for converting monetary values between different currencies.
  * Implementations of this interface provide functionality to convert MoneyValue objects from one currency to another
@@ -23,4 +28,57 @@ public interface ConverterClient {
      * @return A new MoneyValue object representing the converted monetary value in the specified currency.
      */
     MoneyValue convertTo(MoneyValue mv, Currency toCurrency, ExchangeRateProvider.ExchangeRateType type);
+
+    /**
+     * Converts an amount to the specified currency without rounding it, so that several converted
+     * amounts can be summed and rounded once at the end.
+     * The default implementation converts through convertTo and is therefore rounded to two decimal places;
+     * implementations that know the exchange rate return the exact product.
+     *
+     * @param amount       The amount to convert.
+     * @param fromCurrency The currency of the amount.
+     * @param toCurrency   The target currency to which the amount should be converted.
+     * @param type         The type of exchange rate to use for the conversion (e.g., realtime, monthly, daily).
+     * @return The converted amount.
+     */
+    default BigDecimal convertAmount(BigDecimal amount, Currency fromCurrency, Currency toCurrency, ExchangeRateProvider.ExchangeRateType type) {
+        if (amount == null)
+            throw new RuntimeException(ConstErrorMessages.AMOUNT_NULL);
+        return convertTo(new MoneyValue(amount, fromCurrency), toCurrency, type).getAmount();
+    }
+
+    /**
+     * Converts all given MoneyValue objects to the specified currency using a specific exchange rate type.
+     * The default implementation converts the values one by one; implementations may look up each
+     * source currency's rate only once.
+     *
+     * @param values      The MoneyValue objects to convert.
+     * @param toCurrency  The target currency to which the values should be converted.
+     * @param type        The type of exchange rate to use for the conversion (e.g., realtime, monthly, daily).
+     * @return A new list of converted MoneyValue objects in the order of the input.
+     */
+    default List<MoneyValue> convertAll(Collection<MoneyValue> values, Currency toCurrency, ExchangeRateProvider.ExchangeRateType type) {
+        if (values == null)
+            throw new RuntimeException(ConstErrorMessages.INVALID_MONEY_VALUE_AS_STRING);
+        return Arrays.asList(convertAll(values.toArray(new MoneyValue[0]), toCurrency, type));
+    }
+
+    /**
+     * Converts all given MoneyValue objects to the specified currency using a specific exchange rate type.
+     * The default implementation converts the values one by one; implementations may look up each
+     * source currency's rate only once.
+     *
+     * @param values      The MoneyValue objects to convert.
+     * @param toCurrency  The target currency to which the values should be converted.
+     * @param type        The type of exchange rate to use for the conversion (e.g., realtime, monthly, daily).
+     * @return A new array of converted MoneyValue objects in the order of the input.
+     */
+    default MoneyValue[] convertAll(MoneyValue[] values, Currency toCurrency, ExchangeRateProvider.ExchangeRateType type) {
+        if (values == null)
+            throw new RuntimeException(ConstErrorMessages.INVALID_MONEY_VALUE_AS_STRING);
+        MoneyValue[] result = new MoneyValue[values.length];
+        for (int i = 0; i < values.length; i++)
+            result[i] = convertTo(values[i], toCurrency, type);
+        return result;
+    }
 }
@@ -0,0 +1,309 @@
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An ExchangeRateProvider that derives cross rates through a pivot currency.
+ * The underlying snapshots only need the rates between every currency and the pivot, in either direction,
+ * so they grow linearly with the number of currencies. A rate that is not in the snapshot is derived
+ * as from → pivot → to, inverting a leg if only its opposite direction is known. Legs are inverted at a
+ * configured precision exactly like RateTable.Builder.deriveInverses, so a pair comes out the same whether
+ * it is derived here or by an InverseRateExchangeRateProvider with the same precision.
+ * Each derived rate is computed once per snapshot and kept in a dense cache that is dropped as soon as
+ * a new snapshot is published, so lookups are O(1) after the first one.
+ * As a RateSnapshotProvider it also publishes each underlying snapshot completed with all derivable cross rates,
+ * so converters can pin one consistent set of direct and derived rates for a batch.
+ */
+public class CrossRateExchangeRateProvider implements RateSnapshotProvider {
+    private static final long NOT_DERIVED = Double.doubleToRawLongBits(Double.NaN);
+
+    private final RateSnapshotProvider source;
+    private final Currency pivot;
+    private final MathContext precision;
+    private final LongAdder derivations = new LongAdder();
+    private volatile DerivedRates derived;
+
+    /**
+     * Constructs a CrossRateExchangeRateProvider inverting legs at the default precision of derived inverses.
+     *
+     * @param source The provider of the snapshots holding the rates to and from the pivot.
+     * @param pivot  The currency every cross rate is derived through.
+     * @throws RuntimeException If an argument is null.
+     */
+    public CrossRateExchangeRateProvider(RateSnapshotProvider source, Currency pivot) {
+        this(source, pivot, InverseRateExchangeRateProvider.DEFAULT_PRECISION);
+    }
+
+    /**
+     * Constructs a CrossRateExchangeRateProvider.
+     *
+     * @param source    The provider of the snapshots holding the rates to and from the pivot.
+     * @param pivot     The currency every cross rate is derived through.
+     * @param precision The precision of inverted legs.
+     * @throws RuntimeException If an argument is null or the precision is unlimited.
+     */
+    public CrossRateExchangeRateProvider(RateSnapshotProvider source, Currency pivot, MathContext precision) {
+        if (source == null)
+            throw new RuntimeException(ConstErrorMessages.PROVIDER_NULL);
+        else if (pivot == null)
+            throw new RuntimeException(ConstErrorMessages.CURRENCY_NULL);
+        else if (precision == null)
+            throw new RuntimeException(ConstErrorMessages.MATH_CONTEXT_NULL);
+        else if (precision.getPrecision() == 0)
+            throw new RuntimeException(ConstErrorMessages.MATH_CONTEXT_UNLIMITED);
+        this.source = source;
+        this.pivot = pivot;
+        this.precision = precision;
+        this.derived = new DerivedRates(source.getSnapshot());
+    }
+
+    /**
+     * Returns the current snapshot of the underlying provider completed with every cross rate that can be derived.
+     * The completed table has the same version as the snapshot it was derived from and is built once per snapshot.
+     *
+     * @return The completed RateTable.
+     */
+    @Override
+    public RateTable getSnapshot() {
+        return currentRates().table();
+    }
+
+    /**
+     * Retrieves the exchange rate, deriving it through the pivot if the snapshot does not contain it.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate (e.g., REALTIME, MONTHLY, DAILY).
+     * @return The exchange rate from currency 'from' to currency 'to' as a Double value.
+     * @throws RuntimeException If a currency or the type is null.
+     * @throws IllegalArgumentException If the rate can not be derived.
+     */
+    @Override
+    public Double getExchangeRate(Currency from, Currency to, ExchangeRateType type) {
+        return getExchangeRateAsDouble(from, to, type);
+    }
+
+    /**
+     * Retrieves the exchange rate as a primitive double, deriving it through the pivot if the snapshot does not contain it.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate (e.g., REALTIME, MONTHLY, DAILY).
+     * @return The exchange rate from currency 'from' to currency 'to'.
+     * @throws RuntimeException If a currency or the type is null.
+     * @throws IllegalArgumentException If the rate can not be derived.
+     */
+    @Override
+    public double getExchangeRateAsDouble(Currency from, Currency to, ExchangeRateType type) {
+        checkArguments(from, to, type);
+        return currentRates().rate(from, to, type);
+    }
+
+    /**
+     * Retrieves the exchange rate as a BigDecimal that is built once per snapshot.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate (e.g., REALTIME, MONTHLY, DAILY).
+     * @return The exchange rate from currency 'from' to currency 'to'.
+     * @throws RuntimeException If a currency or the type is null.
+     * @throws IllegalArgumentException If the rate can not be derived.
+     */
+    @Override
+    public BigDecimal getExchangeRateAsBigDecimal(Currency from, Currency to, ExchangeRateType type) {
+        checkArguments(from, to, type);
+        return currentRates().decimalRate(from, to, type);
+    }
+
+    /**
+     * Returns the pivot currency.
+     *
+     * @return The currency every cross rate is derived through.
+     */
+    public Currency getPivot() {
+        return pivot;
+    }
+
+    /**
+     * Returns how many cross rates were derived, counting each rate once per snapshot.
+     *
+     * @return The number of derivations.
+     */
+    public long getDerivationCount() {
+        return derivations.sum();
+    }
+
+    /**
+     * Returns the derived rates of the current snapshot, starting an empty cache if a new snapshot was published.
+     *
+     * @return The derived rates of the current snapshot.
+     */
+    private DerivedRates currentRates() {
+        RateTable snapshot = source.getSnapshot();
+        DerivedRates rates = derived;
+        if (rates.snapshot != snapshot) {
+            rates = new DerivedRates(snapshot);
+            derived = rates;
+        }
+        return rates;
+    }
+
+    /**
+     * Checks the arguments of a lookup.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate.
+     * @throws RuntimeException If a currency or the type is null.
+     */
+    private static void checkArguments(Currency from, Currency to, ExchangeRateType type) {
+        if (from == null || to == null)
+            throw new RuntimeException(ConstErrorMessages.CURRENCY_NULL);
+        else if (type == null)
+            throw new RuntimeException(ConstErrorMessages.EXCHANGE_RATE_TYPE_NULL);
+    }
+
+    /**
+     * The cache of the cross rates derived from one snapshot. Slots are filled lazily and may be
+     * computed twice by racing threads, which is harmless since both derive the same value.
+     */
+    private final class DerivedRates {
+        final RateTable snapshot;
+        // The rates to and from the pivot, completed with the inverses of the legs known in one direction only
+        final RateTable legs;
+        final AtomicLongArray rates = new AtomicLongArray(RateTable.size());
+        final AtomicReferenceArray<BigDecimal> decimalRates = new AtomicReferenceArray<>(RateTable.size());
+        volatile RateTable table;
+
+        /**
+         * Constructs an empty cache for a snapshot.
+         *
+         * @param snapshot The snapshot the rates are derived from.
+         */
+        DerivedRates(RateTable snapshot) {
+            this.snapshot = snapshot;
+            RateTable.Builder builder = RateTable.builder();
+            for (ExchangeRateType type : ExchangeRateType.values()) {
+                for (Currency currency : Currency.values()) {
+                    builder.put(type, currency, pivot, snapshot.getRate(currency, pivot, type));
+                    builder.put(type, pivot, currency, snapshot.getRate(pivot, currency, type));
+                }
+            }
+            this.legs = builder.deriveInverses(precision).build();
+            for (int i = 0; i < rates.length(); i++)
+                rates.set(i, NOT_DERIVED);
+        }
+
+        /**
+         * Returns a rate of the snapshot or the cached cross rate, deriving it on the first lookup.
+         *
+         * @param from The currency to convert from.
+         * @param to   The currency to convert to.
+         * @param type The type of exchange rate.
+         * @return The exchange rate.
+         * @throws IllegalArgumentException If the rate can not be derived.
+         */
+        double rate(Currency from, Currency to, ExchangeRateType type) {
+            double rate = derive(from, to, type);
+            if (Double.isNaN(rate))
+                throw new IllegalArgumentException("Exchange rate not found for: " + from + " to " + to);
+            return rate;
+        }
+
+        /**
+         * Returns the snapshot completed with every derivable cross rate, building it on the first call.
+         *
+         * @return The completed RateTable with the version of the snapshot.
+         */
+        RateTable table() {
+            RateTable completed = table;
+            if (completed == null) {
+                RateTable.Builder builder = snapshot.toBuilder().version(snapshot.getVersion());
+                for (ExchangeRateType type : ExchangeRateType.values()) {
+                    for (Currency from : Currency.values()) {
+                        for (Currency to : Currency.values()) {
+                            double rate = derive(from, to, type);
+                            if (!Double.isNaN(rate))
+                                builder.put(type, from, to, rate);
+                        }
+                    }
+                }
+                completed = builder.build();
+                table = completed;
+            }
+            return completed;
+        }
+
+        /**
+         * Returns a rate of the snapshot or the cached cross rate, deriving it on the first lookup.
+         *
+         * @param from The currency to convert from.
+         * @param to   The currency to convert to.
+         * @param type The type of exchange rate.
+         * @return The exchange rate, or NaN if it can not be derived.
+         */
+        private double derive(Currency from, Currency to, ExchangeRateType type) {
+            double direct = snapshot.getRate(from, to, type);
+            if (!Double.isNaN(direct))
+                return direct;
+
+            int index = RateTable.index(from, to, type);
+            double rate = Double.longBitsToDouble(rates.get(index));
+            if (Double.isNaN(rate)) {
+                rate = toPivot(from, type) * fromPivot(to, type);
+                if (!Double.isFinite(rate))
+                    return Double.NaN;
+                rates.set(index, Double.doubleToRawLongBits(rate));
+                derivations.increment();
+            }
+            return rate;
+        }
+
+        /**
+         * Returns a rate as a BigDecimal, building it once per snapshot.
+         *
+         * @param from The currency to convert from.
+         * @param to   The currency to convert to.
+         * @param type The type of exchange rate.
+         * @return The exchange rate.
+         * @throws IllegalArgumentException If the rate can not be derived.
+         */
+        BigDecimal decimalRate(Currency from, Currency to, ExchangeRateType type) {
+            BigDecimal direct = snapshot.getRateAsBigDecimal(from, to, type);
+            if (direct != null)
+                return direct;
+
+            int index = RateTable.index(from, to, type);
+            BigDecimal rate = decimalRates.get(index);
+            if (rate == null) {
+                rate = BigDecimal.valueOf(rate(from, to, type));
+                decimalRates.set(index, rate);
+            }
+            return rate;
+        }
+
+        /**
+         * Returns the rate from a currency to the pivot, inverted from the opposite rate if necessary.
+         *
+         * @param currency The currency to convert from.
+         * @param type     The type of exchange rate.
+         * @return The rate, or NaN if neither direction is known.
+         */
+        private double toPivot(Currency currency, ExchangeRateType type) {
+            return legs.getRate(currency, pivot, type);
+        }
+
+        /**
+         * Returns the rate from the pivot to a currency, inverted from the opposite rate if necessary.
+         *
+         * @param currency The currency to convert to.
+         * @param type     The type of exchange rate.
+         * @return The rate, or NaN if neither direction is known.
+         */
+        private double fromPivot(Currency currency, ExchangeRateType type) {
+            return legs.getRate(pivot, currency, type);
+        }
+    }
+}
@@ -4,6 +4,8 @@ import java.util.Map;
 
 /**
  * Enum representing various currencies with their ISO codes and symbols.
+ * These are the currencies money values can be held and converted in; the IsoCurrencyRegistry knows
+ * every active ISO 4217 currency and links the registered ones back to these constants.
  */
 public enum Currency {
     /**
@@ -28,24 +30,23 @@ public enum Currency {
 
     private final String isoCode;
     private final String symbol;
+    private final int packedCode;
 
-    // Static maps for efficient lookup
+    // Static map for symbol lookup, ISO codes are looked up by their packed code
     private static final Map<Character, Currency> SYMBOL_TO_CURRENCY;
-    private static final Map<String, Currency> ISO_TO_CURRENCY;
+    private static final Currency[] BY_PACKED_CODE = new Currency[IsoCurrencyRegistry.PACKED_CODE_COUNT];
 
-    // Static initialization block to populate the maps
+    // Static initialization block to populate the lookups
     static {
         Map<Character, Currency> symbolToCurrency = new HashMap<>();
-        Map<String, Currency> isoToCurrency = new HashMap<>();
 
-        // Populate the maps with enum values
+        // Populate the lookups with enum values
         for (Currency currency : Currency.values()) {
             symbolToCurrency.put(currency.symbol.charAt(0), currency);
-            isoToCurrency.put(currency.isoCode, currency);
+            BY_PACKED_CODE[currency.packedCode] = currency;
         }
-        // Make the maps unmodifiable
+        // Make the map unmodifiable
         SYMBOL_TO_CURRENCY = Collections.unmodifiableMap(symbolToCurrency);
-        ISO_TO_CURRENCY = Collections.unmodifiableMap(isoToCurrency);
     }
 
     /**
@@ -57,6 +58,7 @@ public enum Currency {
     Currency(String isoCode, String symbol) {
         this.isoCode = isoCode;
         this.symbol = symbol;
+        this.packedCode = IsoCurrencyRegistry.pack(isoCode);
     }
 
     /**
@@ -68,6 +70,42 @@ public enum Currency {
         return isoCode;
     }
 
+    /**
+     * Get the ISO code of the currency packed into an int, see IsoCurrencyRegistry.pack.
+     *
+     * @return The packed ISO code.
+     */
+    public int getPackedCode() {
+        return packedCode;
+    }
+
+    /**
+     * Get the ISO 4217 numeric code of the currency.
+     *
+     * @return The numeric code, e.g. 840 for USD.
+     */
+    public int getNumericCode() {
+        return toIsoCurrency().getNumericCode();
+    }
+
+    /**
+     * Get the number of digits of the minor unit of the currency.
+     *
+     * @return The number of minor-unit digits, e.g. 0 for JPY.
+     */
+    public int getMinorDigits() {
+        return toIsoCurrency().getMinorDigits();
+    }
+
+    /**
+     * Get the registry entry of the currency.
+     *
+     * @return The IsoCurrency with the same ISO code.
+     */
+    public IsoCurrency toIsoCurrency() {
+        return IsoCurrencyRegistry.fromPackedCode(packedCode);
+    }
+
     /**
      * Get the symbol of the currency.
      *
@@ -94,6 +132,16 @@ public enum Currency {
      * @return The Currency enum corresponding to the ISO code.
      */
     public static Currency fromIsoCode(String isoCode) {
-        return ISO_TO_CURRENCY.get(isoCode);
+        return fromPackedCode(IsoCurrencyRegistry.pack(isoCode));
+    }
+
+    /**
+     * Retrieve the Currency enum based on its packed ISO code.
+     *
+     * @param packedCode The ISO code packed by IsoCurrencyRegistry.pack.
+     * @return The Currency enum corresponding to the code, or null if there is none.
+     */
+    public static Currency fromPackedCode(int packedCode) {
+        return packedCode >= 0 && packedCode < BY_PACKED_CODE.length ? BY_PACKED_CODE[packedCode] : null;
     }
 }
@@ -1,3 +1,4 @@
+import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.text.NumberFormat;
 import java.util.Locale;
@@ -65,4 +66,48 @@ public class CurrencyFormatter {
             return amount + " " + currency.getIsoCode();
         }
     }
+
+    /**
+     * Format an amount in any ISO 4217 currency with its ISO code, using the default locale.
+     *
+     * @param amount   The amount to format.
+     * @param currency The currency of the amount.
+     * @return A formatted String representation of the amount with ISO code.
+     * @throws RuntimeException If the amount or the currency is null.
+     */
+    public static String formatISOCode(BigDecimal amount, IsoCurrency currency) {
+        return formatISOCode(amount, currency, Locale.getDefault());
+    }
+
+    /**
+     * Format an amount in any ISO 4217 currency with its ISO code, using the specified locale.
+     * The amount is rounded to the minor-unit digits of the currency, e.g. none for JPY and three for KWD,
+     * and the code is placed where the locale places currency symbols.
+     *
+     * @param amount   The amount to format.
+     * @param currency The currency of the amount.
+     * @param locale   The locale specifying the formatting rules (e.g., language, country).
+     * @return A formatted String representation of the amount with ISO code.
+     * @throws RuntimeException If the amount or the currency is null.
+     */
+    public static String formatISOCode(BigDecimal amount, IsoCurrency currency, Locale locale) {
+        if (amount == null)
+            throw new RuntimeException(ConstErrorMessages.AMOUNT_NULL);
+        else if (currency == null)
+            throw new RuntimeException(ConstErrorMessages.CURRENCY_NULL);
+
+        NumberFormat nfJustNumber = NumberFormat.getNumberInstance(locale);
+        nfJustNumber.setRoundingMode(RoundingMode.HALF_UP);
+        nfJustNumber.setMinimumFractionDigits(currency.getMinorDigits());
+        nfJustNumber.setMaximumFractionDigits(currency.getMinorDigits());
+
+        CustomCurrencyFormat customFormat = new CustomCurrencyFormat(locale, currency.getCode());
+        String amountText = nfJustNumber.format(amount);
+
+        if (customFormat.format(0).startsWith(currency.getCode())) {
+            return currency.getCode() + " " + amountText;
+        } else {
+            return amountText + " " + currency.getCode();
+        }
+    }
 }
@@ -0,0 +1,158 @@
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * A mutable running total per currency, used as accumulation container for bulk sums.
+ * Totals are kept as longs of hundredths indexed by Currency ordinal; once a total would overflow,
+ * or a MoneyValue outside the long range is added, the excess is carried exactly in a BigDecimal.
+ * A CurrencyTotals is not thread-safe; concurrent callers keep one per thread and merge them.
+ */
+final class CurrencyTotals {
+    private static final Currency[] CURRENCIES = Currency.values();
+
+    private final long[] units = new long[CURRENCIES.length];
+    private final BigDecimal[] carry = new BigDecimal[CURRENCIES.length];
+    private final boolean[] present = new boolean[CURRENCIES.length];
+
+    /**
+     * Adds a MoneyValue to the total of its currency.
+     *
+     * @param value The MoneyValue to add.
+     * @throws RuntimeException If the value is null.
+     */
+    void add(MoneyValue value) {
+        if (value == null)
+            throw new RuntimeException(ConstErrorMessages.MONEY_VALUE_NULL);
+        int ordinal = value.getCurrency().ordinal();
+        if (value.isCompact())
+            add(value.getMinorUnits(), ordinal);
+        else
+            addCarry(value.getAmount(), ordinal);
+    }
+
+    /**
+     * Adds an amount in hundredths to the total of a currency.
+     *
+     * @param minorUnits The amount in hundredths.
+     * @param ordinal    The ordinal of the currency.
+     */
+    void add(long minorUnits, int ordinal) {
+        long sum = units[ordinal];
+        long next = sum + minorUnits;
+        if (((sum ^ next) & (minorUnits ^ next)) < 0) {
+            addCarry(FixedPointMath.toAmount(minorUnits), ordinal);
+            return;
+        }
+        units[ordinal] = next;
+        present[ordinal] = true;
+    }
+
+    /**
+     * Adds all totals of another container to this one.
+     *
+     * @param other The totals to merge into this container.
+     * @return This container.
+     */
+    CurrencyTotals merge(CurrencyTotals other) {
+        for (int ordinal = 0; ordinal < CURRENCIES.length; ordinal++) {
+            if (!other.present[ordinal])
+                continue;
+            add(other.units[ordinal], ordinal);
+            if (other.carry[ordinal] != null)
+                addCarry(other.carry[ordinal], ordinal);
+        }
+        return this;
+    }
+
+    /**
+     * Returns whether any amount of the given currency has been added.
+     *
+     * @param currency The currency to check.
+     * @return true if the currency has a total.
+     */
+    boolean contains(Currency currency) {
+        return present[currency.ordinal()];
+    }
+
+    /**
+     * Returns the total of a currency.
+     *
+     * @param currency The currency of the total.
+     * @return The total as a new MoneyValue, zero if nothing was added in that currency.
+     */
+    MoneyValue get(Currency currency) {
+        int ordinal = currency.ordinal();
+        return carry[ordinal] == null ? MoneyValue.ofMinorUnits(units[ordinal], currency) : new MoneyValue(amount(ordinal), currency);
+    }
+
+    /**
+     * Returns the exact total of a currency.
+     *
+     * @param ordinal The ordinal of the currency.
+     * @return The total including the carry.
+     */
+    private BigDecimal amount(int ordinal) {
+        BigDecimal big = carry[ordinal];
+        BigDecimal compact = FixedPointMath.toAmount(units[ordinal]);
+        return big == null ? compact : big.add(compact);
+    }
+
+    /**
+     * Returns the totals of all currencies that have been added.
+     *
+     * @return A map from each currency to its total.
+     */
+    Map<Currency, MoneyValue> toMap() {
+        Map<Currency, MoneyValue> result = new EnumMap<>(Currency.class);
+        for (Currency currency : CURRENCIES) {
+            if (present[currency.ordinal()])
+                result.put(currency, get(currency));
+        }
+        return result;
+    }
+
+    /**
+     * Converts every currency total to the target currency once and sums the results.
+     * The converted totals are summed exactly and only the grand total is rounded to two decimal places.
+     *
+     * @param target    The currency of the grand total.
+     * @param converter The converter used for the per-currency totals.
+     * @param type      The type of exchange rate to use.
+     * @return The grand total in the target currency, zero if nothing was added.
+     */
+    MoneyValue convertTo(Currency target, ConverterClient converter, ExchangeRateProvider.ExchangeRateType type) {
+        return new MoneyValue(convertAmount(target, converter, type), target);
+    }
+
+    /**
+     * Converts every currency total to the target currency once and sums the results without rounding.
+     *
+     * @param target    The currency of the grand total.
+     * @param converter The converter used for the per-currency totals.
+     * @param type      The type of exchange rate to use.
+     * @return The exact grand total in the target currency, zero if nothing was added.
+     */
+    BigDecimal convertAmount(Currency target, ConverterClient converter, ExchangeRateProvider.ExchangeRateType type) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (Currency currency : CURRENCIES) {
+            int ordinal = currency.ordinal();
+            if (!present[ordinal])
+                continue;
+            total = total.add(currency == target ? amount(ordinal) : converter.convertAmount(amount(ordinal), currency, target, type));
+        }
+        return total;
+    }
+
+    /**
+     * Adds an exact amount to the BigDecimal carry of a currency.
+     *
+     * @param amount  The amount to add.
+     * @param ordinal The ordinal of the currency.
+     */
+    private void addCarry(BigDecimal amount, int ordinal) {
+        BigDecimal big = carry[ordinal];
+        carry[ordinal] = big == null ? amount : big.add(amount);
+        present[ordinal] = true;
+    }
+}
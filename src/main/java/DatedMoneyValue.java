@@ -0,0 +1,87 @@
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * An immutable money value together with the date it was booked on, such as one row of a transaction file.
+ * The value is copied on construction and handed out as a new MoneyValue, so changing either copy does not affect the row.
+ */
+public final class DatedMoneyValue {
+    private final LocalDate date;
+    private final ImmutableMoneyValue value;
+
+    /**
+     * Constructs a DatedMoneyValue.
+     *
+     * @param date  The date the value was booked on.
+     * @param value The money value, copied.
+     * @throws RuntimeException If the date or the value is null.
+     */
+    public DatedMoneyValue(LocalDate date, MoneyValue value) {
+        if (date == null)
+            throw new RuntimeException(ConstErrorMessages.DATE_NULL);
+        else if (value == null)
+            throw new RuntimeException(ConstErrorMessages.MONEY_VALUE_NULL);
+        this.date = date;
+        this.value = value.toImmutable();
+    }
+
+    /**
+     * Returns the date the value was booked on.
+     *
+     * @return The date.
+     */
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * Returns a copy of the money value.
+     *
+     * @return A new MoneyValue.
+     */
+    public MoneyValue getValue() {
+        return value.toMoneyValue();
+    }
+
+    /**
+     * Returns the money value without copying it.
+     *
+     * @return The immutable money value.
+     */
+    public ImmutableMoneyValue getImmutableValue() {
+        return value;
+    }
+
+    /**
+     * Checks if this DatedMoneyValue is equal to another object.
+     *
+     * @param obj The object to compare with.
+     * @return true if date and value are equal, false otherwise.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof DatedMoneyValue other)) return false;
+        return date.equals(other.date) && value.equals(other.value);
+    }
+
+    /**
+     * Returns the hash code of this DatedMoneyValue.
+     *
+     * @return The hash code.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(date, value);
+    }
+
+    /**
+     * Returns the date and the value as a string.
+     *
+     * @return The string representation.
+     */
+    @Override
+    public String toString() {
+        return date + " " + value;
+    }
+}
@@ -1,3 +1,5 @@
+import java.math.BigDecimal;
+
 /**
  * Interface for providing exchange rates between currencies.
  */
@@ -21,4 +23,31 @@ public interface ExchangeRateProvider {
      * @return The exchange rate from currency 'from' to currency 'to' as a Double value.
      */
     Double getExchangeRate(Currency from, Currency to, ExchangeRateType type);
+
+    /**
+     * Retrieves the exchange rate as a primitive double. Providers that keep their rates as primitives
+     * should override this to avoid boxing; the default implementation unboxes getExchangeRate.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate (e.g., REALTIME, MONTHLY, DAILY).
+     * @return The exchange rate from currency 'from' to currency 'to'.
+     */
+    default double getExchangeRateAsDouble(Currency from, Currency to, ExchangeRateType type) {
+        return getExchangeRate(from, to, type);
+    }
+
+    /**
+     * Retrieves the exchange rate as a BigDecimal equal to BigDecimal.valueOf(getExchangeRateAsDouble(...)).
+     * Providers that can hand out pre-built BigDecimals should override this; the default
+     * implementation converts the primitive rate on every call.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate (e.g., REALTIME, MONTHLY, DAILY).
+     * @return The exchange rate from currency 'from' to currency 'to'.
+     */
+    default BigDecimal getExchangeRateAsBigDecimal(Currency from, Currency to, ExchangeRateType type) {
+        return BigDecimal.valueOf(getExchangeRateAsDouble(from, to, type));
+    }
 }
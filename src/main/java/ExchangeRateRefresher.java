@@ -0,0 +1,253 @@
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An ExchangeRateProvider that preloads every rate of a slower provider into a RateTable and keeps it current.
+ * On start it fetches every ExchangeRateType and Currency pair once, so the first conversions never wait for
+ * the underlying provider, and then refreshes the whole table on a ScheduledExecutorService.
+ * Each refresh is delayed by the period plus a random jitter, so several instances do not hit the provider at once.
+ * A refreshed table is built completely and published as a new snapshot, so readers always see one consistent table.
+ * At most one chain of scheduled refreshes runs at a time, however often the refresher is started and stopped.
+ */
+public class ExchangeRateRefresher implements RateSnapshotProvider {
+    private final ExchangeRateProvider delegate;
+    private final ScheduledExecutorService scheduler;
+    private final long periodMillis;
+    private final long maxJitterMillis;
+    private final SnapshotExchangeRateProvider rates = new SnapshotExchangeRateProvider();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    // Guards running, generation and next; never held while the delegate is called
+    private final Object lifecycle = new Object();
+    private boolean running;
+    // Incremented on every start and stop, so a refresh of an earlier chain does not schedule another one
+    private long generation;
+    private ScheduledFuture<?> next;
+
+    /**
+     * Constructs an ExchangeRateRefresher with a jitter of up to a tenth of the period.
+     *
+     * @param delegate  The provider whose rates are preloaded.
+     * @param scheduler The scheduler running the periodic refreshes.
+     * @param period    The time between two refreshes.
+     * @throws RuntimeException If an argument is null.
+     */
+    public ExchangeRateRefresher(ExchangeRateProvider delegate, ScheduledExecutorService scheduler, Duration period) {
+        this(delegate, scheduler, period, period == null ? null : period.dividedBy(10));
+    }
+
+    /**
+     * Constructs an ExchangeRateRefresher.
+     *
+     * @param delegate  The provider whose rates are preloaded.
+     * @param scheduler The scheduler running the periodic refreshes.
+     * @param period    The time between two refreshes.
+     * @param maxJitter The largest random delay added to the period.
+     * @throws RuntimeException If an argument is null.
+     */
+    public ExchangeRateRefresher(ExchangeRateProvider delegate, ScheduledExecutorService scheduler, Duration period, Duration maxJitter) {
+        if (delegate == null)
+            throw new RuntimeException(ConstErrorMessages.PROVIDER_NULL);
+        else if (scheduler == null || period == null || maxJitter == null)
+            throw new RuntimeException(ConstErrorMessages.REFRESH_CONFIGURATION_NULL);
+        this.delegate = delegate;
+        this.scheduler = scheduler;
+        this.periodMillis = period.toMillis();
+        this.maxJitterMillis = maxJitter.toMillis();
+    }
+
+    /**
+     * Loads every rate on the calling thread and schedules the periodic refreshes.
+     * Does nothing if the refresher is already running.
+     *
+     * @return This ExchangeRateRefresher, warmed up.
+     */
+    public ExchangeRateRefresher start() {
+        long chain;
+        synchronized (lifecycle) {
+            if (running)
+                return this;
+            running = true;
+            chain = ++generation;
+        }
+        refresh();
+        scheduleNext(chain);
+        return this;
+    }
+
+    /**
+     * Cancels the pending refresh. A refresh that is already running completes but schedules no further one.
+     * The last published table stays available.
+     */
+    public void stop() {
+        ScheduledFuture<?> pending;
+        synchronized (lifecycle) {
+            if (!running)
+                return;
+            running = false;
+            generation++;
+            pending = next;
+            next = null;
+        }
+        if (pending != null)
+            pending.cancel(false);
+    }
+
+    /**
+     * Fetches every rate from the underlying provider and publishes the new table.
+     * A rate the provider fails to deliver keeps its previous value.
+     *
+     * Refreshes run one at a time; lookups are never blocked by them.
+     *
+     * @return The published table.
+     * @throws RuntimeException If the table could not be published because a newer one is already served.
+     */
+    public synchronized RateTable refresh() {
+        RateTable.Builder builder = rates.getSnapshot().toBuilder();
+        for (ExchangeRateType type : ExchangeRateType.values()) {
+            for (Currency from : Currency.values()) {
+                for (Currency to : Currency.values()) {
+                    if (from == to)
+                        continue;
+                    try {
+                        builder.put(type, from, to, delegate.getExchangeRateAsDouble(from, to, type));
+                    } catch (RuntimeException e) {
+                        failures.increment();
+                    }
+                }
+            }
+        }
+        RateTable refreshed = builder.build();
+        // Throws instead of dropping an outdated table, so every counted refresh was actually published
+        rates.publish(refreshed);
+        refreshes.increment();
+        return refreshed;
+    }
+
+    /**
+     * Returns the table that is currently served.
+     *
+     * @return The last published RateTable.
+     */
+    @Override
+    public RateTable getSnapshot() {
+        return rates.getSnapshot();
+    }
+
+    /**
+     * Returns how many times the table was refreshed, including the warm-up.
+     *
+     * @return The number of refreshes.
+     */
+    public long getRefreshCount() {
+        return refreshes.sum();
+    }
+
+    /**
+     * Returns how many single rate lookups failed during refreshes.
+     *
+     * @return The number of failed lookups.
+     */
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    /**
+     * Retrieves the exchange rate from the current table.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate (e.g., REALTIME, MONTHLY, DAILY).
+     * @return The exchange rate from currency 'from' to currency 'to' as a Double value.
+     * @throws RuntimeException If a currency or the type is null.
+     * @throws IllegalArgumentException If the table has no such rate.
+     */
+    @Override
+    public Double getExchangeRate(Currency from, Currency to, ExchangeRateType type) {
+        return getExchangeRateAsDouble(from, to, type);
+    }
+
+    /**
+     * Retrieves the exchange rate from the current table as a primitive double, without allocating.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate (e.g., REALTIME, MONTHLY, DAILY).
+     * @return The exchange rate from currency 'from' to currency 'to'.
+     * @throws RuntimeException If a currency or the type is null.
+     * @throws IllegalArgumentException If the table has no such rate.
+     */
+    @Override
+    public double getExchangeRateAsDouble(Currency from, Currency to, ExchangeRateType type) {
+        return rates.getExchangeRateAsDouble(from, to, type);
+    }
+
+    /**
+     * Retrieves the exchange rate from the current table as a pre-built BigDecimal.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate (e.g., REALTIME, MONTHLY, DAILY).
+     * @return The exchange rate from currency 'from' to currency 'to'.
+     * @throws RuntimeException If a currency or the type is null.
+     * @throws IllegalArgumentException If the table has no such rate.
+     */
+    @Override
+    public BigDecimal getExchangeRateAsBigDecimal(Currency from, Currency to, ExchangeRateType type) {
+        return rates.getExchangeRateAsBigDecimal(from, to, type);
+    }
+
+    /**
+     * Computes the delay until the next refresh.
+     *
+     * @return The period plus a random jitter in milliseconds.
+     */
+    long nextDelayMillis() {
+        return periodMillis + (maxJitterMillis > 0 ? ThreadLocalRandom.current().nextLong(maxJitterMillis + 1) : 0);
+    }
+
+    /**
+     * Checks if a chain of refreshes is the one that is currently running.
+     *
+     * @param chain The generation the chain was started with.
+     * @return true if the refresher was neither stopped nor restarted since.
+     */
+    private boolean isCurrent(long chain) {
+        synchronized (lifecycle) {
+            return running && generation == chain;
+        }
+    }
+
+    /**
+     * Schedules the next refresh of a chain unless the refresher was stopped or restarted since the chain began.
+     *
+     * @param chain The generation the chain was started with.
+     */
+    private void scheduleNext(long chain) {
+        synchronized (lifecycle) {
+            if (!running || generation != chain)
+                return;
+            try {
+                next = scheduler.schedule(() -> {
+                    try {
+                        if (isCurrent(chain))
+                            refresh();
+                    } finally {
+                        scheduleNext(chain);
+                    }
+                }, nextDelayMillis(), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // The scheduler was shut down, the last table stays in place
+                running = false;
+                generation++;
+                next = null;
+            }
+        }
+    }
+}
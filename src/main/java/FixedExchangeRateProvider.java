@@ -1,78 +1,81 @@
-import java.util.HashMap;
-import java.util.Map;
+import java.math.BigDecimal;
 
 /**
  * Implementation of ExchangeRateProvider that provides fixed exchange rates between currencies.
- * Rates are stored separately for realtime, monthly, and daily exchange rate types.
+ * Rates for realtime, monthly, and daily exchange rate types are kept in one dense RateTable,
+ * which is built once and shared by all instances.
  */
-public class FixedExchangeRateProvider implements ExchangeRateProvider {
+public class FixedExchangeRateProvider implements RateSnapshotProvider {
 
-    private final Map<String, Double> realtimeRates = new HashMap<>();
-    private final Map<String, Double> monthlyRates = new HashMap<>();
-    private final Map<String, Double> dailyRates = new HashMap<>();
+    private static final RateTable RATES = initializeRates();
 
     /**
-     * Constructs a FixedExchangeRateProvider and initializes fixed exchange rates.
+     * Constructs a FixedExchangeRateProvider using the shared table of fixed exchange rates.
      */
     public FixedExchangeRateProvider() {
-        initializeRates();
     }
 
     /**
      * Initializes fixed exchange rates for different exchange rate types (realtime, monthly, daily).
-     * Rates are stored in separate maps for each rate type.
+     * The rates of all types are stored in one dense RateTable.
+     *
+     * @return The table of fixed exchange rates.
      */
-    private void initializeRates() {
+    private static RateTable initializeRates() {
+        RateTable.Builder rates = RateTable.builder();
+
         // Realtime exchange rates
-        realtimeRates.put(createKey(Currency.US_DOLLAR, Currency.EURO), 0.93);
-        realtimeRates.put(createKey(Currency.US_DOLLAR, Currency.JAPANESE_YEN), 157.74);
-        realtimeRates.put(createKey(Currency.US_DOLLAR, Currency.BRITISH_POUND), 0.79);
+        rates.put(ExchangeRateType.REALTIME, Currency.US_DOLLAR, Currency.EURO, 0.93);
+        rates.put(ExchangeRateType.REALTIME, Currency.US_DOLLAR, Currency.JAPANESE_YEN, 157.74);
+        rates.put(ExchangeRateType.REALTIME, Currency.US_DOLLAR, Currency.BRITISH_POUND, 0.79);
 
-        realtimeRates.put(createKey(Currency.EURO, Currency.US_DOLLAR), 1.07);
-        realtimeRates.put(createKey(Currency.EURO, Currency.JAPANESE_YEN), 169.26);
-        realtimeRates.put(createKey(Currency.EURO, Currency.BRITISH_POUND), 0.84);
+        rates.put(ExchangeRateType.REALTIME, Currency.EURO, Currency.US_DOLLAR, 1.07);
+        rates.put(ExchangeRateType.REALTIME, Currency.EURO, Currency.JAPANESE_YEN, 169.26);
+        rates.put(ExchangeRateType.REALTIME, Currency.EURO, Currency.BRITISH_POUND, 0.84);
 
-        realtimeRates.put(createKey(Currency.JAPANESE_YEN, Currency.US_DOLLAR), 0.0063);
-        realtimeRates.put(createKey(Currency.JAPANESE_YEN, Currency.EURO), 0.0059);
-        realtimeRates.put(createKey(Currency.JAPANESE_YEN, Currency.BRITISH_POUND), 0.0050);
+        rates.put(ExchangeRateType.REALTIME, Currency.JAPANESE_YEN, Currency.US_DOLLAR, 0.0063);
+        rates.put(ExchangeRateType.REALTIME, Currency.JAPANESE_YEN, Currency.EURO, 0.0059);
+        rates.put(ExchangeRateType.REALTIME, Currency.JAPANESE_YEN, Currency.BRITISH_POUND, 0.0050);
 
-        realtimeRates.put(createKey(Currency.BRITISH_POUND, Currency.US_DOLLAR), 1.27);
-        realtimeRates.put(createKey(Currency.BRITISH_POUND, Currency.EURO), 1.18);
-        realtimeRates.put(createKey(Currency.BRITISH_POUND, Currency.JAPANESE_YEN), 200.43);
+        rates.put(ExchangeRateType.REALTIME, Currency.BRITISH_POUND, Currency.US_DOLLAR, 1.27);
+        rates.put(ExchangeRateType.REALTIME, Currency.BRITISH_POUND, Currency.EURO, 1.18);
+        rates.put(ExchangeRateType.REALTIME, Currency.BRITISH_POUND, Currency.JAPANESE_YEN, 200.43);
 
         // Monthly exchange rates
-        monthlyRates.put(createKey(Currency.US_DOLLAR, Currency.EURO), 0.92);
-        monthlyRates.put(createKey(Currency.US_DOLLAR, Currency.JAPANESE_YEN), 158.74);
-        monthlyRates.put(createKey(Currency.US_DOLLAR, Currency.BRITISH_POUND), 0.78);
+        rates.put(ExchangeRateType.MONTHLY, Currency.US_DOLLAR, Currency.EURO, 0.92);
+        rates.put(ExchangeRateType.MONTHLY, Currency.US_DOLLAR, Currency.JAPANESE_YEN, 158.74);
+        rates.put(ExchangeRateType.MONTHLY, Currency.US_DOLLAR, Currency.BRITISH_POUND, 0.78);
 
-        monthlyRates.put(createKey(Currency.EURO, Currency.US_DOLLAR), 1.08);
-        monthlyRates.put(createKey(Currency.EURO, Currency.JAPANESE_YEN), 170.26);
-        monthlyRates.put(createKey(Currency.EURO, Currency.BRITISH_POUND), 0.83);
+        rates.put(ExchangeRateType.MONTHLY, Currency.EURO, Currency.US_DOLLAR, 1.08);
+        rates.put(ExchangeRateType.MONTHLY, Currency.EURO, Currency.JAPANESE_YEN, 170.26);
+        rates.put(ExchangeRateType.MONTHLY, Currency.EURO, Currency.BRITISH_POUND, 0.83);
 
-        monthlyRates.put(createKey(Currency.JAPANESE_YEN, Currency.US_DOLLAR), 0.0062);
-        monthlyRates.put(createKey(Currency.JAPANESE_YEN, Currency.EURO), 0.0058);
-        monthlyRates.put(createKey(Currency.JAPANESE_YEN, Currency.BRITISH_POUND), 0.0049);
+        rates.put(ExchangeRateType.MONTHLY, Currency.JAPANESE_YEN, Currency.US_DOLLAR, 0.0062);
+        rates.put(ExchangeRateType.MONTHLY, Currency.JAPANESE_YEN, Currency.EURO, 0.0058);
+        rates.put(ExchangeRateType.MONTHLY, Currency.JAPANESE_YEN, Currency.BRITISH_POUND, 0.0049);
 
-        monthlyRates.put(createKey(Currency.BRITISH_POUND, Currency.US_DOLLAR), 1.28);
-        monthlyRates.put(createKey(Currency.BRITISH_POUND, Currency.EURO), 1.17);
-        monthlyRates.put(createKey(Currency.BRITISH_POUND, Currency.JAPANESE_YEN), 201.43);
+        rates.put(ExchangeRateType.MONTHLY, Currency.BRITISH_POUND, Currency.US_DOLLAR, 1.28);
+        rates.put(ExchangeRateType.MONTHLY, Currency.BRITISH_POUND, Currency.EURO, 1.17);
+        rates.put(ExchangeRateType.MONTHLY, Currency.BRITISH_POUND, Currency.JAPANESE_YEN, 201.43);
 
         // Daily exchange rates
-        dailyRates.put(createKey(Currency.US_DOLLAR, Currency.EURO), 0.91);
-        dailyRates.put(createKey(Currency.US_DOLLAR, Currency.JAPANESE_YEN), 159.74);
-        dailyRates.put(createKey(Currency.US_DOLLAR, Currency.BRITISH_POUND), 0.77);
+        rates.put(ExchangeRateType.DAILY, Currency.US_DOLLAR, Currency.EURO, 0.91);
+        rates.put(ExchangeRateType.DAILY, Currency.US_DOLLAR, Currency.JAPANESE_YEN, 159.74);
+        rates.put(ExchangeRateType.DAILY, Currency.US_DOLLAR, Currency.BRITISH_POUND, 0.77);
 
-        dailyRates.put(createKey(Currency.EURO, Currency.US_DOLLAR), 1.09);
-        dailyRates.put(createKey(Currency.EURO, Currency.JAPANESE_YEN), 171.26);
-        dailyRates.put(createKey(Currency.EURO, Currency.BRITISH_POUND), 0.82);
+        rates.put(ExchangeRateType.DAILY, Currency.EURO, Currency.US_DOLLAR, 1.09);
+        rates.put(ExchangeRateType.DAILY, Currency.EURO, Currency.JAPANESE_YEN, 171.26);
+        rates.put(ExchangeRateType.DAILY, Currency.EURO, Currency.BRITISH_POUND, 0.82);
 
-        dailyRates.put(createKey(Currency.JAPANESE_YEN, Currency.US_DOLLAR), 0.0061);
-        dailyRates.put(createKey(Currency.JAPANESE_YEN, Currency.EURO), 0.0057);
-        dailyRates.put(createKey(Currency.JAPANESE_YEN, Currency.BRITISH_POUND), 0.0048);
+        rates.put(ExchangeRateType.DAILY, Currency.JAPANESE_YEN, Currency.US_DOLLAR, 0.0061);
+        rates.put(ExchangeRateType.DAILY, Currency.JAPANESE_YEN, Currency.EURO, 0.0057);
+        rates.put(ExchangeRateType.DAILY, Currency.JAPANESE_YEN, Currency.BRITISH_POUND, 0.0048);
 
-        dailyRates.put(createKey(Currency.BRITISH_POUND, Currency.US_DOLLAR), 1.29);
-        dailyRates.put(createKey(Currency.BRITISH_POUND, Currency.EURO), 1.16);
-        dailyRates.put(createKey(Currency.BRITISH_POUND, Currency.JAPANESE_YEN), 202.43);
+        rates.put(ExchangeRateType.DAILY, Currency.BRITISH_POUND, Currency.US_DOLLAR, 1.29);
+        rates.put(ExchangeRateType.DAILY, Currency.BRITISH_POUND, Currency.EURO, 1.16);
+        rates.put(ExchangeRateType.DAILY, Currency.BRITISH_POUND, Currency.JAPANESE_YEN, 202.43);
+
+        return rates.build();
     }
 
     /**
@@ -82,21 +85,50 @@ public class FixedExchangeRateProvider implements ExchangeRateProvider {
      * @param to              The currency to convert to.
      * @param exchangeRateType The type of exchange rate (e.g., REALTIME, MONTHLY, DAILY).
      * @return The fixed exchange rate from currency 'from' to currency 'to' as a Double value.
-     * @throws IllegalArgumentException If the exchange rate type is not supported or if no exchange rate is found.
+     * @throws IllegalArgumentException If no exchange rate is found.
+     * @throws NullPointerException If a currency or the exchange rate type is null.
      */
     @Override
     public Double getExchangeRate(Currency from, Currency to, ExchangeRateType exchangeRateType) {
-        if (from.equals(to)) return 1.0;
+        return getExchangeRateAsDouble(from, to, exchangeRateType);
+    }
 
-        Double rate;
-        String key = createKey(from, to);
+    /**
+     * Retrieves the fixed exchange rate as a primitive double, without allocating.
+     *
+     * @param from            The currency to convert from.
+     * @param to              The currency to convert to.
+     * @param exchangeRateType The type of exchange rate (e.g., REALTIME, MONTHLY, DAILY).
+     * @return The fixed exchange rate from currency 'from' to currency 'to'.
+     * @throws IllegalArgumentException If no exchange rate is found.
+     * @throws NullPointerException If a currency or the exchange rate type is null.
+     */
+    @Override
+    public double getExchangeRateAsDouble(Currency from, Currency to, ExchangeRateType exchangeRateType) {
+        if (from == to) return 1.0;
 
-        rate = switch (exchangeRateType) {
-            case REALTIME -> realtimeRates.get(key);
-            case MONTHLY -> monthlyRates.get(key);
-            case DAILY -> dailyRates.get(key);
-        };
+        double rate = RATES.getRate(from, to, exchangeRateType);
+        if (Double.isNaN(rate)) {
+            throw new IllegalArgumentException("Exchange rate not found for: " + from + " to " + to);
+        }
+        return rate;
+    }
 
+    /**
+     * Retrieves the fixed exchange rate as a pre-built BigDecimal, without allocating.
+     *
+     * @param from            The currency to convert from.
+     * @param to              The currency to convert to.
+     * @param exchangeRateType The type of exchange rate (e.g., REALTIME, MONTHLY, DAILY).
+     * @return The fixed exchange rate from currency 'from' to currency 'to'.
+     * @throws IllegalArgumentException If no exchange rate is found.
+     * @throws NullPointerException If a currency or the exchange rate type is null.
+     */
+    @Override
+    public BigDecimal getExchangeRateAsBigDecimal(Currency from, Currency to, ExchangeRateType exchangeRateType) {
+        if (from == to) return BigDecimal.ONE;
+
+        BigDecimal rate = RATES.getRateAsBigDecimal(from, to, exchangeRateType);
         if (rate == null) {
             throw new IllegalArgumentException("Exchange rate not found for: " + from + " to " + to);
         }
@@ -104,13 +136,21 @@ public class FixedExchangeRateProvider implements ExchangeRateProvider {
     }
 
     /**
-     * Creates a unique key for currency pair based on their ISO codes.
+     * Returns the shared table of fixed exchange rates, which never changes.
+     *
+     * @return The immutable RateTable used by every FixedExchangeRateProvider.
+     */
+    @Override
+    public RateTable getSnapshot() {
+        return RATES;
+    }
+
+    /**
+     * Returns the shared table of fixed exchange rates.
      *
-     * @param from The currency to convert from.
-     * @param to   The currency to convert to.
-     * @return A unique key string representing the currency pair (e.g., USD_EUR).
+     * @return The immutable RateTable used by every FixedExchangeRateProvider.
      */
-    private String createKey(Currency from, Currency to) {
-        return from.getIsoCode() + "_" + to.getIsoCode();
+    public static RateTable getRateTable() {
+        return RATES;
     }
 }
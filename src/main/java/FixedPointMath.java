@@ -0,0 +1,175 @@
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Helper methods for fixed-point arithmetic on amounts stored as a long count of minor units.
+ * All methods round the same way MoneyValue does (two decimal places, HALF_UP).
+ */
+final class FixedPointMath {
+
+    /**
+     * Number of decimal places represented by one minor unit, matching MoneyValue.
+     */
+    static final int SCALE = 2;
+
+    /**
+     * Number of minor units in one major unit (10^SCALE).
+     */
+    static final long UNITS_PER_MAJOR = 100L;
+
+    // Powers of ten that fit into a long, indexed by exponent
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++)
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+
+    private FixedPointMath() {
+    }
+
+    /**
+     * Divides two longs and rounds the quotient HALF_UP, i.e. ties are rounded away from zero.
+     *
+     * @param dividend The dividend.
+     * @param divisor  The divisor, must not be zero.
+     * @return The rounded quotient.
+     */
+    static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0)
+            return quotient;
+
+        // Unsigned compare keeps |Long.MIN_VALUE| correct as 2^63
+        long absRemainder = Math.abs(remainder);
+        if (Long.compareUnsigned(absRemainder, Math.abs(divisor) - absRemainder) >= 0)
+            quotient += (dividend ^ divisor) < 0 ? -1 : 1;
+        return quotient;
+    }
+
+    /**
+     * Converts an amount to minor units, rounding it to two decimal places first.
+     *
+     * @param amount The amount to convert.
+     * @return The amount as a long count of minor units.
+     * @throws RuntimeException If the amount does not fit into a long of minor units.
+     */
+    static long toMinorUnits(BigDecimal amount) {
+        try {
+            return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new RuntimeException(ConstErrorMessages.AMOUNT_OVERFLOW);
+        }
+    }
+
+    /**
+     * Converts a count of minor units to a BigDecimal with two decimal places.
+     *
+     * @param minorUnits The amount in minor units.
+     * @return The amount as a BigDecimal.
+     */
+    static BigDecimal toAmount(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    /**
+     * Multiplies two amounts given in minor units and rounds the product back to minor units.
+     * Falls back to BigDecimal when the intermediate product overflows.
+     *
+     * @param a The first amount in minor units.
+     * @param b The second amount in minor units.
+     * @return The product in minor units.
+     * @throws RuntimeException If the rounded product does not fit into a long.
+     */
+    static long multiply(long a, long b) {
+        long product;
+        try {
+            product = Math.multiplyExact(a, b);
+        } catch (ArithmeticException e) {
+            return toMinorUnits(toAmount(a).multiply(toAmount(b)));
+        }
+        return divideHalfUp(product, UNITS_PER_MAJOR);
+    }
+
+    /**
+     * Divides two amounts given in minor units and rounds the quotient to minor units.
+     * Falls back to BigDecimal when scaling the dividend overflows.
+     *
+     * @param a The dividend in minor units.
+     * @param b The divisor in minor units, must not be zero.
+     * @return The quotient in minor units.
+     * @throws RuntimeException If the rounded quotient does not fit into a long.
+     */
+    static long divide(long a, long b) {
+        long scaled;
+        try {
+            scaled = Math.multiplyExact(a, UNITS_PER_MAJOR);
+        } catch (ArithmeticException e) {
+            return toMinorUnits(toAmount(a).divide(toAmount(b), SCALE, RoundingMode.HALF_UP));
+        }
+        return divideHalfUp(scaled, b);
+    }
+
+    /**
+     * Adds two amounts given in minor units.
+     *
+     * @param a The first amount in minor units.
+     * @param b The second amount in minor units.
+     * @return The sum in minor units.
+     * @throws RuntimeException If the sum overflows.
+     */
+    static long add(long a, long b) {
+        try {
+            return Math.addExact(a, b);
+        } catch (ArithmeticException e) {
+            throw new RuntimeException(ConstErrorMessages.AMOUNT_OVERFLOW);
+        }
+    }
+
+    /**
+     * Subtracts two amounts given in minor units.
+     *
+     * @param a The minuend in minor units.
+     * @param b The subtrahend in minor units.
+     * @return The difference in minor units.
+     * @throws RuntimeException If the difference overflows.
+     */
+    static long subtract(long a, long b) {
+        try {
+            return Math.subtractExact(a, b);
+        } catch (ArithmeticException e) {
+            throw new RuntimeException(ConstErrorMessages.AMOUNT_OVERFLOW);
+        }
+    }
+
+    /**
+     * Multiplies an amount in minor units by a rate given as unscaled value and scale,
+     * rounding the result back to minor units. This gives the same result as multiplying
+     * the BigDecimal amount by BigDecimal.valueOf(rateUnscaled, rateScale) and rounding HALF_UP.
+     *
+     * @param minorUnits   The amount in minor units.
+     * @param rateUnscaled The unscaled value of the rate.
+     * @param rateScale    The scale of the rate, must not be negative.
+     * @return The converted amount in minor units.
+     * @throws RuntimeException If the result does not fit into a long.
+     */
+    static long multiplyByRate(long minorUnits, long rateUnscaled, int rateScale) {
+        long high = Math.multiplyHigh(minorUnits, rateUnscaled);
+        long product = minorUnits * rateUnscaled;
+        if (rateScale < POWERS_OF_TEN.length && high == (product >> 63))
+            return divideHalfUp(product, POWERS_OF_TEN[rateScale]);
+        return toMinorUnits(toAmount(minorUnits).multiply(BigDecimal.valueOf(rateUnscaled, rateScale)));
+    }
+
+    /**
+     * Returns ten raised to the given exponent.
+     *
+     * @param exponent The exponent, between 0 and 18.
+     * @return 10^exponent.
+     */
+    static long powerOfTen(int exponent) {
+        return POWERS_OF_TEN[exponent];
+    }
+}
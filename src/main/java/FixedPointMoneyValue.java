@@ -0,0 +1,234 @@
+import java.math.BigDecimal;
+
+/**
+ * Represents a monetary value as a long count of minor units (hundredths) with a specific currency.
+ * Instances are immutable, so arithmetic operations return new instances and need no locking.
+ * Rounding follows MoneyValue (two decimal places, HALF_UP), so converting between the two types is lossless.
+ */
+public final class FixedPointMoneyValue implements MoneyValueClient, Comparable<FixedPointMoneyValue> {
+    private final long minorUnits;
+    private final Currency currency;
+
+    /**
+     * Constructs a FixedPointMoneyValue from a count of minor units and a currency.
+     *
+     * @param minorUnits The amount in minor units, e.g. 1050 for 10.50.
+     * @param currency   The currency of the money value.
+     * @throws RuntimeException If the currency is null.
+     */
+    public FixedPointMoneyValue(long minorUnits, Currency currency) {
+        if (currency == null)
+            throw new RuntimeException(ConstErrorMessages.INVALID_MONEY_VALUE_AS_STRING);
+        this.minorUnits = minorUnits;
+        this.currency = currency;
+    }
+
+    /**
+     * Constructs a FixedPointMoneyValue holding the same amount and currency as the given MoneyValue.
+     *
+     * @param mv The MoneyValue to convert.
+     * @throws RuntimeException If the MoneyValue is null or its amount does not fit into a long of minor units.
+     */
+    public FixedPointMoneyValue(MoneyValue mv) {
+        if (mv == null)
+            throw new RuntimeException(ConstErrorMessages.INVALID_MONEY_VALUE_AS_STRING);
+        this.minorUnits = mv.getMinorUnits();
+        this.currency = mv.getCurrency();
+    }
+
+    /**
+     * Returns the currency of this FixedPointMoneyValue.
+     *
+     * @return The currency.
+     */
+    @Override
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    /**
+     * Returns the amount of this FixedPointMoneyValue in minor units.
+     *
+     * @return The amount in minor units.
+     */
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    /**
+     * Returns the amount of this FixedPointMoneyValue as a BigDecimal with two decimal places.
+     *
+     * @return The amount.
+     */
+    public BigDecimal getAmount() {
+        return FixedPointMath.toAmount(minorUnits);
+    }
+
+    /**
+     * Converts this FixedPointMoneyValue to an equal MoneyValue.
+     *
+     * @return A new MoneyValue with the same amount and currency.
+     */
+    public MoneyValue toMoneyValue() {
+        return MoneyValue.ofMinorUnits(minorUnits, currency);
+    }
+
+    /**
+     * Adds another FixedPointMoneyValue to this one.
+     *
+     * @param other The FixedPointMoneyValue to add.
+     * @return A new FixedPointMoneyValue holding the sum.
+     * @throws RuntimeException If the currencies do not match or the sum overflows.
+     */
+    public FixedPointMoneyValue add(FixedPointMoneyValue other) {
+        validateForOperation(this, other);
+        return new FixedPointMoneyValue(FixedPointMath.add(minorUnits, other.minorUnits), currency);
+    }
+
+    /**
+     * Subtracts another FixedPointMoneyValue from this one.
+     *
+     * @param other The FixedPointMoneyValue to subtract.
+     * @return A new FixedPointMoneyValue holding the difference.
+     * @throws RuntimeException If the currencies do not match or the difference overflows.
+     */
+    public FixedPointMoneyValue subtract(FixedPointMoneyValue other) {
+        validateForOperation(this, other);
+        return new FixedPointMoneyValue(FixedPointMath.subtract(minorUnits, other.minorUnits), currency);
+    }
+
+    /**
+     * Multiplies this FixedPointMoneyValue by another one.
+     *
+     * @param other The FixedPointMoneyValue to multiply by.
+     * @return A new FixedPointMoneyValue holding the product.
+     * @throws RuntimeException If the currencies do not match or the product overflows.
+     */
+    public FixedPointMoneyValue multiply(FixedPointMoneyValue other) {
+        validateForOperation(this, other);
+        return new FixedPointMoneyValue(FixedPointMath.multiply(minorUnits, other.minorUnits), currency);
+    }
+
+    /**
+     * Divides this FixedPointMoneyValue by another one.
+     *
+     * @param other The FixedPointMoneyValue to divide by.
+     * @return A new FixedPointMoneyValue holding the quotient.
+     * @throws RuntimeException If the currencies do not match, the divisor is zero or the quotient overflows.
+     */
+    public FixedPointMoneyValue divide(FixedPointMoneyValue other) {
+        validateForOperation(this, other);
+        if (other.minorUnits == 0)
+            throw new RuntimeException(ConstErrorMessages.DIVIDE_BY_ZERO);
+        return new FixedPointMoneyValue(FixedPointMath.divide(minorUnits, other.minorUnits), currency);
+    }
+
+    /**
+     * Adds a MoneyValue to this FixedPointMoneyValue.
+     * This FixedPointMoneyValue is left unchanged.
+     *
+     * @param other The MoneyValue to add.
+     * @return A new MoneyValue holding the sum.
+     */
+    @Override
+    public MoneyValue add(MoneyValue other) {
+        return add(new FixedPointMoneyValue(other)).toMoneyValue();
+    }
+
+    /**
+     * Subtracts a MoneyValue from this FixedPointMoneyValue.
+     * This FixedPointMoneyValue is left unchanged.
+     *
+     * @param other The MoneyValue to subtract.
+     * @return A new MoneyValue holding the difference.
+     */
+    @Override
+    public MoneyValue subtract(MoneyValue other) {
+        return subtract(new FixedPointMoneyValue(other)).toMoneyValue();
+    }
+
+    /**
+     * Multiplies this FixedPointMoneyValue by a MoneyValue.
+     * This FixedPointMoneyValue is left unchanged.
+     *
+     * @param other The MoneyValue to multiply by.
+     * @return A new MoneyValue holding the product.
+     */
+    @Override
+    public MoneyValue multiply(MoneyValue other) {
+        return multiply(new FixedPointMoneyValue(other)).toMoneyValue();
+    }
+
+    /**
+     * Divides this FixedPointMoneyValue by a MoneyValue.
+     * This FixedPointMoneyValue is left unchanged.
+     *
+     * @param other The MoneyValue to divide by.
+     * @return A new MoneyValue holding the quotient.
+     */
+    @Override
+    public MoneyValue divide(MoneyValue other) {
+        return divide(new FixedPointMoneyValue(other)).toMoneyValue();
+    }
+
+    /**
+     * Compares this FixedPointMoneyValue with another one by amount, then by currency.
+     *
+     * @param other The FixedPointMoneyValue to compare with.
+     * @return A negative integer, zero, or a positive integer as this value is less than, equal to, or greater than the other.
+     */
+    @Override
+    public int compareTo(FixedPointMoneyValue other) {
+        int result = Long.compare(minorUnits, other.minorUnits);
+        return result != 0 ? result : currency.compareTo(other.currency);
+    }
+
+    /**
+     * Checks if this FixedPointMoneyValue is equal to another object.
+     *
+     * @param obj The object to compare with.
+     * @return true if the objects are equal, false otherwise.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof FixedPointMoneyValue other)) return false;
+        return minorUnits == other.minorUnits && currency == other.currency;
+    }
+
+    /**
+     * Returns the hash code of this FixedPointMoneyValue.
+     *
+     * @return The hash code.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(minorUnits) + currency.hashCode();
+    }
+
+    /**
+     * Returns a string representation of the money value formatted according to the currency.
+     *
+     * @return A string representation of the money value.
+     */
+    @Override
+    public String toString() {
+        return CurrencyFormatter.formatCurrency(toMoneyValue());
+    }
+
+    /**
+     * Validates if two FixedPointMoneyValue objects can be used in arithmetic operations.
+     *
+     * @param a The first FixedPointMoneyValue.
+     * @param b The second FixedPointMoneyValue.
+     * @throws RuntimeException If any of the values are null or their currencies do not match.
+     */
+    private static void validateForOperation(FixedPointMoneyValue a, FixedPointMoneyValue b) {
+        if (a == null || b == null) {
+            throw new RuntimeException(ConstErrorMessages.INVALID_MONEY_VALUE_AS_STRING);
+        }
+        if (a.currency != b.currency) {
+            throw new RuntimeException(ConstErrorMessages.CURRENCIES_NOT_EQUAL);
+        }
+    }
+}
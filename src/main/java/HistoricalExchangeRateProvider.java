@@ -0,0 +1,327 @@
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * An immutable ExchangeRateProvider that keeps the history of every rate type and currency pair.
+ * Each series is stored as two primitive arrays, the epoch days in ascending order and the rates valid from
+ * those days on, so a year of daily rates takes about 4 KB per pair. A rate as of a date is found by
+ * binary search without allocating; the current rate is the latest one of the series.
+ * Since a HistoricalExchangeRateProvider can not change after it is built, it can be shared by any number of threads.
+ */
+public final class HistoricalExchangeRateProvider implements ExchangeRateProvider {
+    private static final int[] NO_DAYS = new int[0];
+    private static final double[] NO_RATES = new double[0];
+
+    private final int[][] days;
+    private final double[][] rates;
+
+    /**
+     * Constructs a HistoricalExchangeRateProvider around sorted series.
+     *
+     * @param days  The ascending epoch days of every series, indexed like a RateTable.
+     * @param rates The rates of every series, indexed like a RateTable.
+     */
+    private HistoricalExchangeRateProvider(int[][] days, double[][] rates) {
+        this.days = days;
+        this.rates = rates;
+    }
+
+    /**
+     * Creates a new Builder for a HistoricalExchangeRateProvider.
+     *
+     * @return A new Builder without any rates.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Retrieves the latest exchange rate of a series.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate (e.g., REALTIME, MONTHLY, DAILY).
+     * @return The exchange rate from currency 'from' to currency 'to' as a Double value.
+     * @throws RuntimeException If a currency or the type is null.
+     * @throws IllegalArgumentException If the series is empty.
+     */
+    @Override
+    public Double getExchangeRate(Currency from, Currency to, ExchangeRateType type) {
+        return getExchangeRateAsDouble(from, to, type);
+    }
+
+    /**
+     * Retrieves the latest exchange rate of a series as a primitive double.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate (e.g., REALTIME, MONTHLY, DAILY).
+     * @return The exchange rate from currency 'from' to currency 'to'.
+     * @throws RuntimeException If a currency or the type is null.
+     * @throws IllegalArgumentException If the series is empty.
+     */
+    @Override
+    public double getExchangeRateAsDouble(Currency from, Currency to, ExchangeRateType type) {
+        return getExchangeRateAsOf(from, to, type, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Retrieves the exchange rate that was valid on a date.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate (e.g., REALTIME, MONTHLY, DAILY).
+     * @param date The date the rate was valid on.
+     * @return The latest rate from currency 'from' to currency 'to' published on or before the date.
+     * @throws RuntimeException If a currency, the type or the date is null.
+     * @throws IllegalArgumentException If the series has no rate on or before the date.
+     */
+    public double getExchangeRateAsOf(Currency from, Currency to, ExchangeRateType type, LocalDate date) {
+        if (date == null)
+            throw new RuntimeException(ConstErrorMessages.DATE_NULL);
+        return getExchangeRateAsOf(from, to, type, lookupDay(date));
+    }
+
+    /**
+     * Retrieves the exchange rate that was valid on a day.
+     *
+     * @param from     The currency to convert from.
+     * @param to       The currency to convert to.
+     * @param type     The type of exchange rate (e.g., REALTIME, MONTHLY, DAILY).
+     * @param epochDay The day the rate was valid on, counted from 1970-01-01.
+     * @return The latest rate from currency 'from' to currency 'to' published on or before the day.
+     * @throws RuntimeException If a currency or the type is null.
+     * @throws IllegalArgumentException If the series has no rate on or before the day.
+     */
+    public double getExchangeRateAsOf(Currency from, Currency to, ExchangeRateType type, int epochDay) {
+        int position = positionAsOf(from, to, type, epochDay);
+        if (position < 0) {
+            if (from == to)
+                return 1.0;
+            throw new IllegalArgumentException("Exchange rate not found for: " + from + " to " + to);
+        }
+        return rates[RateTable.index(from, to, type)][position];
+    }
+
+    /**
+     * Retrieves the exchange rate that was valid on a date as a BigDecimal.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate (e.g., REALTIME, MONTHLY, DAILY).
+     * @param date The date the rate was valid on.
+     * @return The latest rate from currency 'from' to currency 'to' published on or before the date.
+     * @throws RuntimeException If a currency, the type or the date is null.
+     * @throws IllegalArgumentException If the series has no rate on or before the date.
+     */
+    public BigDecimal getExchangeRateAsOfAsBigDecimal(Currency from, Currency to, ExchangeRateType type, LocalDate date) {
+        return BigDecimal.valueOf(getExchangeRateAsOf(from, to, type, date));
+    }
+
+    /**
+     * Returns how many rates a series holds.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate.
+     * @return The number of days the series has a rate for.
+     * @throws RuntimeException If a currency or the type is null.
+     */
+    public int getSeriesLength(Currency from, Currency to, ExchangeRateType type) {
+        checkArguments(from, to, type);
+        return days[RateTable.index(from, to, type)].length;
+    }
+
+    /**
+     * Returns the epoch day to look a date up with.
+     * Series only hold int epoch days, so clamping keeps the answer for dates beyond that range.
+     *
+     * @param date The date, not null.
+     * @return The epoch day of the date, clamped to the int range.
+     */
+    static int lookupDay(LocalDate date) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, date.toEpochDay()));
+    }
+
+    /**
+     * Finds the position of the rate valid on a day.
+     *
+     * @param from     The currency to convert from.
+     * @param to       The currency to convert to.
+     * @param type     The type of exchange rate.
+     * @param epochDay The day the rate was valid on.
+     * @return The position in the series, or -1 if the series has no rate on or before the day.
+     * @throws RuntimeException If a currency or the type is null.
+     */
+    int positionAsOf(Currency from, Currency to, ExchangeRateType type, int epochDay) {
+        checkArguments(from, to, type);
+        int[] series = days[RateTable.index(from, to, type)];
+        int position = Arrays.binarySearch(series, epochDay);
+        // Without an exact match, take the last day before the insertion point
+        return position >= 0 ? position : -position - 2;
+    }
+
+    /**
+     * Returns the epoch days of a series, which must not be modified.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate.
+     * @return The ascending epoch days of the series.
+     */
+    int[] seriesDays(Currency from, Currency to, ExchangeRateType type) {
+        return days[RateTable.index(from, to, type)];
+    }
+
+    /**
+     * Returns the rates of a series, which must not be modified.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate.
+     * @return The rates of the series in the order of its days.
+     */
+    double[] seriesRates(Currency from, Currency to, ExchangeRateType type) {
+        return rates[RateTable.index(from, to, type)];
+    }
+
+    /**
+     * Checks the arguments of a lookup.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate.
+     * @throws RuntimeException If a currency or the type is null.
+     */
+    private static void checkArguments(Currency from, Currency to, ExchangeRateType type) {
+        if (from == null || to == null)
+            throw new RuntimeException(ConstErrorMessages.CURRENCY_NULL);
+        else if (type == null)
+            throw new RuntimeException(ConstErrorMessages.EXCHANGE_RATE_TYPE_NULL);
+    }
+
+    /**
+     * A mutable builder for a HistoricalExchangeRateProvider. Rates can be put in any order;
+     * if a series gets several rates for the same day, the one put last wins. A Builder is not thread-safe.
+     */
+    public static final class Builder {
+        private final int[][] days = new int[RateTable.size()][];
+        private final double[][] rates = new double[RateTable.size()][];
+        private final int[] sizes = new int[RateTable.size()];
+        private final boolean[] sorted = new boolean[RateTable.size()];
+
+        /**
+         * Constructs a Builder without rates.
+         */
+        private Builder() {
+            Arrays.fill(days, NO_DAYS);
+            Arrays.fill(rates, NO_RATES);
+            Arrays.fill(sorted, true);
+        }
+
+        /**
+         * Adds the exchange rate valid from a date on.
+         *
+         * @param type The type of exchange rate.
+         * @param from The currency to convert from.
+         * @param to   The currency to convert to.
+         * @param date The date the rate is valid from.
+         * @param rate The exchange rate.
+         * @return This Builder.
+         * @throws RuntimeException If a currency, the type or the date is null, or the epoch day of the date does not fit into an int.
+         */
+        public Builder put(ExchangeRateType type, Currency from, Currency to, LocalDate date, double rate) {
+            if (date == null)
+                throw new RuntimeException(ConstErrorMessages.DATE_NULL);
+            long epochDay = date.toEpochDay();
+            if (epochDay != (int) epochDay)
+                throw new RuntimeException(ConstErrorMessages.DATE_OUT_OF_RANGE);
+            return put(type, from, to, (int) epochDay, rate);
+        }
+
+        /**
+         * Adds the exchange rate valid from a day on.
+         *
+         * @param type     The type of exchange rate.
+         * @param from     The currency to convert from.
+         * @param to       The currency to convert to.
+         * @param epochDay The day the rate is valid from, counted from 1970-01-01.
+         * @param rate     The exchange rate.
+         * @return This Builder.
+         * @throws RuntimeException If a currency or the type is null.
+         */
+        public Builder put(ExchangeRateType type, Currency from, Currency to, int epochDay, double rate) {
+            if (type == null)
+                throw new RuntimeException(ConstErrorMessages.EXCHANGE_RATE_TYPE_NULL);
+            else if (from == null || to == null)
+                throw new RuntimeException(ConstErrorMessages.CURRENCY_NULL);
+
+            int index = RateTable.index(from, to, type);
+            int size = sizes[index];
+            if (size == days[index].length) {
+                int capacity = Math.max(16, size + (size >> 1));
+                days[index] = Arrays.copyOf(days[index], capacity);
+                rates[index] = Arrays.copyOf(rates[index], capacity);
+            }
+            if (size > 0 && days[index][size - 1] >= epochDay)
+                sorted[index] = false;
+            days[index][size] = epochDay;
+            rates[index][size] = rate;
+            sizes[index] = size + 1;
+            return this;
+        }
+
+        /**
+         * Builds an immutable HistoricalExchangeRateProvider from the current rates. The Builder can be reused afterwards.
+         *
+         * @return A new HistoricalExchangeRateProvider.
+         */
+        public HistoricalExchangeRateProvider build() {
+            int[][] builtDays = new int[days.length][];
+            double[][] builtRates = new double[rates.length][];
+            for (int i = 0; i < days.length; i++) {
+                if (sorted[i]) {
+                    builtDays[i] = sizes[i] == 0 ? NO_DAYS : Arrays.copyOf(days[i], sizes[i]);
+                    builtRates[i] = sizes[i] == 0 ? NO_RATES : Arrays.copyOf(rates[i], sizes[i]);
+                } else {
+                    sortSeries(i, builtDays, builtRates);
+                }
+            }
+            return new HistoricalExchangeRateProvider(builtDays, builtRates);
+        }
+
+        /**
+         * Sorts a series by day, keeping the rate put last for days that occur more than once.
+         *
+         * @param index      The index of the series.
+         * @param builtDays  The array receiving the sorted days.
+         * @param builtRates The array receiving the matching rates.
+         */
+        private void sortSeries(int index, int[][] builtDays, double[][] builtRates) {
+            int size = sizes[index];
+            // Day in the high bits and insertion order in the low bits, so equal days stay in insertion order
+            long[] keys = new long[size];
+            for (int i = 0; i < size; i++)
+                keys[i] = ((long) days[index][i] << 32) | i;
+            Arrays.sort(keys);
+
+            int[] sortedDays = new int[size];
+            double[] sortedRates = new double[size];
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                int day = (int) (keys[i] >> 32);
+                double rate = rates[index][(int) keys[i]];
+                if (count > 0 && sortedDays[count - 1] == day) {
+                    sortedRates[count - 1] = rate;
+                } else {
+                    sortedDays[count] = day;
+                    sortedRates[count] = rate;
+                    count++;
+                }
+            }
+            builtDays[index] = Arrays.copyOf(sortedDays, count);
+            builtRates[index] = Arrays.copyOf(sortedRates, count);
+        }
+    }
+}
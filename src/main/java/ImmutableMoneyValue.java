@@ -0,0 +1,199 @@
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * An immutable monetary value with a specific currency.
+ * Like MoneyValue, the amount is kept as a long count of hundredths while it fits and is only
+ * promoted to a BigDecimal when an operation overflows the long range. All fields are final and
+ * there are no mutating operations, so an ImmutableMoneyValue can be shared across threads without locking.
+ */
+public final class ImmutableMoneyValue {
+    private final Currency currency;
+    // Amount in hundredths, only valid while bigAmount is null
+    private final long units;
+    // Amount with two decimal places once it no longer fits into units, null otherwise
+    private final BigDecimal bigAmount;
+
+    /**
+     * Constructs an ImmutableMoneyValue from its representation.
+     *
+     * @param currency  The currency of the money value.
+     * @param units     The amount in hundredths, ignored if bigAmount is not null.
+     * @param bigAmount The amount with two decimal places if it does not fit into a long of hundredths, null otherwise.
+     */
+    ImmutableMoneyValue(Currency currency, long units, BigDecimal bigAmount) {
+        this.currency = currency;
+        this.units = bigAmount == null ? units : 0;
+        this.bigAmount = bigAmount;
+    }
+
+    /**
+     * Creates an ImmutableMoneyValue with a BigDecimal amount, rounded to two decimal places.
+     *
+     * @param amount   The amount.
+     * @param currency The currency of the money value.
+     * @return A new ImmutableMoneyValue.
+     * @throws RuntimeException If the amount or the currency is null.
+     */
+    public static ImmutableMoneyValue of(BigDecimal amount, Currency currency) {
+        if (amount == null || currency == null)
+            throw new RuntimeException(ConstErrorMessages.INVALID_MONEY_VALUE_AS_STRING);
+        BigDecimal rounded = amount.setScale(2, RoundingMode.HALF_UP);
+        BigInteger unscaled = rounded.unscaledValue();
+        return unscaled.bitLength() < Long.SIZE ?
+                new ImmutableMoneyValue(currency, unscaled.longValue(), null) :
+                new ImmutableMoneyValue(currency, 0, rounded);
+    }
+
+    /**
+     * Returns the currency of this ImmutableMoneyValue.
+     *
+     * @return The currency.
+     */
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    /**
+     * Returns the amount of this ImmutableMoneyValue.
+     *
+     * @return The amount.
+     */
+    public BigDecimal getAmount() {
+        return bigAmount != null ? bigAmount : FixedPointMath.toAmount(units);
+    }
+
+    /**
+     * Returns a new mutable MoneyValue with the same amount and currency.
+     *
+     * @return A new MoneyValue.
+     */
+    public MoneyValue toMoneyValue() {
+        return bigAmount == null ? MoneyValue.ofMinorUnits(units, currency) : new MoneyValue(bigAmount, currency);
+    }
+
+    /**
+     * Returns the sum of this ImmutableMoneyValue and another one.
+     *
+     * @param other The ImmutableMoneyValue to add.
+     * @return A new ImmutableMoneyValue holding the sum.
+     * @throws RuntimeException If the other value is null or has a different currency.
+     */
+    public ImmutableMoneyValue plus(ImmutableMoneyValue other) {
+        validateForOperation(other);
+        long result = isCompact() && other.isCompact() ? MoneyValue.addUnits(units, other.units) : MoneyValue.NOT_COMPACT;
+        return result != MoneyValue.NOT_COMPACT ? new ImmutableMoneyValue(currency, result, null) :
+                of(getAmount().add(other.getAmount()), currency);
+    }
+
+    /**
+     * Returns the difference of this ImmutableMoneyValue and another one.
+     *
+     * @param other The ImmutableMoneyValue to subtract.
+     * @return A new ImmutableMoneyValue holding the difference.
+     * @throws RuntimeException If the other value is null or has a different currency.
+     */
+    public ImmutableMoneyValue minus(ImmutableMoneyValue other) {
+        validateForOperation(other);
+        long result = isCompact() && other.isCompact() ? MoneyValue.subtractUnits(units, other.units) : MoneyValue.NOT_COMPACT;
+        return result != MoneyValue.NOT_COMPACT ? new ImmutableMoneyValue(currency, result, null) :
+                of(getAmount().subtract(other.getAmount()), currency);
+    }
+
+    /**
+     * Returns the product of this ImmutableMoneyValue and another one, rounded to two decimal places.
+     *
+     * @param other The ImmutableMoneyValue to multiply by.
+     * @return A new ImmutableMoneyValue holding the product.
+     * @throws RuntimeException If the other value is null or has a different currency.
+     */
+    public ImmutableMoneyValue times(ImmutableMoneyValue other) {
+        validateForOperation(other);
+        long result = isCompact() && other.isCompact() ? MoneyValue.multiplyUnits(units, other.units) : MoneyValue.NOT_COMPACT;
+        return result != MoneyValue.NOT_COMPACT ? new ImmutableMoneyValue(currency, result, null) :
+                of(getAmount().multiply(other.getAmount()), currency);
+    }
+
+    /**
+     * Returns the quotient of this ImmutableMoneyValue and another one, rounded to two decimal places.
+     *
+     * @param other The ImmutableMoneyValue to divide by.
+     * @return A new ImmutableMoneyValue holding the quotient.
+     * @throws RuntimeException If the other value is null, zero or has a different currency.
+     */
+    public ImmutableMoneyValue dividedBy(ImmutableMoneyValue other) {
+        if (other != null && other.isZero())
+            throw new RuntimeException(ConstErrorMessages.DIVIDE_BY_ZERO);
+        validateForOperation(other);
+        long result = isCompact() && other.isCompact() ? MoneyValue.divideUnits(units, other.units) : MoneyValue.NOT_COMPACT;
+        return result != MoneyValue.NOT_COMPACT ? new ImmutableMoneyValue(currency, result, null) :
+                of(getAmount().divide(other.getAmount(), 2, RoundingMode.HALF_UP), currency);
+    }
+
+    /**
+     * Checks if this ImmutableMoneyValue is equal to another object.
+     *
+     * @param obj The object to compare with.
+     * @return true if the object is an ImmutableMoneyValue with the same amount and currency.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof ImmutableMoneyValue other)) return false;
+        if (currency != other.currency) return false;
+        if (isCompact() && other.isCompact()) return units == other.units;
+        return getAmount().equals(other.getAmount());
+    }
+
+    /**
+     * Returns the hash code of this ImmutableMoneyValue, which equals the one of a MoneyValue with the same amount and currency.
+     *
+     * @return The hash code.
+     */
+    @Override
+    public int hashCode() {
+        return toMoneyValue().hashCode();
+    }
+
+    /**
+     * Returns a string representation of the money value formatted according to the currency.
+     *
+     * @return A string representation of the money value.
+     */
+    @Override
+    public String toString() {
+        return toMoneyValue().toString();
+    }
+
+    /**
+     * Validates if another ImmutableMoneyValue can be used in an arithmetic operation with this one.
+     *
+     * @param other The other ImmutableMoneyValue.
+     * @throws RuntimeException If the other value is null or its currency does not match.
+     */
+    private void validateForOperation(ImmutableMoneyValue other) {
+        if (other == null)
+            throw new RuntimeException(ConstErrorMessages.INVALID_MONEY_VALUE_AS_STRING);
+        if (currency != other.currency)
+            throw new RuntimeException(ConstErrorMessages.CURRENCIES_NOT_EQUAL);
+    }
+
+    /**
+     * Checks if the amount is held in the compact long representation.
+     *
+     * @return true if the amount is stored as hundredths in a long.
+     */
+    private boolean isCompact() {
+        return bigAmount == null;
+    }
+
+    /**
+     * Checks if the amount is zero.
+     *
+     * @return true if the amount is zero.
+     */
+    private boolean isZero() {
+        return bigAmount != null ? bigAmount.signum() == 0 : units == 0;
+    }
+}
@@ -0,0 +1,145 @@
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * A RateSnapshotProvider that completes the snapshots of another provider with inverse rates.
+ * The underlying snapshots only need one direction per currency pair; the opposite direction is derived
+ * as 1 / rate at a configured precision, so the two directions can never drift apart.
+ * All inverses of a snapshot are derived together the first time it is used and kept in a completed
+ * RateTable until a new snapshot is published, so lookups are plain table reads.
+ */
+public class InverseRateExchangeRateProvider implements RateSnapshotProvider {
+
+    /**
+     * The default precision of derived inverse rates.
+     */
+    public static final MathContext DEFAULT_PRECISION = new MathContext(10);
+
+    private final RateSnapshotProvider source;
+    private final MathContext precision;
+    private volatile Completed completed;
+
+    /**
+     * Constructs an InverseRateExchangeRateProvider deriving inverses at the default precision.
+     *
+     * @param source The provider of the snapshots holding one direction per pair.
+     * @throws RuntimeException If the provider is null.
+     */
+    public InverseRateExchangeRateProvider(RateSnapshotProvider source) {
+        this(source, DEFAULT_PRECISION);
+    }
+
+    /**
+     * Constructs an InverseRateExchangeRateProvider.
+     *
+     * @param source    The provider of the snapshots holding one direction per pair.
+     * @param precision The precision of derived inverse rates.
+     * @throws RuntimeException If an argument is null or the precision is unlimited.
+     */
+    public InverseRateExchangeRateProvider(RateSnapshotProvider source, MathContext precision) {
+        if (source == null)
+            throw new RuntimeException(ConstErrorMessages.PROVIDER_NULL);
+        else if (precision == null)
+            throw new RuntimeException(ConstErrorMessages.MATH_CONTEXT_NULL);
+        else if (precision.getPrecision() == 0)
+            throw new RuntimeException(ConstErrorMessages.MATH_CONTEXT_UNLIMITED);
+        this.source = source;
+        this.precision = precision;
+        this.completed = complete(source.getSnapshot());
+    }
+
+    /**
+     * Returns the current snapshot of the underlying provider completed with inverse rates.
+     * The completed table has the same version as the snapshot it was derived from.
+     *
+     * @return The completed RateTable.
+     */
+    @Override
+    public RateTable getSnapshot() {
+        RateTable snapshot = source.getSnapshot();
+        Completed current = completed;
+        if (current.source != snapshot) {
+            current = complete(snapshot);
+            completed = current;
+        }
+        return current.table;
+    }
+
+    /**
+     * Retrieves the exchange rate, derived from the opposite direction if necessary.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate (e.g., REALTIME, MONTHLY, DAILY).
+     * @return The exchange rate from currency 'from' to currency 'to' as a Double value.
+     * @throws RuntimeException If a currency or the type is null.
+     * @throws IllegalArgumentException If neither direction is known.
+     */
+    @Override
+    public Double getExchangeRate(Currency from, Currency to, ExchangeRateType type) {
+        return getExchangeRateAsDouble(from, to, type);
+    }
+
+    /**
+     * Retrieves the exchange rate as a primitive double, derived from the opposite direction if necessary.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate (e.g., REALTIME, MONTHLY, DAILY).
+     * @return The exchange rate from currency 'from' to currency 'to'.
+     * @throws RuntimeException If a currency or the type is null.
+     * @throws IllegalArgumentException If neither direction is known.
+     */
+    @Override
+    public double getExchangeRateAsDouble(Currency from, Currency to, ExchangeRateType type) {
+        return SnapshotExchangeRateProvider.rateOf(getSnapshot(), from, to, type);
+    }
+
+    /**
+     * Retrieves the exchange rate as a pre-built BigDecimal, derived from the opposite direction if necessary.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate (e.g., REALTIME, MONTHLY, DAILY).
+     * @return The exchange rate from currency 'from' to currency 'to'.
+     * @throws RuntimeException If a currency or the type is null.
+     * @throws IllegalArgumentException If neither direction is known.
+     */
+    @Override
+    public BigDecimal getExchangeRateAsBigDecimal(Currency from, Currency to, ExchangeRateType type) {
+        return SnapshotExchangeRateProvider.decimalRateOf(getSnapshot(), from, to, type);
+    }
+
+    /**
+     * Derives all missing inverse rates of a snapshot.
+     *
+     * @param snapshot The snapshot of the underlying provider.
+     * @return The snapshot together with its completed table.
+     */
+    private Completed complete(RateTable snapshot) {
+        RateTable table = snapshot.toBuilder()
+                .version(snapshot.getVersion())
+                .deriveInverses(precision)
+                .build();
+        return new Completed(snapshot, table);
+    }
+
+    /**
+     * A snapshot of the underlying provider and the table completed from it.
+     */
+    private static final class Completed {
+        final RateTable source;
+        final RateTable table;
+
+        /**
+         * Constructs a Completed.
+         *
+         * @param source The snapshot of the underlying provider.
+         * @param table  The snapshot with all derivable inverse rates.
+         */
+        Completed(RateTable source, RateTable table) {
+            this.source = source;
+            this.table = table;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * An immutable ISO 4217 currency with its alphabetic code, numeric code and number of minor-unit digits.
+ * Instances are only created by the IsoCurrencyRegistry, so there is exactly one per code and they can be compared by identity.
+ */
+public final class IsoCurrency {
+    private final String code;
+    private final int packedCode;
+    private final int numericCode;
+    private final int minorDigits;
+
+    /**
+     * Constructs an IsoCurrency.
+     *
+     * @param code        The three-letter alphabetic code.
+     * @param packedCode  The alphabetic code packed by IsoCurrencyRegistry.pack.
+     * @param numericCode The three-digit numeric code.
+     * @param minorDigits The number of digits of the minor unit.
+     */
+    IsoCurrency(String code, int packedCode, int numericCode, int minorDigits) {
+        this.code = code;
+        this.packedCode = packedCode;
+        this.numericCode = numericCode;
+        this.minorDigits = minorDigits;
+    }
+
+    /**
+     * Returns the three-letter alphabetic code, e.g. "CHF".
+     *
+     * @return The alphabetic code.
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * Returns the alphabetic code packed into an int.
+     *
+     * @return The packed code, see IsoCurrencyRegistry.pack.
+     */
+    public int getPackedCode() {
+        return packedCode;
+    }
+
+    /**
+     * Returns the three-digit numeric code, e.g. 756 for CHF.
+     *
+     * @return The numeric code.
+     */
+    public int getNumericCode() {
+        return numericCode;
+    }
+
+    /**
+     * Returns the number of digits of the minor unit, e.g. 2 for EUR and 0 for JPY.
+     *
+     * @return The number of minor-unit digits.
+     */
+    public int getMinorDigits() {
+        return minorDigits;
+    }
+
+    /**
+     * Returns the Currency constant for this currency if money values can be held in it.
+     *
+     * @return The Currency, or null if this currency has no Currency constant.
+     */
+    public Currency getCurrency() {
+        return Currency.fromPackedCode(packedCode);
+    }
+
+    /**
+     * Returns the alphabetic code.
+     *
+     * @return The alphabetic code.
+     */
+    @Override
+    public String toString() {
+        return code;
+    }
+}
@@ -0,0 +1,134 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A registry of the active ISO 4217 currencies with their numeric codes and minor-unit digits.
+ * Alphabetic codes are packed into an int in [0, 26^3), so looking a currency up by code is a single array read
+ * without hashing a String; numeric codes index a second array of 1000 entries.
+ * The four currencies money values can be held in are also available as Currency constants;
+ * IsoCurrency.getCurrency and Currency.toIsoCurrency link both views.
+ */
+public final class IsoCurrencyRegistry {
+
+    /**
+     * The number of distinct packed codes, one per combination of three letters A-Z.
+     */
+    public static final int PACKED_CODE_COUNT = 26 * 26 * 26;
+
+    // Alphabetic code, numeric code and minor-unit digits of every active currency
+    private static final String DATA = """
+            AED 784 2  AFN 971 2  ALL 008 2  AMD 051 2  AOA 973 2  ARS 032 2
+            AUD 036 2  AWG 533 2  AZN 944 2  BAM 977 2  BBD 052 2  BDT 050 2
+            BHD 048 3  BIF 108 0  BMD 060 2  BND 096 2  BOB 068 2  BRL 986 2
+            BSD 044 2  BTN 064 2  BWP 072 2  BYN 933 2  BZD 084 2  CAD 124 2
+            CDF 976 2  CHF 756 2  CLP 152 0  CNY 156 2  COP 170 2  CRC 188 2
+            CUP 192 2  CVE 132 2  CZK 203 2  DJF 262 0  DKK 208 2  DOP 214 2
+            DZD 012 2  EGP 818 2  ERN 232 2  ETB 230 2  EUR 978 2  FJD 242 2
+            FKP 238 2  GBP 826 2  GEL 981 2  GHS 936 2  GIP 292 2  GMD 270 2
+            GNF 324 0  GTQ 320 2  GYD 328 2  HKD 344 2  HNL 340 2  HTG 332 2
+            HUF 348 2  IDR 360 2  ILS 376 2  INR 356 2  IQD 368 3  IRR 364 2
+            ISK 352 0  JMD 388 2  JOD 400 3  JPY 392 0  KES 404 2  KGS 417 2
+            KHR 116 2  KMF 174 0  KPW 408 2  KRW 410 0  KWD 414 3  KYD 136 2
+            KZT 398 2  LAK 418 2  LBP 422 2  LKR 144 2  LRD 430 2  LSL 426 2
+            LYD 434 3  MAD 504 2  MDL 498 2  MGA 969 2  MKD 807 2  MMK 104 2
+            MNT 496 2  MOP 446 2  MRU 929 2  MUR 480 2  MVR 462 2  MWK 454 2
+            MXN 484 2  MYR 458 2  MZN 943 2  NAD 516 2  NGN 566 2  NIO 558 2
+            NOK 578 2  NPR 524 2  NZD 554 2  OMR 512 3  PAB 590 2  PEN 604 2
+            PGK 598 2  PHP 608 2  PKR 586 2  PLN 985 2  PYG 600 0  QAR 634 2
+            RON 946 2  RSD 941 2  RUB 643 2  RWF 646 0  SAR 682 2  SBD 090 2
+            SCR 690 2  SDG 938 2  SEK 752 2  SGD 702 2  SHP 654 2  SLE 925 2
+            SOS 706 2  SRD 968 2  SSP 728 2  STN 930 2  SVC 222 2  SYP 760 2
+            SZL 748 2  THB 764 2  TJS 972 2  TMT 934 2  TND 788 3  TOP 776 2
+            TRY 949 2  TTD 780 2  TWD 901 2  TZS 834 2  UAH 980 2  UGX 800 0
+            USD 840 2  UYU 858 2  UZS 860 2  VED 926 2  VES 928 2  VND 704 0
+            VUV 548 0  WST 882 2  XAF 950 0  XCD 951 2  XCG 532 2  XOF 952 0
+            XPF 953 0  YER 886 2  ZAR 710 2  ZMW 967 2  ZWG 924 2
+            """;
+
+    private static final IsoCurrency[] BY_PACKED_CODE = new IsoCurrency[PACKED_CODE_COUNT];
+    private static final IsoCurrency[] BY_NUMERIC_CODE = new IsoCurrency[1000];
+    private static final List<IsoCurrency> ALL;
+
+    static {
+        List<IsoCurrency> all = new ArrayList<>();
+        String[] fields = DATA.trim().split("\\s+");
+        for (int i = 0; i < fields.length; i += 3) {
+            String code = fields[i];
+            int packedCode = pack(code);
+            IsoCurrency currency = new IsoCurrency(code, packedCode, Integer.parseInt(fields[i + 1]), Integer.parseInt(fields[i + 2]));
+            BY_PACKED_CODE[packedCode] = currency;
+            BY_NUMERIC_CODE[currency.getNumericCode()] = currency;
+            all.add(currency);
+        }
+        ALL = Collections.unmodifiableList(all);
+    }
+
+    private IsoCurrencyRegistry() {
+    }
+
+    /**
+     * Packs a three-letter code into an int.
+     *
+     * @param first  The first letter.
+     * @param second The second letter.
+     * @param third  The third letter.
+     * @return The packed code in [0, PACKED_CODE_COUNT), or -1 if a character is not an upper-case letter A-Z.
+     */
+    public static int pack(char first, char second, char third) {
+        if (first < 'A' || first > 'Z' || second < 'A' || second > 'Z' || third < 'A' || third > 'Z')
+            return -1;
+        return ((first - 'A') * 26 + (second - 'A')) * 26 + (third - 'A');
+    }
+
+    /**
+     * Packs a three-letter code into an int.
+     *
+     * @param code The code.
+     * @return The packed code in [0, PACKED_CODE_COUNT), or -1 if the code is null or not three upper-case letters.
+     */
+    public static int pack(CharSequence code) {
+        if (code == null || code.length() != 3)
+            return -1;
+        return pack(code.charAt(0), code.charAt(1), code.charAt(2));
+    }
+
+    /**
+     * Looks up a currency by its alphabetic code.
+     *
+     * @param code The three-letter code, e.g. "CHF".
+     * @return The currency, or null if the code is not an active ISO 4217 code.
+     */
+    public static IsoCurrency fromCode(CharSequence code) {
+        return fromPackedCode(pack(code));
+    }
+
+    /**
+     * Looks up a currency by its packed alphabetic code.
+     *
+     * @param packedCode The packed code, see pack.
+     * @return The currency, or null if there is none with that code.
+     */
+    public static IsoCurrency fromPackedCode(int packedCode) {
+        return packedCode >= 0 && packedCode < PACKED_CODE_COUNT ? BY_PACKED_CODE[packedCode] : null;
+    }
+
+    /**
+     * Looks up a currency by its numeric code.
+     *
+     * @param numericCode The three-digit numeric code, e.g. 756.
+     * @return The currency, or null if there is none with that code.
+     */
+    public static IsoCurrency fromNumericCode(int numericCode) {
+        return numericCode >= 0 && numericCode < BY_NUMERIC_CODE.length ? BY_NUMERIC_CODE[numericCode] : null;
+    }
+
+    /**
+     * Returns all registered currencies.
+     *
+     * @return An unmodifiable list of the currencies ordered by alphabetic code.
+     */
+    public static List<IsoCurrency> all() {
+        return ALL;
+    }
+}
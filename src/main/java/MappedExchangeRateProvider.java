@@ -0,0 +1,184 @@
+import java.io.IOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A RateSnapshotProvider that reads its rates from a memory-mapped rate table file written by a MappedRateTableWriter.
+ * Lookups read the rate straight from the mapping, so starting up costs only mapping the file and all JVMs on a
+ * host share one copy of the table in the page cache. Reads follow the file's seqlock: a read that overlapped
+ * an update is retried, so a lookup never returns a rate from a half-written table. A file that stays mid-update
+ * because its writer died fails the read instead of blocking it, until the next publish repairs the file.
+ * A snapshot is copied out of the file only when it is asked for and the file changed since the last one.
+ */
+public class MappedExchangeRateProvider implements RateSnapshotProvider {
+    // A publish takes microseconds, so a file that stays odd this long was left behind by a writer that died
+    static final long MAX_UPDATE_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final MappedByteBuffer buffer;
+    private volatile Snapshot snapshot;
+
+    /**
+     * Constructs a MappedExchangeRateProvider reading the given file.
+     *
+     * @param path The path of the rate table file.
+     * @throws IOException If the file can not be mapped.
+     * @throws RuntimeException If the path is null or the file is not a rate table file of this build.
+     */
+    public MappedExchangeRateProvider(Path path) throws IOException {
+        if (path == null)
+            throw new RuntimeException(ConstErrorMessages.PATH_NULL);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < RateTableFile.FILE_SIZE)
+                throw new RuntimeException(ConstErrorMessages.INVALID_RATE_FILE);
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, RateTableFile.FILE_SIZE);
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        RateTableFile.checkHeader(buffer);
+        snapshot = new Snapshot(-1, null);
+    }
+
+    /**
+     * Retrieves the exchange rate from the file.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate (e.g., REALTIME, MONTHLY, DAILY).
+     * @return The exchange rate from currency 'from' to currency 'to' as a Double value.
+     * @throws RuntimeException If a currency or the type is null, or the file stays mid-update.
+     * @throws IllegalArgumentException If the file has no such rate.
+     */
+    @Override
+    public Double getExchangeRate(Currency from, Currency to, ExchangeRateType type) {
+        return getExchangeRateAsDouble(from, to, type);
+    }
+
+    /**
+     * Retrieves the exchange rate from the file as a primitive double, without allocating.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate (e.g., REALTIME, MONTHLY, DAILY).
+     * @return The exchange rate from currency 'from' to currency 'to'.
+     * @throws RuntimeException If a currency or the type is null, or the file stays mid-update.
+     * @throws IllegalArgumentException If the file has no such rate.
+     */
+    @Override
+    public double getExchangeRateAsDouble(Currency from, Currency to, ExchangeRateType type) {
+        if (from == null || to == null)
+            throw new RuntimeException(ConstErrorMessages.CURRENCY_NULL);
+        else if (type == null)
+            throw new RuntimeException(ConstErrorMessages.EXCHANGE_RATE_TYPE_NULL);
+
+        int offset = RateTableFile.rateOffset(RateTable.index(from, to, type));
+        double rate;
+        long before;
+        do {
+            before = awaitStableSequence();
+            rate = buffer.getDouble(offset);
+            VarHandle.loadLoadFence();
+        } while (before != sequence());
+
+        if (Double.isNaN(rate))
+            throw new IllegalArgumentException("Exchange rate not found for: " + from + " to " + to);
+        return rate;
+    }
+
+    /**
+     * Returns a consistent copy of the rates currently in the file.
+     * The copy is reused until the file changes.
+     *
+     * @return The current RateTable.
+     */
+    @Override
+    public RateTable getSnapshot() {
+        Snapshot current = snapshot;
+        if (current.sequence == sequence())
+            return current.table;
+
+        while (true) {
+            long before = awaitStableSequence();
+            RateTable.Builder builder = RateTable.builder().version(buffer.getLong(RateTableFile.TABLE_VERSION_OFFSET));
+            for (ExchangeRateType type : ExchangeRateType.values()) {
+                for (Currency from : Currency.values()) {
+                    for (Currency to : Currency.values())
+                        builder.put(type, from, to, buffer.getDouble(RateTableFile.rateOffset(RateTable.index(from, to, type))));
+                }
+            }
+            VarHandle.loadLoadFence();
+            if (before == sequence()) {
+                current = new Snapshot(before, builder.build());
+                snapshot = current;
+                return current.table;
+            }
+        }
+    }
+
+    /**
+     * Returns the version of the RateTable currently in the file.
+     *
+     * @return The version the writer published the table with.
+     */
+    public long getVersion() {
+        long version;
+        long before;
+        do {
+            before = awaitStableSequence();
+            version = buffer.getLong(RateTableFile.TABLE_VERSION_OFFSET);
+            VarHandle.loadLoadFence();
+        } while (before != sequence());
+        return version;
+    }
+
+    /**
+     * Reads the sequence of the file.
+     *
+     * @return The current sequence.
+     */
+    private long sequence() {
+        return (long) RateTableFile.SEQUENCE.getAcquire(buffer, RateTableFile.SEQUENCE_OFFSET);
+    }
+
+    /**
+     * Waits until no writer is updating the file.
+     *
+     * @return The even sequence read.
+     * @throws RuntimeException If the file stays mid-update for longer than a publish can take.
+     */
+    private long awaitStableSequence() {
+        long sequence = sequence();
+        if ((sequence & 1) == 0)
+            return sequence;
+        long deadline = System.nanoTime() + MAX_UPDATE_NANOS;
+        while ((sequence & 1) != 0) {
+            if (System.nanoTime() - deadline > 0)
+                throw new RuntimeException(ConstErrorMessages.RATE_FILE_STALLED);
+            Thread.onSpinWait();
+            sequence = sequence();
+        }
+        return sequence;
+    }
+
+    /**
+     * A copy of the rates together with the sequence they were read at.
+     */
+    private static final class Snapshot {
+        final long sequence;
+        final RateTable table;
+
+        /**
+         * Constructs a Snapshot.
+         *
+         * @param sequence The sequence the rates were read at.
+         * @param table    The rates.
+         */
+        Snapshot(long sequence, RateTable table) {
+            this.sequence = sequence;
+            this.table = table;
+        }
+    }
+}
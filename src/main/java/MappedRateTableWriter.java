@@ -0,0 +1,96 @@
+import java.io.IOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Publishes RateTables into a memory-mapped rate table file that MappedExchangeRateProviders on the same host read.
+ * Every publish overwrites the rates in place between two increments of the file's sequence, so readers either see
+ * the old or the new table, never a mix. Only one writer, in one process, may publish to a file at a time.
+ */
+public class MappedRateTableWriter {
+    private final MappedByteBuffer buffer;
+
+    /**
+     * Constructs a MappedRateTableWriter around a mapped file.
+     *
+     * @param buffer The writable mapping of the file.
+     */
+    private MappedRateTableWriter(MappedByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Opens a rate table file for writing, creating it without rates if it does not exist yet.
+     *
+     * @param path The path of the file.
+     * @return A writer publishing to the file.
+     * @throws IOException If the file can not be created or mapped.
+     * @throws RuntimeException If the path is null or an existing file is not a rate table file of this build.
+     */
+    public static MappedRateTableWriter open(Path path) throws IOException {
+        if (path == null)
+            throw new RuntimeException(ConstErrorMessages.PATH_NULL);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            boolean created = channel.size() == 0;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, RateTableFile.FILE_SIZE);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            MappedRateTableWriter writer = new MappedRateTableWriter(buffer);
+            if (created) {
+                RateTableFile.writeHeader(buffer);
+                writer.publish(RateTable.builder().build());
+            } else {
+                RateTableFile.checkHeader(buffer);
+            }
+            return writer;
+        }
+    }
+
+    /**
+     * Writes the given rates to a rate table file and flushes them to disk.
+     * An existing file is updated in place with one publish, so providers that already mapped it see the new rates.
+     *
+     * @param path  The path of the file, created if it does not exist.
+     * @param table The rates to write.
+     * @throws IOException If the file can not be written.
+     * @throws RuntimeException If an argument is null or an existing file is not a rate table file of this build.
+     */
+    public static void write(Path path, RateTable table) throws IOException {
+        if (path == null)
+            throw new RuntimeException(ConstErrorMessages.PATH_NULL);
+        else if (table == null)
+            throw new RuntimeException(ConstErrorMessages.RATE_TABLE_NULL);
+        MappedRateTableWriter writer = open(path);
+        writer.publish(table);
+        writer.buffer.force();
+    }
+
+    /**
+     * Replaces the rates in the file.
+     * A file left mid-update by a writer that died while publishing is repaired by the next publish.
+     *
+     * @param table The rates to publish.
+     * @throws RuntimeException If the table is null.
+     */
+    public synchronized void publish(RateTable table) {
+        if (table == null)
+            throw new RuntimeException(ConstErrorMessages.RATE_TABLE_NULL);
+        // An odd sequence tells readers to retry until the rates are complete again, even if a dead writer left it odd
+        long start = (long) RateTableFile.SEQUENCE.getVolatile(buffer, RateTableFile.SEQUENCE_OFFSET) | 1;
+        RateTableFile.SEQUENCE.setVolatile(buffer, RateTableFile.SEQUENCE_OFFSET, start);
+        VarHandle.storeStoreFence();
+
+        buffer.putLong(RateTableFile.TABLE_VERSION_OFFSET, table.getVersion());
+        for (ExchangeRateProvider.ExchangeRateType type : ExchangeRateProvider.ExchangeRateType.values()) {
+            for (Currency from : Currency.values()) {
+                for (Currency to : Currency.values())
+                    buffer.putDouble(RateTableFile.rateOffset(RateTable.index(from, to, type)), table.getRate(from, to, type));
+            }
+        }
+
+        RateTableFile.SEQUENCE.setRelease(buffer, RateTableFile.SEQUENCE_OFFSET, start + 1);
+    }
+}
@@ -0,0 +1,214 @@
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * Collectors that total streams of MoneyValues per currency.
+ * Totals are accumulated as longs of hundredths without converting or locking per element;
+ * when a target currency is given, each per-currency total is converted exactly once at the end.
+ * The plain collectors give parallel streams one container per thread, the concurrent variants share
+ * a striped container so that threads rarely contend on the same lock.
+ */
+public final class MoneyCollectors {
+    private static final Set<Collector.Characteristics> CONCURRENT =
+            Collections.unmodifiableSet(EnumSet.of(Collector.Characteristics.CONCURRENT, Collector.Characteristics.UNORDERED));
+
+    private MoneyCollectors() {
+    }
+
+    /**
+     * Returns a Collector that sums MoneyValues per currency.
+     *
+     * @return A Collector producing a map from each currency in the stream to its total.
+     */
+    public static Collector<MoneyValue, ?, Map<Currency, MoneyValue>> summingByCurrency() {
+        return Collector.of(CurrencyTotals::new, CurrencyTotals::add, CurrencyTotals::merge, CurrencyTotals::toMap, Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns a Collector that sums MoneyValues per currency and converts the per-currency totals
+     * to the target currency at the end using the realtime exchange rate.
+     *
+     * @param target    The currency of the total.
+     * @param converter The converter used for the per-currency totals.
+     * @return A Collector producing the total in the target currency.
+     * @throws RuntimeException If the target currency or the converter is null.
+     */
+    public static Collector<MoneyValue, ?, MoneyValue> summingTo(Currency target, ConverterClient converter) {
+        return summingTo(target, converter, ExchangeRateProvider.ExchangeRateType.REALTIME);
+    }
+
+    /**
+     * Returns a Collector that sums MoneyValues per currency and converts the per-currency totals
+     * to the target currency at the end.
+     *
+     * @param target    The currency of the total.
+     * @param converter The converter used for the per-currency totals.
+     * @param type      The type of exchange rate to use.
+     * @return A Collector producing the total in the target currency.
+     * @throws RuntimeException If the target currency, the converter or the rate type is null.
+     */
+    public static Collector<MoneyValue, ?, MoneyValue> summingTo(Currency target, ConverterClient converter,
+                                                                 ExchangeRateProvider.ExchangeRateType type) {
+        validateTarget(target, converter, type);
+        return Collector.of(CurrencyTotals::new, CurrencyTotals::add, CurrencyTotals::merge,
+                totals -> totals.convertTo(target, converter, type), Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns a concurrent Collector that sums MoneyValues per currency.
+     * All threads of a parallel stream accumulate into one striped container.
+     *
+     * @return A concurrent Collector producing a map from each currency in the stream to its total.
+     */
+    public static Collector<MoneyValue, ?, Map<Currency, MoneyValue>> summingByCurrencyConcurrent() {
+        return new StripedCollector<>(CurrencyTotals::toMap);
+    }
+
+    /**
+     * Returns a concurrent Collector that sums MoneyValues per currency and converts the per-currency
+     * totals to the target currency at the end using the realtime exchange rate.
+     *
+     * @param target    The currency of the total.
+     * @param converter The converter used for the per-currency totals.
+     * @return A concurrent Collector producing the total in the target currency.
+     * @throws RuntimeException If the target currency or the converter is null.
+     */
+    public static Collector<MoneyValue, ?, MoneyValue> summingToConcurrent(Currency target, ConverterClient converter) {
+        return summingToConcurrent(target, converter, ExchangeRateProvider.ExchangeRateType.REALTIME);
+    }
+
+    /**
+     * Returns a concurrent Collector that sums MoneyValues per currency and converts the per-currency
+     * totals to the target currency at the end.
+     *
+     * @param target    The currency of the total.
+     * @param converter The converter used for the per-currency totals.
+     * @param type      The type of exchange rate to use.
+     * @return A concurrent Collector producing the total in the target currency.
+     * @throws RuntimeException If the target currency, the converter or the rate type is null.
+     */
+    public static Collector<MoneyValue, ?, MoneyValue> summingToConcurrent(Currency target, ConverterClient converter,
+                                                                           ExchangeRateProvider.ExchangeRateType type) {
+        validateTarget(target, converter, type);
+        return new StripedCollector<>(totals -> totals.convertTo(target, converter, type));
+    }
+
+    /**
+     * Validates the arguments of a converting collector.
+     *
+     * @param target    The currency of the total.
+     * @param converter The converter used for the per-currency totals.
+     * @param type      The type of exchange rate to use.
+     * @throws RuntimeException If an argument is null.
+     */
+    private static void validateTarget(Currency target, ConverterClient converter, ExchangeRateProvider.ExchangeRateType type) {
+        if (target == null)
+            throw new RuntimeException(ConstErrorMessages.CURRENCY_NULL);
+        else if (converter == null)
+            throw new RuntimeException(ConstErrorMessages.CONVERTER_NULL);
+        else if (type == null)
+            throw new RuntimeException(ConstErrorMessages.EXCHANGE_RATE_TYPE_NULL);
+    }
+
+    /**
+     * A container of CurrencyTotals stripes, each guarded by its own lock.
+     * Threads pick a stripe by their id, so concurrent accumulation rarely shares a lock.
+     */
+    private static final class StripedTotals {
+        private final CurrencyTotals[] stripes;
+
+        /**
+         * Constructs a container with about two stripes per available processor.
+         */
+        StripedTotals() {
+            int count = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)) << 1;
+            stripes = new CurrencyTotals[count];
+            for (int i = 0; i < count; i++)
+                stripes[i] = new CurrencyTotals();
+        }
+
+        /**
+         * Adds a MoneyValue to the stripe of the calling thread.
+         *
+         * @param value The MoneyValue to add.
+         */
+        void add(MoneyValue value) {
+            CurrencyTotals stripe = stripes[(int) Thread.currentThread().getId() & (stripes.length - 1)];
+            synchronized (stripe) {
+                stripe.add(value);
+            }
+        }
+
+        /**
+         * Merges all stripes into one container. Must only be called once accumulation has finished.
+         *
+         * @return The combined totals.
+         */
+        CurrencyTotals combine() {
+            CurrencyTotals result = new CurrencyTotals();
+            for (CurrencyTotals stripe : stripes) {
+                synchronized (stripe) {
+                    result.merge(stripe);
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * A concurrent Collector accumulating into StripedTotals.
+     *
+     * @param <R> The result type of the collector.
+     */
+    private static final class StripedCollector<R> implements Collector<MoneyValue, StripedTotals, R> {
+        private final Function<CurrencyTotals, R> finisher;
+
+        /**
+         * Constructs a StripedCollector.
+         *
+         * @param finisher The function turning the combined totals into the result.
+         */
+        StripedCollector(Function<CurrencyTotals, R> finisher) {
+            this.finisher = finisher;
+        }
+
+        @Override
+        public Supplier<StripedTotals> supplier() {
+            return StripedTotals::new;
+        }
+
+        @Override
+        public BiConsumer<StripedTotals, MoneyValue> accumulator() {
+            return StripedTotals::add;
+        }
+
+        @Override
+        public BinaryOperator<StripedTotals> combiner() {
+            return (left, right) -> {
+                // Only reached when the stream is not run concurrently
+                CurrencyTotals rightTotals = right.combine();
+                synchronized (left.stripes[0]) {
+                    left.stripes[0].merge(rightTotals);
+                }
+                return left;
+            };
+        }
+
+        @Override
+        public Function<StripedTotals, R> finisher() {
+            return totals -> finisher.apply(totals.combine());
+        }
+
+        @Override
+        public Set<Characteristics> characteristics() {
+            return CONCURRENT;
+        }
+    }
+}
@@ -1,18 +1,26 @@
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
 import java.math.RoundingMode;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Represents a monetary value with a specific currency.
+ * The amount is kept as a long count of hundredths while it fits and is only
+ * promoted to a BigDecimal when an operation overflows the long range.
  */
 public final class MoneyValue implements MoneyValueClient {
-    private BigDecimal amount;
+    // Amount in hundredths, only valid while bigAmount is null
+    private long units;
+    // Amount with two decimal places once it no longer fits into units, null otherwise
+    private BigDecimal bigAmount;
     private final Currency currency;
-    private static final Pattern PATTERN_WITH_CURRENCY_FIRST = Pattern.compile("([$€¥£]|USD|EUR|JPY|GBP)?\\s*([\\d.,]+)");
-    private static final Pattern PATTERN_WITH_AMOUNT_FIRST = Pattern.compile("([\\d.,]+)\\s*([$€¥£]|USD|EUR|JPY|GBP)?");
+    // Marks a compact result that overflowed; Long.MIN_VALUE itself simply takes the BigDecimal path
+    static final long NOT_COMPACT = Long.MIN_VALUE;
+    // Largest magnitude that can still be scaled to hundredths within a long
+    private static final long MAX_SCALABLE = Long.MAX_VALUE / FixedPointMath.UNITS_PER_MAJOR;
+    // Differences at or above this many hundredths are compared through BigDecimal
+    private static final long COMPACT_COMPARE_LIMIT = 1_000_000_000_000_000L;
 
     /**
      * Constructs a MoneyValue object with a double amount and specified currency.
@@ -31,7 +39,14 @@ public final class MoneyValue implements MoneyValueClient {
      * @param currency The currency of the money value.
      */
     public MoneyValue(long v, Currency currency)  {
-        this(new BigDecimal(v), currency);
+        if (currency == null) {
+            throw new RuntimeException(ConstErrorMessages.INVALID_MONEY_VALUE_AS_STRING);
+        }
+        if (fitsScaled(v))
+            this.units = v * FixedPointMath.UNITS_PER_MAJOR;
+        else
+            setAmount(new BigDecimal(v));
+        this.currency = currency;
     }
 
     /**
@@ -44,7 +59,18 @@ public final class MoneyValue implements MoneyValueClient {
         if (amount == null || currency == null) {
             throw new RuntimeException(ConstErrorMessages.INVALID_MONEY_VALUE_AS_STRING);
         }
-        this.amount = amount.setScale(2, RoundingMode.HALF_UP);
+        setAmount(amount);
+        this.currency = currency;
+    }
+
+    /**
+     * Constructs a MoneyValue object from an amount already given in hundredths.
+     *
+     * @param currency The currency of the money value.
+     * @param units    The amount in hundredths.
+     */
+    private MoneyValue(Currency currency, long units) {
+        this.units = units;
         this.currency = currency;
     }
 
@@ -59,135 +85,61 @@ public final class MoneyValue implements MoneyValueClient {
         if (str == null || str.isEmpty())
             throw new RuntimeException(ConstErrorMessages.INVALID_MONEY_VALUE_AS_STRING);
 
-        // First ISO then amount
-        Matcher matcher = PATTERN_WITH_CURRENCY_FIRST.matcher(str);
-        String currencyStr;
-        String amountStr;
-
-        // Extracts currency and amount from the input string.
-        if (!matcher.find() || matcher.group(1) == null || matcher.group(2) == null) {
-            // First amount then ISO
-            matcher = PATTERN_WITH_AMOUNT_FIRST.matcher(str);
-            if (!matcher.find()) {
-                throw new RuntimeException(ConstErrorMessages.INVALID_MONEY_VALUE_AS_STRING);
-            }
-            currencyStr = matcher.group(2);
-            amountStr = matcher.group(1);
-        } else {
-            currencyStr = matcher.group(1);
-            amountStr = matcher.group(2);
-        }
-
-        // Convert String to currency
-        if (currencyStr == null || currencyStr.isEmpty()) {
-            throw new RuntimeException(ConstErrorMessages.INVALID_MONEY_VALUE_AS_STRING);
-        }
-        Currency currency = currencyStr.length() == 3 ? Currency.fromIsoCode(currencyStr) : Currency.fromSymbol(currencyStr.charAt(0));
-
-        BigDecimal unroundedAmount;
-        try {
-            String cleanedAmount = cleanAmount(amountStr);
-            String rightFormatAmount = cleanedAmount.replace(",", ".");
-            unroundedAmount = new BigDecimal(rightFormatAmount);
-        } catch (NumberFormatException e) {
+        MoneyValueParser parser = new MoneyValueParser();
+        if (!parser.parse(str))
             throw new RuntimeException(ConstErrorMessages.INVALID_MONEY_VALUE_AS_STRING);
-        }
 
-        this.amount = unroundedAmount.setScale(2, RoundingMode.HALF_UP);
-        this.currency = currency;
+        if (parser.isCompact())
+            this.units = parser.getUnits();
+        else
+            setAmount(parser.getAmount());
+        this.currency = parser.getCurrency();
     }
 
     /**
-     * Cleans the given amount string by removing invalid characters and ensuring correct decimal format.
-     *
-     * @param amountStr The amount string to clean.
-     * @return The cleaned amount string.
-     */
-    private static String cleanAmount(String amountStr) {
-        String cleanedAmount = amountStr.replaceAll("[^0-9,.]", "");
-        int dotCount = countChar(amountStr, '.');
-        int commaCount = countChar(amountStr, ',');
-
-        if (dotCount == 0 && commaCount == 0) {
-            return cleanedAmount;
-        }
-
-        if (dotCount > 1) {
-            cleanedAmount = cleanedAmount.replace(".", "");
-            return cleanedAmount;
-        } else if (commaCount > 1) {
-            cleanedAmount = cleanedAmount.replace(",", "");
-            return cleanedAmount;
-        }
-
-        int lastNonDigitIndex = getLastNonDigitIndex(amountStr);
-        if (commaCount == 1 && dotCount == 1 && lastNonDigitIndex != -1) {
-            char lastNonDigit = amountStr.charAt(lastNonDigitIndex);
-            if (lastNonDigit == ',') {
-                cleanedAmount = cleanedAmount.replace(".", "");
-            } else if (lastNonDigit == '.') {
-                cleanedAmount = cleanedAmount.replace(",", "");
-            }
-            return cleanedAmount;
-        }
-
-        if (dotCount == 1) {
-            int dotIndex = amountStr.indexOf('.');
-            if (amountStr.length() - dotIndex > 3) {
-                cleanedAmount = cleanedAmount.replace(".", "");
-            }
-        } else if (commaCount == 1) {
-            int commaIndex = amountStr.indexOf(',');
-            if (amountStr.length() - commaIndex > 3) {
-                cleanedAmount = cleanedAmount.replace(",", "");
-            }
-        }
-
-        return cleanedAmount;
-    }
-
-    /**
-     * Gets the index of the last non-digit character in the string.
+     * Returns the currency of this MoneyValue.
      *
-     * @param amountStr The amount string.
-     * @return The index of the last non-digit character, or -1 if none found.
+     * @return The currency.
      */
-    private static int getLastNonDigitIndex(String amountStr) {
-        for (int i = amountStr.length() - 1; i >= 0; i--) {
-            if (!Character.isDigit(amountStr.charAt(i))) {
-                return i;
-            }
-        }
-        return -1;
+    public Currency getCurrency() {
+        return this.currency;
     }
 
     /**
-     * Counts the occurrences of a character in a string.
+     * Returns the amount of this MoneyValue.
      *
-     * @param str The string to search.
-     * @param ch  The character to count.
-     * @return The number of occurrences of the character.
+     * @return The amount.
      */
-    private static int countChar(String str, char ch) {
-        return (int) str.chars().filter(c -> c == ch).count();
+    public BigDecimal getAmount() {
+        BigDecimal big = this.bigAmount;
+        return big != null ? big : FixedPointMath.toAmount(this.units);
     }
 
     /**
-     * Returns the currency of this MoneyValue.
+     * Returns the amount of this MoneyValue in hundredths.
      *
-     * @return The currency.
+     * @return The amount in hundredths.
+     * @throws RuntimeException If the amount does not fit into a long of hundredths.
      */
-    public Currency getCurrency() {
-        return this.currency;
+    long getMinorUnits() {
+        BigDecimal big = this.bigAmount;
+        if (big != null)
+            throw new RuntimeException(ConstErrorMessages.AMOUNT_OVERFLOW);
+        return this.units;
     }
 
     /**
-     * Returns the amount of this MoneyValue.
+     * Creates a MoneyValue from an amount given in hundredths.
      *
-     * @return The amount.
+     * @param minorUnits The amount in hundredths.
+     * @param currency   The currency of the money value.
+     * @return A new MoneyValue.
+     * @throws RuntimeException If the currency is null.
      */
-    public BigDecimal getAmount() {
-        return this.amount;
+    static MoneyValue ofMinorUnits(long minorUnits, Currency currency) {
+        if (currency == null)
+            throw new RuntimeException(ConstErrorMessages.INVALID_MONEY_VALUE_AS_STRING);
+        return new MoneyValue(currency, minorUnits);
     }
 
     /**
@@ -206,7 +158,7 @@ public final class MoneyValue implements MoneyValueClient {
      * @return The amount as a string.
      */
     public String toStringAmount() {
-        return amount.toString();
+        return getAmount().toString();
     }
 
     /**
@@ -237,7 +189,9 @@ public final class MoneyValue implements MoneyValueClient {
     public boolean equals(Object obj) {
         if (this == obj) return true;
         if (!(obj instanceof MoneyValue other)) return false;
-        return this.amount.equals(other.amount) && this.currency.equals(other.currency);
+        if (!this.currency.equals(other.currency)) return false;
+        if (this.isCompact() && other.isCompact()) return this.units == other.units;
+        return this.getAmount().equals(other.getAmount());
     }
 
     /**
@@ -247,7 +201,10 @@ public final class MoneyValue implements MoneyValueClient {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(amount.doubleValue(), currency.getIsoCode());
+        // Same value as Objects.hash(getAmount().doubleValue(), isoCode) without boxing
+        double value = isCompact() && Math.abs(units) < 1L << 52 ?
+                (double) units / FixedPointMath.UNITS_PER_MAJOR : getAmount().doubleValue();
+        return 31 * (31 + Double.hashCode(value)) + Objects.hashCode(currency.getIsoCode());
     }
 
     /**
@@ -269,12 +226,41 @@ public final class MoneyValue implements MoneyValueClient {
         if(this == other) return 0;
         if(other == null) return -1;
 
-        if(!this.amount.equals(other.getAmount()))
-            return other.getAmount().subtract(this.amount).round(new MathContext(2, RoundingMode.UP)).intValue();
+        if(this.isCompact() && other.isCompact()) {
+            if (this.units != other.units) {
+                long diff = subtractUnits(other.units, this.units);
+                // Overflow or a difference too large to round up safely falls through to BigDecimal
+                if (diff > -COMPACT_COMPARE_LIMIT && diff < COMPACT_COMPARE_LIMIT)
+                    return roundedDifference(diff);
+                return other.getAmount().subtract(this.getAmount()).round(new MathContext(2, RoundingMode.UP)).intValue();
+            }
+        } else if(!this.getAmount().equals(other.getAmount())) {
+            return other.getAmount().subtract(this.getAmount()).round(new MathContext(2, RoundingMode.UP)).intValue();
+        }
 
         return this.currency.compareTo(other.currency);
     }
 
+    /**
+     * Rounds a difference given in hundredths to two significant digits (away from zero)
+     * and returns its integer part, exactly like the BigDecimal path of compareTo.
+     *
+     * @param diff The difference in hundredths, with an absolute value below COMPACT_COMPARE_LIMIT.
+     * @return The integer part of the rounded difference.
+     */
+    private static int roundedDifference(long diff) {
+        long abs = Math.abs(diff);
+        if (abs < FixedPointMath.UNITS_PER_MAJOR)
+            return 0;
+
+        long step = 1;
+        while (abs / step >= 100)
+            step *= 10;
+        long rounded = (abs + step - 1) / step * step;
+        long integerPart = rounded / FixedPointMath.UNITS_PER_MAJOR;
+        return (int) (diff < 0 ? -integerPart : integerPart);
+    }
+
     /**
      * Adds another MoneyValue to this MoneyValue.
      *
@@ -283,7 +269,11 @@ public final class MoneyValue implements MoneyValueClient {
      */
     synchronized public MoneyValue add(MoneyValue other) {
         validateForOperation(this, other);
-        setAmount(this.amount.add(other.amount));
+        long result = this.isCompact() && other.isCompact() ? addUnits(this.units, other.units) : NOT_COMPACT;
+        if (result != NOT_COMPACT)
+            this.units = result;
+        else
+            setAmount(this.getAmount().add(other.getAmount()));
         return this;
     }
 
@@ -295,7 +285,11 @@ public final class MoneyValue implements MoneyValueClient {
      */
     synchronized public MoneyValue subtract(MoneyValue other) {
         validateForOperation(this, other);
-        setAmount(this.amount.subtract(other.amount));
+        long result = this.isCompact() && other.isCompact() ? subtractUnits(this.units, other.units) : NOT_COMPACT;
+        if (result != NOT_COMPACT)
+            this.units = result;
+        else
+            setAmount(this.getAmount().subtract(other.getAmount()));
         return this;
     }
 
@@ -307,7 +301,11 @@ public final class MoneyValue implements MoneyValueClient {
      */
     synchronized public MoneyValue multiply(MoneyValue other) {
         validateForOperation(this, other);
-        setAmount(this.amount.multiply(other.amount));
+        long result = this.isCompact() && other.isCompact() ? multiplyUnits(this.units, other.units) : NOT_COMPACT;
+        if (result != NOT_COMPACT)
+            this.units = result;
+        else
+            setAmount(this.getAmount().multiply(other.getAmount()));
         return this;
     }
 
@@ -319,14 +317,138 @@ public final class MoneyValue implements MoneyValueClient {
      * @throws RuntimeException If the other MoneyValue amount is zero.
      */
     synchronized public MoneyValue divide(MoneyValue other) {
-        if (other.amount.compareTo(BigDecimal.ZERO) == 0) {
+        if (other.isZero()) {
             throw new RuntimeException(ConstErrorMessages.DIVIDE_BY_ZERO);
         }
         validateForOperation(this, other);
-        setAmount(this.amount.divide(other.amount, 2, RoundingMode.HALF_UP));
+        long result = this.isCompact() && other.isCompact() ? divideUnits(this.units, other.units) : NOT_COMPACT;
+        if (result != NOT_COMPACT)
+            this.units = result;
+        else
+            setAmount(this.getAmount().divide(other.getAmount(), 2, RoundingMode.HALF_UP));
         return this;
     }
 
+    /**
+     * Returns an immutable copy of this MoneyValue.
+     * The copy is taken under the same monitor as the mutating operations, so it never mixes an old and a new amount.
+     *
+     * @return An ImmutableMoneyValue with the current amount and currency.
+     */
+    synchronized public ImmutableMoneyValue toImmutable() {
+        return new ImmutableMoneyValue(this.currency, this.units, this.bigAmount);
+    }
+
+    /**
+     * Returns the sum of this MoneyValue and another one as an ImmutableMoneyValue.
+     * Neither operand is modified; each is read once through toImmutable.
+     *
+     * @param other The MoneyValue to add.
+     * @return A new ImmutableMoneyValue holding the sum.
+     */
+    public ImmutableMoneyValue plus(MoneyValue other) {
+        return toImmutable().plus(immutableOf(other));
+    }
+
+    /**
+     * Returns the difference of this MoneyValue and another one as an ImmutableMoneyValue.
+     * Neither operand is modified; each is read once through toImmutable.
+     *
+     * @param other The MoneyValue to subtract.
+     * @return A new ImmutableMoneyValue holding the difference.
+     */
+    public ImmutableMoneyValue minus(MoneyValue other) {
+        return toImmutable().minus(immutableOf(other));
+    }
+
+    /**
+     * Returns the product of this MoneyValue and another one as an ImmutableMoneyValue.
+     * Neither operand is modified; each is read once through toImmutable.
+     *
+     * @param other The MoneyValue to multiply by.
+     * @return A new ImmutableMoneyValue holding the product.
+     */
+    public ImmutableMoneyValue times(MoneyValue other) {
+        return toImmutable().times(immutableOf(other));
+    }
+
+    /**
+     * Returns the quotient of this MoneyValue and another one as an ImmutableMoneyValue.
+     * Neither operand is modified; each is read once through toImmutable.
+     *
+     * @param other The MoneyValue to divide by.
+     * @return A new ImmutableMoneyValue holding the quotient.
+     * @throws RuntimeException If the other MoneyValue amount is zero.
+     */
+    public ImmutableMoneyValue dividedBy(MoneyValue other) {
+        return toImmutable().dividedBy(immutableOf(other));
+    }
+
+    /**
+     * Returns an immutable copy of an operand.
+     *
+     * @param mv The operand.
+     * @return The immutable copy.
+     * @throws RuntimeException If the operand is null.
+     */
+    private static ImmutableMoneyValue immutableOf(MoneyValue mv) {
+        if (mv == null)
+            throw new RuntimeException(ConstErrorMessages.INVALID_MONEY_VALUE_AS_STRING);
+        return mv.toImmutable();
+    }
+
+    /**
+     * Adds two amounts given in hundredths.
+     *
+     * @param a The first amount.
+     * @param b The second amount.
+     * @return The sum, or NOT_COMPACT if it does not fit into a long.
+     */
+    static long addUnits(long a, long b) {
+        long sum = a + b;
+        return ((a ^ sum) & (b ^ sum)) < 0 ? NOT_COMPACT : sum;
+    }
+
+    /**
+     * Subtracts two amounts given in hundredths.
+     *
+     * @param a The minuend.
+     * @param b The subtrahend.
+     * @return The difference, or NOT_COMPACT if it does not fit into a long.
+     */
+    static long subtractUnits(long a, long b) {
+        long difference = a - b;
+        return ((a ^ b) & (a ^ difference)) < 0 ? NOT_COMPACT : difference;
+    }
+
+    /**
+     * Multiplies two amounts given in hundredths and rounds the product to hundredths.
+     *
+     * @param a The first amount.
+     * @param b The second amount.
+     * @return The rounded product, or NOT_COMPACT if the intermediate product does not fit into a long.
+     */
+    static long multiplyUnits(long a, long b) {
+        long high = Math.multiplyHigh(a, b);
+        long product = a * b;
+        if ((high != 0 || product < 0) && (high != -1 || product >= 0))
+            return NOT_COMPACT;
+        return FixedPointMath.divideHalfUp(product, FixedPointMath.UNITS_PER_MAJOR);
+    }
+
+    /**
+     * Divides two amounts given in hundredths and rounds the quotient to hundredths.
+     *
+     * @param a The dividend.
+     * @param b The divisor, must not be zero.
+     * @return The rounded quotient, or NOT_COMPACT if the scaled dividend does not fit into a long.
+     */
+    static long divideUnits(long a, long b) {
+        if (!fitsScaled(a))
+            return NOT_COMPACT;
+        return FixedPointMath.divideHalfUp(a * FixedPointMath.UNITS_PER_MAJOR, b);
+    }
+
     /**
      * Validates if two MoneyValue objects can be used in arithmetic operations.
      *
@@ -344,7 +466,37 @@ public final class MoneyValue implements MoneyValueClient {
     }
 
     /**
-     * Sets the amount of this MoneyValue.
+     * Checks if the amount of this MoneyValue is held in the compact long representation.
+     *
+     * @return true if the amount is stored as hundredths in a long, false if it is a BigDecimal.
+     */
+    boolean isCompact() {
+        return this.bigAmount == null;
+    }
+
+    /**
+     * Checks if a value can be multiplied by one hundred without overflowing a long.
+     *
+     * @param v The value to check.
+     * @return true if v * 100 fits into a long, false otherwise.
+     */
+    private static boolean fitsScaled(long v) {
+        return v > -MAX_SCALABLE && v < MAX_SCALABLE;
+    }
+
+    /**
+     * Checks if the amount of this MoneyValue is zero.
+     *
+     * @return true if the amount is zero, false otherwise.
+     */
+    private boolean isZero() {
+        BigDecimal big = this.bigAmount;
+        return big != null ? big.signum() == 0 : this.units == 0;
+    }
+
+    /**
+     * Sets the amount of this MoneyValue, rounded to two decimal places.
+     * The amount is stored compactly as hundredths whenever it fits into a long.
      *
      * @param amount The amount to set.
      * @throws RuntimeException If the amount is null.
@@ -353,6 +505,13 @@ public final class MoneyValue implements MoneyValueClient {
         if (amount == null) {
             throw new RuntimeException(ConstErrorMessages.AMOUNT_NULL);
         }
-        this.amount = amount.setScale(2, RoundingMode.HALF_UP);
+        BigDecimal rounded = amount.setScale(2, RoundingMode.HALF_UP);
+        BigInteger unscaled = rounded.unscaledValue();
+        if (unscaled.bitLength() < Long.SIZE) {
+            this.units = unscaled.longValue();
+            this.bigAmount = null;
+        } else {
+            this.bigAmount = rounded;
+        }
     }
 }
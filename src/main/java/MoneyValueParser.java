@@ -0,0 +1,609 @@
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Parses money values such as "$1,200.00", "1.200,00 €" or "USD 100" without regular expressions.
+ * The input is scanned in place and no intermediate Strings are created; the parsed amount is kept
+ * as a long of hundredths unless it is too large, in which case a BigDecimal is built.
+ * UTF-8 encoded input can be parsed straight from byte arrays or buffers without decoding it first.
+ * A parser instance is not thread-safe, but can be reused for any number of inputs.
+ */
+public final class MoneyValueParser {
+    /**
+     * Status of a successfully parsed input.
+     */
+    public static final int STATUS_OK = 0;
+
+    /**
+     * Status of a null or empty input.
+     */
+    public static final int STATUS_EMPTY = 1;
+
+    /**
+     * Status of an input without any digits or separators.
+     */
+    public static final int STATUS_NO_AMOUNT = 2;
+
+    /**
+     * Status of an input without a currency symbol or ISO code next to the amount.
+     */
+    public static final int STATUS_NO_CURRENCY = 3;
+
+    /**
+     * Status of an input whose amount is not a valid number, e.g. "1.2.3,4,5".
+     */
+    public static final int STATUS_INVALID_AMOUNT = 4;
+
+    // Integer parts at or above this value are handed to BigDecimal instead of the long accumulator
+    private static final long INTEGER_PART_LIMIT = Long.MAX_VALUE / 1000;
+    private static final Currency[] CURRENCIES = Currency.values();
+    private static final byte[][] SYMBOLS_UTF8 = new byte[CURRENCIES.length][];
+
+    static {
+        for (Currency currency : CURRENCIES)
+            SYMBOLS_UTF8[currency.ordinal()] = currency.getSymbol().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Returned by decimalIndex when the separators cannot form a number
+    private static final int INVALID = -2;
+
+    private int status;
+    private Currency currency;
+    private long units;
+    private BigDecimal bigAmount;
+
+    // Digit accumulator of the amount currently being parsed
+    private long integerPart;
+    private long fraction;
+    private int fractionDigits;
+    private boolean roundUp;
+    private boolean hasDigit;
+
+    // Reused copy target for buffers without an accessible backing array
+    private byte[] scratch = new byte[0];
+
+    /**
+     * Parses the given text.
+     *
+     * @param text The text to parse.
+     * @return true if the text is a valid money value, false otherwise.
+     */
+    public boolean parse(CharSequence text) {
+        if (text == null) {
+            reset();
+            return fail(STATUS_EMPTY);
+        }
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Parses the characters between from (inclusive) and to (exclusive) of the given text.
+     * Accepts the same inputs as the MoneyValue(String) constructor: a currency symbol or ISO code
+     * either before or after an amount that may use ',' or '.' as decimal or grouping separator.
+     *
+     * @param text The text to parse.
+     * @param from The index of the first character to parse.
+     * @param to   The index after the last character to parse.
+     * @return true if the text is a valid money value, false otherwise.
+     */
+    public boolean parse(CharSequence text, int from, int to) {
+        reset();
+        if (from >= to)
+            return fail(STATUS_EMPTY);
+
+        // The amount is the first run of digits and separators
+        int amountStart = from;
+        while (amountStart < to && !isAmountChar(text.charAt(amountStart)))
+            amountStart++;
+        if (amountStart == to)
+            return fail(STATUS_NO_AMOUNT);
+        int amountEnd = amountStart;
+        while (amountEnd < to && isAmountChar(text.charAt(amountEnd)))
+            amountEnd++;
+
+        // A currency counts as leading only if nothing but whitespace separates it from the amount
+        int currencyEnd = amountStart;
+        while (currencyEnd > from && isWhitespace(text.charAt(currencyEnd - 1)))
+            currencyEnd--;
+        Currency found = currencyEndingAt(text, from, currencyEnd);
+        if (found == null) {
+            int currencyStart = amountEnd;
+            while (currencyStart < to && isWhitespace(text.charAt(currencyStart)))
+                currencyStart++;
+            found = currencyStartingAt(text, currencyStart, to);
+        }
+        if (found == null)
+            return fail(STATUS_NO_CURRENCY);
+
+        currency = found;
+        return parseAmount(text, amountStart, amountEnd) || fail(STATUS_INVALID_AMOUNT);
+    }
+
+    /**
+     * Parses UTF-8 encoded text from a byte array without decoding it into a String.
+     * Accepts exactly the inputs that parse(CharSequence) accepts for the decoded text.
+     *
+     * @param buffer The bytes to parse.
+     * @param offset The index of the first byte to parse.
+     * @param length The number of bytes to parse.
+     * @return true if the bytes are a valid money value, false otherwise.
+     */
+    public boolean parse(byte[] buffer, int offset, int length) {
+        reset();
+        if (length <= 0)
+            return fail(STATUS_EMPTY);
+        int to = offset + length;
+
+        int amountStart = offset;
+        while (amountStart < to && !isAmountChar((char) buffer[amountStart]))
+            amountStart++;
+        if (amountStart == to)
+            return fail(STATUS_NO_AMOUNT);
+        int amountEnd = amountStart;
+        while (amountEnd < to && isAmountChar((char) buffer[amountEnd]))
+            amountEnd++;
+
+        int currencyEnd = amountStart;
+        while (currencyEnd > offset && isWhitespace((char) buffer[currencyEnd - 1]))
+            currencyEnd--;
+        Currency found = currencyEndingAt(buffer, offset, currencyEnd);
+        if (found == null) {
+            int currencyStart = amountEnd;
+            while (currencyStart < to && isWhitespace((char) buffer[currencyStart]))
+                currencyStart++;
+            found = currencyStartingAt(buffer, currencyStart, to);
+        }
+        if (found == null)
+            return fail(STATUS_NO_CURRENCY);
+
+        currency = found;
+        return parseAmount(buffer, amountStart, amountEnd) || fail(STATUS_INVALID_AMOUNT);
+    }
+
+    /**
+     * Parses UTF-8 encoded text from a ByteBuffer without decoding it into a String.
+     * The buffer's position and limit are left unchanged.
+     *
+     * @param buffer The buffer to parse, e.g. a slice of a memory-mapped file.
+     * @param offset The absolute index of the first byte to parse.
+     * @param length The number of bytes to parse.
+     * @return true if the bytes are a valid money value, false otherwise.
+     */
+    public boolean parse(ByteBuffer buffer, int offset, int length) {
+        if (buffer.hasArray())
+            return parse(buffer.array(), buffer.arrayOffset() + offset, length);
+
+        if (scratch.length < length)
+            scratch = new byte[length];
+        buffer.get(offset, scratch, 0, length);
+        return parse(scratch, 0, length);
+    }
+
+    /**
+     * Parses the given text without throwing on invalid input.
+     *
+     * @param text The text to parse.
+     * @return A new MoneyValue, or null if the text is not a valid money value.
+     */
+    public static MoneyValue tryParse(CharSequence text) {
+        MoneyValueParser parser = new MoneyValueParser();
+        return parser.parse(text) ? parser.toMoneyValue() : null;
+    }
+
+    /**
+     * Parses every row of the given list without throwing on invalid rows.
+     * For each row i, values[i] receives the parsed MoneyValue (or null) and statuses[i]
+     * receives STATUS_OK or the reason the row was rejected.
+     *
+     * @param rows     The rows to parse.
+     * @param values   The array receiving the parsed values, at least as long as rows.
+     * @param statuses The array receiving the status codes, at least as long as rows.
+     * @return The number of rows that could not be parsed.
+     */
+    public int parseAll(List<? extends CharSequence> rows, MoneyValue[] values, int[] statuses) {
+        int failures = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            boolean parsed = parse(rows.get(i));
+            values[i] = parsed ? toMoneyValue() : null;
+            statuses[i] = status;
+            if (!parsed)
+                failures++;
+        }
+        return failures;
+    }
+
+    /**
+     * Returns the status of the last parsed input.
+     *
+     * @return STATUS_OK if the last input was valid, otherwise the reason it was rejected.
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the currency of the last successfully parsed input.
+     *
+     * @return The currency, or null if the last input was invalid.
+     */
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    /**
+     * Returns the amount of the last successfully parsed input, rounded to two decimal places.
+     *
+     * @return The amount.
+     */
+    public BigDecimal getAmount() {
+        return bigAmount != null ? bigAmount : FixedPointMath.toAmount(units);
+    }
+
+    /**
+     * Creates a MoneyValue from the last successfully parsed input.
+     *
+     * @return A new MoneyValue.
+     */
+    public MoneyValue toMoneyValue() {
+        return new MoneyValue(getAmount(), currency);
+    }
+
+    /**
+     * Checks if the last parsed amount fits into a long of hundredths.
+     *
+     * @return true if the amount is available from getUnits(), false if only from getAmount().
+     */
+    boolean isCompact() {
+        return bigAmount == null;
+    }
+
+    /**
+     * Returns the last parsed amount in hundredths, valid only while isCompact() is true.
+     *
+     * @return The amount in hundredths.
+     */
+    long getUnits() {
+        return units;
+    }
+
+    /**
+     * Clears the result of the previous input.
+     */
+    private void reset() {
+        status = STATUS_OK;
+        currency = null;
+        bigAmount = null;
+        units = 0;
+    }
+
+    /**
+     * Records why the current input was rejected.
+     *
+     * @param failure The status code describing the failure.
+     * @return Always false, so callers can return the result directly.
+     */
+    private boolean fail(int failure) {
+        status = failure;
+        currency = null;
+        return false;
+    }
+
+    /**
+     * Parses the amount run between start and end, which only contains digits, '.' and ','.
+     *
+     * @param text  The text containing the amount.
+     * @param start The index of the first amount character.
+     * @param end   The index after the last amount character.
+     * @return true if the amount is a valid number, false otherwise.
+     */
+    private boolean parseAmount(CharSequence text, int start, int end) {
+        int dotCount = 0;
+        int commaCount = 0;
+        int firstDot = -1;
+        int firstComma = -1;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c == '.') {
+                if (dotCount++ == 0) firstDot = i;
+            } else if (c == ',') {
+                if (commaCount++ == 0) firstComma = i;
+            }
+        }
+        int decimalIndex = decimalIndex(dotCount, commaCount, firstDot, firstComma, end);
+        if (decimalIndex == INVALID)
+            return false;
+
+        startAmount();
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9' && !appendDigit(c - '0', decimalIndex < 0 || i < decimalIndex)) {
+                char[] digits = new char[end - start];
+                for (int j = start; j < end; j++)
+                    digits[j - start] = text.charAt(j);
+                return parseBigAmount(digits, end - start, decimalIndex - start);
+            }
+        }
+        return finishAmount();
+    }
+
+    /**
+     * Parses the amount run between start and end of a byte array, which only contains digits, '.' and ','.
+     *
+     * @param buffer The bytes containing the amount.
+     * @param start  The index of the first amount byte.
+     * @param end    The index after the last amount byte.
+     * @return true if the amount is a valid number, false otherwise.
+     */
+    private boolean parseAmount(byte[] buffer, int start, int end) {
+        int dotCount = 0;
+        int commaCount = 0;
+        int firstDot = -1;
+        int firstComma = -1;
+        for (int i = start; i < end; i++) {
+            byte b = buffer[i];
+            if (b == '.') {
+                if (dotCount++ == 0) firstDot = i;
+            } else if (b == ',') {
+                if (commaCount++ == 0) firstComma = i;
+            }
+        }
+        int decimalIndex = decimalIndex(dotCount, commaCount, firstDot, firstComma, end);
+        if (decimalIndex == INVALID)
+            return false;
+
+        startAmount();
+        for (int i = start; i < end; i++) {
+            byte b = buffer[i];
+            if (b >= '0' && b <= '9' && !appendDigit(b - '0', decimalIndex < 0 || i < decimalIndex)) {
+                char[] digits = new char[end - start];
+                for (int j = start; j < end; j++)
+                    digits[j - start] = (char) buffer[j];
+                return parseBigAmount(digits, end - start, decimalIndex - start);
+            }
+        }
+        return finishAmount();
+    }
+
+    /**
+     * Works out which separator of an amount run is the decimal separator.
+     * Mirrors the former regex-based cleaning: repeated separators are grouping, with one of each
+     * the last one is decimal, and a single separator followed by three or more digits is grouping.
+     *
+     * @param dotCount   The number of '.' in the amount.
+     * @param commaCount The number of ',' in the amount.
+     * @param firstDot   The index of the first '.', or -1.
+     * @param firstComma The index of the first ',', or -1.
+     * @param end        The index after the last amount character.
+     * @return The index of the decimal separator, -1 if there is none, or INVALID.
+     */
+    private static int decimalIndex(int dotCount, int commaCount, int firstDot, int firstComma, int end) {
+        if (dotCount > 1)
+            return commaCount > 1 ? INVALID : firstComma;
+        if (commaCount > 1)
+            return firstDot;
+        if (dotCount == 1 && commaCount == 1)
+            return Math.max(firstDot, firstComma);
+        if (dotCount == 1)
+            return end - firstDot > 3 ? -1 : firstDot;
+        if (commaCount == 1)
+            return end - firstComma > 3 ? -1 : firstComma;
+        return -1;
+    }
+
+    /**
+     * Resets the digit accumulator before an amount is parsed.
+     */
+    private void startAmount() {
+        integerPart = 0;
+        fraction = 0;
+        fractionDigits = 0;
+        roundUp = false;
+        hasDigit = false;
+    }
+
+    /**
+     * Appends one digit to the amount being parsed.
+     * Only the first three fraction digits matter for rounding to hundredths HALF_UP.
+     *
+     * @param digit   The digit value.
+     * @param integer true if the digit belongs to the integer part.
+     * @return false if the integer part grew too large for the long accumulator.
+     */
+    private boolean appendDigit(int digit, boolean integer) {
+        hasDigit = true;
+        if (integer) {
+            if (integerPart >= INTEGER_PART_LIMIT)
+                return false;
+            integerPart = integerPart * 10 + digit;
+        } else if (fractionDigits < 2) {
+            fraction = fraction * 10 + digit;
+            fractionDigits++;
+        } else if (fractionDigits == 2) {
+            roundUp = digit >= 5;
+            fractionDigits++;
+        }
+        return true;
+    }
+
+    /**
+     * Completes the accumulated amount and stores it in hundredths.
+     *
+     * @return true if at least one digit was seen, false otherwise.
+     */
+    private boolean finishAmount() {
+        if (!hasDigit)
+            return false;
+        for (int i = fractionDigits; i < 2; i++)
+            fraction *= 10;
+        units = integerPart * FixedPointMath.UNITS_PER_MAJOR + fraction + (roundUp ? 1 : 0);
+        return true;
+    }
+
+    /**
+     * Builds the amount as a BigDecimal when its integer part is too large for the long accumulator.
+     *
+     * @param amount       The characters of the amount run, only digits, '.' and ','.
+     * @param length       The number of characters in the amount run.
+     * @param decimalIndex The index of the decimal separator within the run, or a negative value if there is none.
+     * @return true, since the caller has already seen digits in the amount.
+     */
+    private boolean parseBigAmount(char[] amount, int length, int decimalIndex) {
+        int digits = 0;
+        for (int i = 0; i < length; i++) {
+            if (i == decimalIndex)
+                amount[digits++] = '.';
+            else if (amount[i] >= '0' && amount[i] <= '9')
+                amount[digits++] = amount[i];
+        }
+        bigAmount = new BigDecimal(amount, 0, digits).setScale(2, RoundingMode.HALF_UP);
+        return true;
+    }
+
+    /**
+     * Finds a currency symbol or ISO code that ends right before the given index.
+     *
+     * @param text The text to search.
+     * @param from The first index the currency may start at.
+     * @param end  The index the currency must end at.
+     * @return The currency, or null if none ends there.
+     */
+    private static Currency currencyEndingAt(CharSequence text, int from, int end) {
+        if (end - 3 >= from) {
+            Currency iso = isoCodeAt(text, end - 3);
+            if (iso != null)
+                return iso;
+        }
+        return end - 1 >= from ? symbolAt(text.charAt(end - 1)) : null;
+    }
+
+    /**
+     * Finds a currency symbol or ISO code that starts at the given index.
+     *
+     * @param text  The text to search.
+     * @param start The index the currency must start at.
+     * @param to    The index after the last character that may be read.
+     * @return The currency, or null if none starts there.
+     */
+    private static Currency currencyStartingAt(CharSequence text, int start, int to) {
+        if (start >= to)
+            return null;
+        Currency symbol = symbolAt(text.charAt(start));
+        if (symbol != null)
+            return symbol;
+        return start + 3 <= to ? isoCodeAt(text, start) : null;
+    }
+
+    /**
+     * Finds a UTF-8 encoded currency symbol or ISO code that ends right before the given index.
+     *
+     * @param buffer The bytes to search.
+     * @param from   The first index the currency may start at.
+     * @param end    The index the currency must end at.
+     * @return The currency, or null if none ends there.
+     */
+    private static Currency currencyEndingAt(byte[] buffer, int from, int end) {
+        if (end - 3 >= from) {
+            Currency iso = isoCodeAt(buffer, end - 3);
+            if (iso != null)
+                return iso;
+        }
+        for (Currency currency : CURRENCIES) {
+            byte[] symbol = SYMBOLS_UTF8[currency.ordinal()];
+            if (end - symbol.length >= from && bytesAt(buffer, end - symbol.length, symbol))
+                return currency;
+        }
+        return null;
+    }
+
+    /**
+     * Finds a UTF-8 encoded currency symbol or ISO code that starts at the given index.
+     *
+     * @param buffer The bytes to search.
+     * @param start  The index the currency must start at.
+     * @param to     The index after the last byte that may be read.
+     * @return The currency, or null if none starts there.
+     */
+    private static Currency currencyStartingAt(byte[] buffer, int start, int to) {
+        for (Currency currency : CURRENCIES) {
+            byte[] symbol = SYMBOLS_UTF8[currency.ordinal()];
+            if (start + symbol.length <= to && bytesAt(buffer, start, symbol))
+                return currency;
+        }
+        return start + 3 <= to ? isoCodeAt(buffer, start) : null;
+    }
+
+    /**
+     * Looks up the currency whose three-letter ISO code starts at the given index of a byte array.
+     *
+     * @param buffer The bytes to search.
+     * @param start  The index of the first letter, at least three bytes must be readable.
+     * @return The currency, or null if there is no ISO code at that position.
+     */
+    private static Currency isoCodeAt(byte[] buffer, int start) {
+        return Currency.fromPackedCode(IsoCurrencyRegistry.pack((char) buffer[start], (char) buffer[start + 1], (char) buffer[start + 2]));
+    }
+
+    /**
+     * Checks if the given bytes occur at an index of a byte array.
+     *
+     * @param buffer The bytes to search.
+     * @param start  The index to compare at, enough bytes must be readable.
+     * @param bytes  The bytes to look for.
+     * @return true if the bytes occur at start, false otherwise.
+     */
+    private static boolean bytesAt(byte[] buffer, int start, byte[] bytes) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (buffer[start + i] != bytes[i])
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Looks up the currency whose symbol is the given character.
+     *
+     * @param c The character to look up.
+     * @return The currency, or null if the character is not a currency symbol.
+     */
+    private static Currency symbolAt(char c) {
+        for (Currency currency : CURRENCIES) {
+            if (currency.getSymbol().charAt(0) == c)
+                return currency;
+        }
+        return null;
+    }
+
+    /**
+     * Looks up the currency whose three-letter ISO code starts at the given index.
+     *
+     * @param text  The text to search.
+     * @param start The index of the first letter, at least three characters must be readable.
+     * @return The currency, or null if there is no ISO code at that position.
+     */
+    private static Currency isoCodeAt(CharSequence text, int start) {
+        return Currency.fromPackedCode(IsoCurrencyRegistry.pack(text.charAt(start), text.charAt(start + 1), text.charAt(start + 2)));
+    }
+
+    /**
+     * Checks if a character can be part of an amount.
+     *
+     * @param c The character to check.
+     * @return true for digits, '.' and ','.
+     */
+    private static boolean isAmountChar(char c) {
+        return (c >= '0' && c <= '9') || c == '.' || c == ',';
+    }
+
+    /**
+     * Checks if a character is whitespace in the sense of the regex class \s.
+     *
+     * @param c The character to check.
+     * @return true for space, tab, line feed, vertical tab, form feed and carriage return.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
+}
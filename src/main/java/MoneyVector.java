@@ -0,0 +1,423 @@
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+
+/**
+ * A columnar container for large numbers of monetary values.
+ * Amounts are stored as a primitive long[] of hundredths next to a byte[] of Currency ordinals,
+ * so holding millions of amounts costs nine bytes each instead of a MoneyValue, BigDecimal and BigInteger.
+ * Aggregations and conversions run directly over the primitive arrays; MoneyValue objects are only
+ * created at the edges. When the build includes the SIMD kernels of MoneyVectorSimd (mvn -Pvector) and the
+ * jdk.incubator.vector module is enabled (--add-modules jdk.incubator.vector), per-currency sums and
+ * conversions use those kernels, which give identical results.
+ * A MoneyVector is not thread-safe.
+ */
+public final class MoneyVector {
+    private static final Currency[] CURRENCIES = Currency.values();
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final MoneyVectorKernels SIMD = loadSimdKernels();
+    private static final boolean VECTORIZED = SIMD != null;
+
+    private long[] units;
+    private byte[] currencies;
+    private int size;
+
+    /**
+     * Constructs an empty MoneyVector.
+     */
+    public MoneyVector() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty MoneyVector with room for the given number of amounts.
+     *
+     * @param initialCapacity The number of amounts the vector can hold before growing.
+     */
+    public MoneyVector(int initialCapacity) {
+        this.units = new long[Math.max(initialCapacity, 1)];
+        this.currencies = new byte[this.units.length];
+    }
+
+    /**
+     * Constructs a MoneyVector holding the given MoneyValues in iteration order.
+     *
+     * @param values The MoneyValues to store.
+     * @throws RuntimeException If a value is null or its amount does not fit into a long of hundredths.
+     */
+    public MoneyVector(Collection<MoneyValue> values) {
+        this(values.size());
+        for (MoneyValue value : values)
+            add(value);
+    }
+
+    /**
+     * Constructs a MoneyVector around existing arrays without copying them.
+     *
+     * @param units      The amounts in hundredths.
+     * @param currencies The currency ordinals of the amounts.
+     * @param size       The number of amounts in use.
+     */
+    private MoneyVector(long[] units, byte[] currencies, int size) {
+        this.units = units;
+        this.currencies = currencies;
+        this.size = size;
+    }
+
+    /**
+     * Returns whether bulk operations run on the SIMD kernels of the Vector API.
+     *
+     * @return true if the SIMD kernels are compiled in and the jdk.incubator.vector module is enabled.
+     */
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    /**
+     * Returns the SIMD kernels.
+     *
+     * @return The kernels, or null if bulk operations stay on the scalar loops.
+     */
+    static MoneyVectorKernels simdKernels() {
+        return SIMD;
+    }
+
+    /**
+     * Loads the SIMD kernels if they were compiled in and the module they need is enabled.
+     *
+     * @return The kernels, or null if they are not available.
+     */
+    private static MoneyVectorKernels loadSimdKernels() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty())
+            return null;
+        try {
+            return (MoneyVectorKernels) Class.forName("MoneyVectorSimd").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Built without the vector profile
+            return null;
+        }
+    }
+
+    /**
+     * Appends a MoneyValue to this vector.
+     *
+     * @param value The MoneyValue to append.
+     * @throws RuntimeException If the value is null or its amount does not fit into a long of hundredths.
+     */
+    public void add(MoneyValue value) {
+        if (value == null)
+            throw new RuntimeException(ConstErrorMessages.MONEY_VALUE_NULL);
+        add(value.getMinorUnits(), value.getCurrency());
+    }
+
+    /**
+     * Appends an amount given in hundredths to this vector.
+     *
+     * @param minorUnits The amount in hundredths.
+     * @param currency   The currency of the amount.
+     * @throws RuntimeException If the currency is null.
+     */
+    public void add(long minorUnits, Currency currency) {
+        if (currency == null)
+            throw new RuntimeException(ConstErrorMessages.CURRENCY_NULL);
+        if (size == units.length) {
+            int capacity = units.length * 2;
+            units = Arrays.copyOf(units, capacity);
+            currencies = Arrays.copyOf(currencies, capacity);
+        }
+        units[size] = minorUnits;
+        currencies[size] = (byte) currency.ordinal();
+        size++;
+    }
+
+    /**
+     * Returns the number of amounts in this vector.
+     *
+     * @return The number of amounts.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the amount at the given index in hundredths.
+     *
+     * @param index The index of the amount.
+     * @return The amount in hundredths.
+     */
+    public long getMinorUnits(int index) {
+        checkIndex(index);
+        return units[index];
+    }
+
+    /**
+     * Returns the currency of the amount at the given index.
+     *
+     * @param index The index of the amount.
+     * @return The currency.
+     */
+    public Currency getCurrency(int index) {
+        checkIndex(index);
+        return CURRENCIES[currencies[index]];
+    }
+
+    /**
+     * Returns the amount at the given index as a new MoneyValue.
+     *
+     * @param index The index of the amount.
+     * @return A new MoneyValue.
+     */
+    public MoneyValue get(int index) {
+        checkIndex(index);
+        return MoneyValue.ofMinorUnits(units[index], CURRENCIES[currencies[index]]);
+    }
+
+    /**
+     * Creates a MoneyValue for every amount in this vector.
+     *
+     * @return A new list of MoneyValues in vector order.
+     */
+    public List<MoneyValue> toList() {
+        List<MoneyValue> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            values.add(MoneyValue.ofMinorUnits(units[i], CURRENCIES[currencies[i]]));
+        return values;
+    }
+
+    /**
+     * Sums all amounts of the given currency. The sum is exact even if it exceeds the long range.
+     *
+     * @param currency The currency to sum.
+     * @return The sum as a MoneyValue, zero if the vector holds no amounts in that currency.
+     * @throws RuntimeException If the currency is null.
+     */
+    public MoneyValue sum(Currency currency) {
+        if (currency == null)
+            throw new RuntimeException(ConstErrorMessages.CURRENCY_NULL);
+        if (VECTORIZED) {
+            long[] sums = new long[CURRENCIES.length];
+            if (SIMD.sumByCurrency(units, currencies, size, sums, new boolean[CURRENCIES.length]))
+                return MoneyValue.ofMinorUnits(sums[currency.ordinal()], currency);
+        }
+        byte ordinal = (byte) currency.ordinal();
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            if (currencies[i] == ordinal) {
+                long next = sum + units[i];
+                if (((sum ^ next) & (units[i] ^ next)) < 0)
+                    return new MoneyValue(exactSum(ordinal), currency);
+                sum = next;
+            }
+        }
+        return MoneyValue.ofMinorUnits(sum, currency);
+    }
+
+    /**
+     * Sums the amounts of every currency in a single pass over the vector.
+     *
+     * @return A map from each currency present in the vector to the sum of its amounts.
+     */
+    public Map<Currency, MoneyValue> sumByCurrency() {
+        long[] sums = new long[CURRENCIES.length];
+        boolean[] present = new boolean[CURRENCIES.length];
+        boolean[] overflow = new boolean[CURRENCIES.length];
+        if (!VECTORIZED || !SIMD.sumByCurrency(units, currencies, size, sums, present)) {
+            Arrays.fill(sums, 0);
+            for (int i = 0; i < size; i++) {
+                int ordinal = currencies[i];
+                long next = sums[ordinal] + units[i];
+                if (((sums[ordinal] ^ next) & (units[i] ^ next)) < 0)
+                    overflow[ordinal] = true;
+                sums[ordinal] = next;
+                present[ordinal] = true;
+            }
+        }
+
+        Map<Currency, MoneyValue> result = new EnumMap<>(Currency.class);
+        for (Currency currency : CURRENCIES) {
+            int ordinal = currency.ordinal();
+            if (!present[ordinal])
+                continue;
+            result.put(currency, overflow[ordinal] ?
+                    new MoneyValue(exactSum((byte) ordinal), currency) :
+                    MoneyValue.ofMinorUnits(sums[ordinal], currency));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the smallest amount of the given currency.
+     *
+     * @param currency The currency to inspect.
+     * @return The smallest amount as a MoneyValue, or null if the vector holds no amounts in that currency.
+     */
+    public MoneyValue min(Currency currency) {
+        return extreme(currency, false);
+    }
+
+    /**
+     * Returns the largest amount of the given currency.
+     *
+     * @param currency The currency to inspect.
+     * @return The largest amount as a MoneyValue, or null if the vector holds no amounts in that currency.
+     */
+    public MoneyValue max(Currency currency) {
+        return extreme(currency, true);
+    }
+
+    /**
+     * Returns a new vector holding only the amounts of the given currency.
+     *
+     * @param currency The currency to keep.
+     * @return A new MoneyVector.
+     */
+    public MoneyVector filter(Currency currency) {
+        if (currency == null)
+            throw new RuntimeException(ConstErrorMessages.CURRENCY_NULL);
+        byte ordinal = (byte) currency.ordinal();
+        MoneyVector result = new MoneyVector(size);
+        for (int i = 0; i < size; i++) {
+            if (currencies[i] == ordinal)
+                result.append(units[i], ordinal);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new vector holding only the amounts whose value in hundredths matches the predicate.
+     *
+     * @param predicate The predicate applied to each amount in hundredths.
+     * @return A new MoneyVector.
+     */
+    public MoneyVector filter(LongPredicate predicate) {
+        MoneyVector result = new MoneyVector(size);
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(units[i]))
+                result.append(units[i], currencies[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Converts every amount of this vector to the target currency.
+     * Each source currency's rate is fetched once, and the conversion rounds exactly like Converter.
+     *
+     * @param target   The currency to convert to.
+     * @param provider The provider of the exchange rates.
+     * @param type     The type of exchange rate to use.
+     * @return A new MoneyVector with all amounts in the target currency.
+     * @throws RuntimeException If the target currency or rate type is null, or a converted amount overflows.
+     */
+    public MoneyVector convertTo(Currency target, ExchangeRateProvider provider, ExchangeRateProvider.ExchangeRateType type) {
+        if (target == null)
+            throw new RuntimeException(ConstErrorMessages.CURRENCY_NULL);
+        else if (type == null)
+            throw new RuntimeException(ConstErrorMessages.EXCHANGE_RATE_TYPE_NULL);
+
+        // Split every rate that is needed into unscaled value and scale once
+        long[] rateUnscaled = new long[CURRENCIES.length];
+        int[] rateScale = new int[CURRENCIES.length];
+        BigDecimal[] wideRate = new BigDecimal[CURRENCIES.length];
+        boolean[] fetched = new boolean[CURRENCIES.length];
+        boolean vectorizable = VECTORIZED;
+        for (int i = 0; i < size; i++) {
+            int ordinal = currencies[i];
+            if (fetched[ordinal])
+                continue;
+            fetched[ordinal] = true;
+            BigDecimal rate = provider.getExchangeRateAsBigDecimal(CURRENCIES[ordinal], target, type);
+            if (rate.scale() < 0)
+                rate = rate.setScale(0);
+            BigInteger unscaled = rate.unscaledValue();
+            if (unscaled.bitLength() < Long.SIZE) {
+                rateUnscaled[ordinal] = unscaled.longValue();
+                rateScale[ordinal] = rate.scale();
+                vectorizable &= rateUnscaled[ordinal] != Long.MIN_VALUE && rateScale[ordinal] <= 18;
+            } else {
+                wideRate[ordinal] = rate;
+                vectorizable = false;
+            }
+        }
+
+        long[] converted = new long[Math.max(size, 1)];
+        byte[] targets = new byte[converted.length];
+        Arrays.fill(targets, (byte) target.ordinal());
+        if (vectorizable) {
+            SIMD.multiplyByRate(units, currencies, size, rateUnscaled, rateScale, converted);
+        } else {
+            for (int i = 0; i < size; i++) {
+                int ordinal = currencies[i];
+                converted[i] = wideRate[ordinal] == null ?
+                        FixedPointMath.multiplyByRate(units[i], rateUnscaled[ordinal], rateScale[ordinal]) :
+                        FixedPointMath.toMinorUnits(FixedPointMath.toAmount(units[i]).multiply(wideRate[ordinal]));
+            }
+        }
+        return new MoneyVector(converted, targets, size);
+    }
+
+    /**
+     * Appends an amount with an already validated currency ordinal, assuming enough capacity.
+     *
+     * @param minorUnits The amount in hundredths.
+     * @param ordinal    The ordinal of the currency.
+     */
+    private void append(long minorUnits, byte ordinal) {
+        units[size] = minorUnits;
+        currencies[size] = ordinal;
+        size++;
+    }
+
+    /**
+     * Finds the smallest or largest amount of a currency.
+     *
+     * @param currency The currency to inspect.
+     * @param largest  true to find the largest amount, false for the smallest.
+     * @return The amount as a MoneyValue, or null if the vector holds no amounts in that currency.
+     */
+    private MoneyValue extreme(Currency currency, boolean largest) {
+        if (currency == null)
+            throw new RuntimeException(ConstErrorMessages.CURRENCY_NULL);
+        byte ordinal = (byte) currency.ordinal();
+        boolean found = false;
+        long best = 0;
+        for (int i = 0; i < size; i++) {
+            if (currencies[i] == ordinal && (!found || (largest ? units[i] > best : units[i] < best))) {
+                best = units[i];
+                found = true;
+            }
+        }
+        return found ? MoneyValue.ofMinorUnits(best, currency) : null;
+    }
+
+    /**
+     * Sums all amounts of a currency with BigDecimal, used once the long sum has overflowed.
+     *
+     * @param ordinal The ordinal of the currency.
+     * @return The exact sum.
+     */
+    private BigDecimal exactSum(byte ordinal) {
+        BigInteger sum = BigInteger.ZERO;
+        for (int i = 0; i < size; i++) {
+            if (currencies[i] == ordinal)
+                sum = sum.add(BigInteger.valueOf(units[i]));
+        }
+        return new BigDecimal(sum, FixedPointMath.SCALE);
+    }
+
+    /**
+     * Checks that an index refers to an amount in this vector.
+     *
+     * @param index The index to check.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException(index);
+    }
+}
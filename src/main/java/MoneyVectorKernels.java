@@ -0,0 +1,33 @@
+/**
+ * The bulk kernels MoneyVector can delegate to instead of its scalar loops.
+ * The only implementation, MoneyVectorSimd, needs the incubating jdk.incubator.vector module and is
+ * only compiled with the vector profile, so MoneyVector loads it reflectively and never links against it.
+ */
+interface MoneyVectorKernels {
+
+    /**
+     * Sums the amounts of every currency.
+     *
+     * @param units      The amounts in hundredths.
+     * @param currencies The currency ordinals of the amounts.
+     * @param size       The number of amounts to sum.
+     * @param sums       Receives the sum per currency ordinal.
+     * @param present    Receives whether a currency ordinal occurs at all.
+     * @return true on success, false if a sum overflowed and the caller has to sum exactly.
+     */
+    boolean sumByCurrency(long[] units, byte[] currencies, int size, long[] sums, boolean[] present);
+
+    /**
+     * Multiplies every amount by the rate of its currency and rounds HALF_UP to hundredths,
+     * giving the same result as FixedPointMath.multiplyByRate for every element.
+     *
+     * @param units        The amounts in hundredths.
+     * @param currencies   The currency ordinals of the amounts.
+     * @param size         The number of amounts to convert.
+     * @param rateUnscaled The unscaled rate per currency ordinal, must not be Long.MIN_VALUE.
+     * @param rateScale    The scale of the rate per currency ordinal, between 0 and 18.
+     * @param result       Receives the converted amounts in hundredths.
+     * @throws RuntimeException If a converted amount does not fit into a long.
+     */
+    void multiplyByRate(long[] units, byte[] currencies, int size, long[] rateUnscaled, int[] rateScale, long[] result);
+}
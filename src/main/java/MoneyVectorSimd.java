@@ -0,0 +1,141 @@
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD kernels for MoneyVector built on the incubating Vector API.
+ * This class is only compiled with the vector profile and must only be loaded when the jdk.incubator.vector
+ * module is present; MoneyVector checks both and otherwise stays on its scalar loops. Every kernel gives exactly the same results as the scalar code:
+ * whenever a lane could overflow the kernel reports it and the caller (or the kernel itself) falls back
+ * to the scalar arithmetic of FixedPointMath.
+ */
+final class MoneyVectorSimd implements MoneyVectorKernels {
+    // At most eight long lanes, so that one 64-bit load of currency ordinals covers whole long vectors
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED.length() <= 8 ?
+            LongVector.SPECIES_PREFERRED : LongVector.SPECIES_512;
+    private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_64;
+    private static final int BLOCK = BYTES.length();
+    private static final int PARTS = BLOCK / LONGS.length();
+
+    /**
+     * Constructs the kernels, called reflectively by MoneyVector.
+     */
+    MoneyVectorSimd() {
+    }
+
+    /**
+     * Sums the amounts of every currency.
+     *
+     * @param units      The amounts in hundredths.
+     * @param currencies The currency ordinals of the amounts.
+     * @param size       The number of amounts to sum.
+     * @param sums       Receives the sum per currency ordinal.
+     * @param present    Receives whether a currency ordinal occurs at all.
+     * @return true on success, false if a sum overflowed and the caller has to sum exactly.
+     */
+    @Override
+    public boolean sumByCurrency(long[] units, byte[] currencies, int size, long[] sums, boolean[] present) {
+        int upper = BYTES.loopBound(size);
+        // One pass per currency keeps the accumulator in a register instead of an array of vectors
+        for (int c = 0; c < sums.length; c++) {
+            LongVector accumulator = LongVector.zero(LONGS);
+            LongVector overflow = LongVector.zero(LONGS);
+            int count = 0;
+            for (int i = 0; i < upper; i += BLOCK) {
+                ByteVector ordinals = ByteVector.fromArray(BYTES, currencies, i);
+                for (int part = 0; part < PARTS; part++) {
+                    VectorMask<Long> mask = ((LongVector) ordinals.convertShape(VectorOperators.B2L, LONGS, part)).eq(c);
+                    LongVector amounts = LongVector.fromArray(LONGS, units, i + part * LONGS.length());
+                    LongVector next = accumulator.add(amounts, mask);
+                    // Same sign test as Math.addExact, lanes outside the mask are unchanged and yield zero
+                    overflow = overflow.or(accumulator.lanewise(VectorOperators.XOR, next)
+                            .and(amounts.lanewise(VectorOperators.XOR, next)));
+                    accumulator = next;
+                    count += mask.trueCount();
+                }
+            }
+            if (overflow.compare(VectorOperators.LT, 0).anyTrue())
+                return false;
+
+            long sum = 0;
+            try {
+                for (int lane = 0; lane < LONGS.length(); lane++)
+                    sum = Math.addExact(sum, accumulator.lane(lane));
+                for (int i = upper; i < size; i++) {
+                    if (currencies[i] == c) {
+                        sum = Math.addExact(sum, units[i]);
+                        count++;
+                    }
+                }
+            } catch (ArithmeticException e) {
+                return false;
+            }
+            sums[c] = sum;
+            present[c] = count > 0;
+        }
+        return true;
+    }
+
+    /**
+     * Multiplies every amount by the rate of its currency and rounds HALF_UP to hundredths,
+     * giving the same result as FixedPointMath.multiplyByRate for every element.
+     *
+     * @param units        The amounts in hundredths.
+     * @param currencies   The currency ordinals of the amounts.
+     * @param size         The number of amounts to convert.
+     * @param rateUnscaled The unscaled rate per currency ordinal, must not be Long.MIN_VALUE.
+     * @param rateScale    The scale of the rate per currency ordinal, between 0 and 18.
+     * @param result       Receives the converted amounts in hundredths.
+     * @throws RuntimeException If a converted amount does not fit into a long.
+     */
+    @Override
+    public void multiplyByRate(long[] units, byte[] currencies, int size, long[] rateUnscaled, int[] rateScale, long[] result) {
+        int currencyCount = rateUnscaled.length;
+        long[] divisors = new long[currencyCount];
+        long[] limits = new long[currencyCount];
+        for (int c = 0; c < currencyCount; c++) {
+            divisors[c] = FixedPointMath.powerOfTen(rateScale[c]);
+            long rate = Math.abs(rateUnscaled[c]);
+            // Largest amount whose product plus half the divisor still fits into a long
+            limits[c] = rate == 0 ? Long.MAX_VALUE : (Long.MAX_VALUE - divisors[c] / 2) / rate;
+        }
+
+        int upper = BYTES.loopBound(size);
+        for (int i = 0; i < upper; i += BLOCK) {
+            ByteVector ordinals = ByteVector.fromArray(BYTES, currencies, i);
+            for (int part = 0; part < PARTS; part++) {
+                int offset = i + part * LONGS.length();
+                LongVector ordinal = (LongVector) ordinals.convertShape(VectorOperators.B2L, LONGS, part);
+                LongVector amounts = LongVector.fromArray(LONGS, units, offset);
+
+                LongVector rate = LongVector.zero(LONGS);
+                LongVector divisor = LongVector.zero(LONGS);
+                LongVector limit = LongVector.zero(LONGS);
+                for (int c = 0; c < currencyCount; c++) {
+                    VectorMask<Long> mask = ordinal.eq(c);
+                    rate = rate.blend(rateUnscaled[c], mask);
+                    divisor = divisor.blend(divisors[c], mask);
+                    limit = limit.blend(limits[c], mask);
+                }
+
+                VectorMask<Long> outOfRange = amounts.compare(VectorOperators.GT, limit)
+                        .or(amounts.compare(VectorOperators.LT, limit.neg()));
+                if (outOfRange.anyTrue()) {
+                    for (int j = offset; j < offset + LONGS.length(); j++)
+                        result[j] = FixedPointMath.multiplyByRate(units[j], rateUnscaled[currencies[j]], rateScale[currencies[j]]);
+                    continue;
+                }
+
+                // HALF_UP on the magnitude, then restore the sign
+                LongVector product = amounts.mul(rate);
+                VectorMask<Long> negative = product.compare(VectorOperators.LT, 0);
+                LongVector quotient = product.abs().add(divisor.lanewise(VectorOperators.ASHR, 1)).div(divisor);
+                quotient.blend(quotient.neg(), negative).intoArray(result, offset);
+            }
+        }
+        for (int i = upper; i < size; i++)
+            result[i] = FixedPointMath.multiplyByRate(units[i], rateUnscaled[currencies[i]], rateScale[currencies[i]]);
+    }
+}
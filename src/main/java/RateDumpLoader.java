@@ -0,0 +1,587 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Loads rate dumps into a HistoricalExchangeRateProvider.Builder.
+ * Two formats are supported, a CSV file with an optional header line:
+ * <pre>
+ * date,type,from,to,rate
+ * 2024-01-02,DAILY,EUR,USD,1.0912
+ * </pre>
+ * and a JSON array of objects with the same fields in any order:
+ * <pre>
+ * [{"date": "2024-01-02", "type": "DAILY", "from": "EUR", "to": "USD", "rate": 1.0912}]
+ * </pre>
+ * The dump is read in blocks through a channel and parsed byte by byte: dates, rate types, currency codes
+ * and rates are decoded straight from the bytes, so no String or boxed number is created per field.
+ * Every currency code must belong to a Currency and every rate must be positive; a malformed row fails the load
+ * with its line number.
+ */
+public final class RateDumpLoader {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_TOKEN_LENGTH = 64;
+    // Doubles represent every integer up to 2^53 and every power of ten up to 10^22 exactly
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final byte[][] TYPE_NAMES = new byte[ExchangeRateProvider.ExchangeRateType.values().length][];
+
+    static {
+        for (ExchangeRateProvider.ExchangeRateType type : ExchangeRateProvider.ExchangeRateType.values())
+            TYPE_NAMES[type.ordinal()] = type.name().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private RateDumpLoader() {
+    }
+
+    /**
+     * Loads a CSV rate dump file.
+     *
+     * @param path   The path of the dump.
+     * @param target The builder receiving the rates.
+     * @return The number of rates loaded.
+     * @throws IOException If the file can not be read.
+     * @throws RuntimeException If an argument is null or the dump is malformed.
+     */
+    public static int loadCsv(Path path, HistoricalExchangeRateProvider.Builder target) throws IOException {
+        if (path == null)
+            throw new RuntimeException(ConstErrorMessages.INVALID_RATE_DUMP);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return loadCsv(channel, target);
+        }
+    }
+
+    /**
+     * Loads a CSV rate dump from a channel, which is not closed.
+     *
+     * @param channel The channel to read the dump from.
+     * @param target  The builder receiving the rates.
+     * @return The number of rates loaded.
+     * @throws IOException If the channel can not be read.
+     * @throws RuntimeException If an argument is null or the dump is malformed.
+     */
+    public static int loadCsv(ReadableByteChannel channel, HistoricalExchangeRateProvider.Builder target) throws IOException {
+        if (channel == null || target == null)
+            throw new RuntimeException(ConstErrorMessages.INVALID_RATE_DUMP);
+        Input in = new Input(channel);
+        if (isLetter(in.peek()))
+            in.skipLine();
+
+        int rows = 0;
+        while (in.peek() != -1) {
+            if (in.peek() == '\r' || in.peek() == '\n') {
+                in.read();
+                continue;
+            }
+            int day = parseDate(in);
+            in.expect(',');
+            ExchangeRateProvider.ExchangeRateType type = parseType(in);
+            in.expect(',');
+            Currency from = parseCurrency(in);
+            in.expect(',');
+            Currency to = parseCurrency(in);
+            in.expect(',');
+            double rate = parseRate(in);
+            if (in.peek() == '\r')
+                in.read();
+            if (in.peek() != '\n' && in.peek() != -1)
+                throw in.error(ConstErrorMessages.INVALID_RATE_DUMP);
+
+            target.put(type, from, to, day, rate);
+            rows++;
+        }
+        return rows;
+    }
+
+    /**
+     * Loads a JSON rate dump file.
+     *
+     * @param path   The path of the dump.
+     * @param target The builder receiving the rates.
+     * @return The number of rates loaded.
+     * @throws IOException If the file can not be read.
+     * @throws RuntimeException If an argument is null or the dump is malformed.
+     */
+    public static int loadJson(Path path, HistoricalExchangeRateProvider.Builder target) throws IOException {
+        if (path == null)
+            throw new RuntimeException(ConstErrorMessages.INVALID_RATE_DUMP);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return loadJson(channel, target);
+        }
+    }
+
+    /**
+     * Loads a JSON rate dump from a channel, which is not closed.
+     *
+     * @param channel The channel to read the dump from.
+     * @param target  The builder receiving the rates.
+     * @return The number of rates loaded.
+     * @throws IOException If the channel can not be read.
+     * @throws RuntimeException If an argument is null or the dump is malformed.
+     */
+    public static int loadJson(ReadableByteChannel channel, HistoricalExchangeRateProvider.Builder target) throws IOException {
+        if (channel == null || target == null)
+            throw new RuntimeException(ConstErrorMessages.INVALID_RATE_DUMP);
+        Input in = new Input(channel);
+        in.skipWhitespace();
+        in.expect('[');
+        in.skipWhitespace();
+        if (in.peek() == ']') {
+            in.read();
+            return 0;
+        }
+
+        int rows = 0;
+        while (true) {
+            parseJsonObject(in, target);
+            rows++;
+            in.skipWhitespace();
+            int next = in.read();
+            if (next == ']')
+                break;
+            else if (next != ',')
+                throw in.error(ConstErrorMessages.INVALID_RATE_DUMP);
+        }
+        in.skipWhitespace();
+        if (in.peek() != -1)
+            throw in.error(ConstErrorMessages.INVALID_RATE_DUMP);
+        return rows;
+    }
+
+    /**
+     * Parses one JSON object of a rate and puts the rate.
+     *
+     * @param in     The input positioned before the object.
+     * @param target The builder receiving the rate.
+     * @throws IOException If the input can not be read.
+     */
+    private static void parseJsonObject(Input in, HistoricalExchangeRateProvider.Builder target) throws IOException {
+        in.skipWhitespace();
+        in.expect('{');
+        int day = 0;
+        ExchangeRateProvider.ExchangeRateType type = null;
+        Currency from = null;
+        Currency to = null;
+        double rate = Double.NaN;
+        boolean hasDay = false;
+        boolean hasRate = false;
+
+        while (true) {
+            in.skipWhitespace();
+            in.expect('"');
+            int keyLength = in.readToken('"');
+            in.expect('"');
+            in.skipWhitespace();
+            in.expect(':');
+            in.skipWhitespace();
+
+            if (in.tokenEquals(keyLength, "rate")) {
+                rate = parseRate(in);
+                hasRate = true;
+            } else {
+                in.expect('"');
+                if (in.tokenEquals(keyLength, "date")) {
+                    day = parseDate(in);
+                    hasDay = true;
+                } else if (in.tokenEquals(keyLength, "type")) {
+                    type = parseType(in);
+                } else if (in.tokenEquals(keyLength, "from")) {
+                    from = parseCurrency(in);
+                } else if (in.tokenEquals(keyLength, "to")) {
+                    to = parseCurrency(in);
+                } else {
+                    throw in.error(ConstErrorMessages.INVALID_RATE_DUMP);
+                }
+                in.expect('"');
+            }
+
+            in.skipWhitespace();
+            int next = in.read();
+            if (next == '}')
+                break;
+            else if (next != ',')
+                throw in.error(ConstErrorMessages.INVALID_RATE_DUMP);
+        }
+
+        if (!hasDay || type == null || from == null || to == null || !hasRate)
+            throw in.error(ConstErrorMessages.INVALID_RATE_DUMP);
+        target.put(type, from, to, day, rate);
+    }
+
+    /**
+     * Parses a date in the form yyyy-MM-dd.
+     *
+     * @param in The input positioned at the date.
+     * @return The date as epoch day.
+     * @throws IOException If the input can not be read.
+     */
+    private static int parseDate(Input in) throws IOException {
+        int year = in.readDigits(4);
+        in.expect('-');
+        int month = in.readDigits(2);
+        in.expect('-');
+        int day = in.readDigits(2);
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month))
+            throw in.error(ConstErrorMessages.INVALID_RATE_DUMP);
+        return epochDay(year, month, day);
+    }
+
+    /**
+     * Parses the name of an ExchangeRateType.
+     *
+     * @param in The input positioned at the name.
+     * @return The rate type.
+     * @throws IOException If the input can not be read.
+     */
+    private static ExchangeRateProvider.ExchangeRateType parseType(Input in) throws IOException {
+        int length = in.readName();
+        for (ExchangeRateProvider.ExchangeRateType type : ExchangeRateProvider.ExchangeRateType.values()) {
+            if (in.tokenEquals(length, TYPE_NAMES[type.ordinal()]))
+                return type;
+        }
+        throw in.error(ConstErrorMessages.INVALID_RATE_DUMP);
+    }
+
+    /**
+     * Parses a three-letter ISO currency code.
+     *
+     * @param in The input positioned at the code.
+     * @return The currency.
+     * @throws IOException If the input can not be read.
+     */
+    private static Currency parseCurrency(Input in) throws IOException {
+        int first = in.read();
+        int second = in.read();
+        int third = in.read();
+        if (!isLetter(first) || !isLetter(second) || !isLetter(third))
+            throw in.error(ConstErrorMessages.INVALID_RATE_DUMP);
+        Currency currency = Currency.fromPackedCode(IsoCurrencyRegistry.pack((char) first, (char) second, (char) third));
+        if (currency == null)
+            throw in.error(ConstErrorMessages.UNKNOWN_CURRENCY);
+        return currency;
+    }
+
+    /**
+     * Parses a decimal number with optional fraction and exponent.
+     * Numbers with up to 15 significant digits and a small exponent are converted exactly by one
+     * floating-point multiplication or division; all others fall back to Double.parseDouble.
+     *
+     * @param in The input positioned at the number.
+     * @return The number, positive and finite.
+     * @throws IOException If the input can not be read.
+     * @throws RuntimeException If the number is malformed, not positive or too large for a double.
+     */
+    private static double parseRate(Input in) throws IOException {
+        int length = 0;
+        long mantissa = 0;
+        int exponent = 0;
+        int digits = 0;
+        boolean exact = true;
+        boolean negative = in.peek() == '-';
+        if (negative)
+            in.token[length++] = (byte) in.read();
+
+        boolean fraction = false;
+        while (true) {
+            int c = in.peek();
+            if (c >= '0' && c <= '9') {
+                if (mantissa < MAX_EXACT_MANTISSA / 10) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    if (fraction)
+                        exponent--;
+                } else {
+                    exact = false;
+                }
+                digits++;
+            } else if (c == '.' && !fraction) {
+                fraction = true;
+            } else {
+                break;
+            }
+            in.appendToken(length++, in.read());
+        }
+        if (digits == 0)
+            throw in.error(ConstErrorMessages.INVALID_RATE_DUMP);
+
+        if (in.peek() == 'e' || in.peek() == 'E') {
+            exact = false;
+            in.appendToken(length++, in.read());
+            if (in.peek() == '+' || in.peek() == '-')
+                in.appendToken(length++, in.read());
+            int exponentDigits = 0;
+            while (in.peek() >= '0' && in.peek() <= '9') {
+                in.appendToken(length++, in.read());
+                exponentDigits++;
+            }
+            if (exponentDigits == 0)
+                throw in.error(ConstErrorMessages.INVALID_RATE_DUMP);
+        }
+
+        double value;
+        if (exact && exponent >= -22) {
+            value = (double) mantissa / POWERS_OF_TEN[-exponent];
+            if (negative)
+                value = -value;
+        } else {
+            value = Double.parseDouble(new String(in.token, 0, length, StandardCharsets.US_ASCII));
+        }
+        // Zero, negative and overflowing rates would poison every conversion and every inverse derived from them
+        if (!(value > 0) || Double.isInfinite(value))
+            throw in.error(ConstErrorMessages.INVALID_RATE);
+        return value;
+    }
+
+    /**
+     * Computes the epoch day of a date without creating a LocalDate.
+     *
+     * @param year  The year.
+     * @param month The month from 1 to 12.
+     * @param day   The day of the month.
+     * @return The number of days since 1970-01-01.
+     */
+    static int epochDay(int year, int month, int day) {
+        // Days from civil: count years from March on, so the leap day is the last day of a year
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097 + dayOfEra - 719_468;
+    }
+
+    /**
+     * Returns the number of days of a month.
+     *
+     * @param year  The year.
+     * @param month The month from 1 to 12.
+     * @return The length of the month.
+     */
+    private static int lengthOfMonth(int year, int month) {
+        if (month == 2)
+            return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+    }
+
+    /**
+     * Checks whether a byte is an ASCII letter.
+     *
+     * @param c The byte, or -1 at the end of the input.
+     * @return true for A-Z and a-z.
+     */
+    private static boolean isLetter(int c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    /**
+     * A buffered byte input over a channel that counts lines for error messages.
+     */
+    private static final class Input {
+        final ReadableByteChannel channel;
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        final byte[] bytes = buffer.array();
+        final byte[] token = new byte[MAX_TOKEN_LENGTH];
+        int position;
+        int limit;
+        int line = 1;
+
+        /**
+         * Constructs an Input.
+         *
+         * @param channel The channel to read.
+         */
+        Input(ReadableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        /**
+         * Returns the next byte without consuming it.
+         *
+         * @return The byte, or -1 at the end of the input.
+         * @throws IOException If the channel can not be read.
+         */
+        int peek() throws IOException {
+            if (position == limit && !fill())
+                return -1;
+            return bytes[position] & 0xFF;
+        }
+
+        /**
+         * Consumes the next byte.
+         *
+         * @return The byte, or -1 at the end of the input.
+         * @throws IOException If the channel can not be read.
+         */
+        int read() throws IOException {
+            int c = peek();
+            if (c != -1) {
+                position++;
+                if (c == '\n')
+                    line++;
+            }
+            return c;
+        }
+
+        /**
+         * Consumes a byte that has to follow.
+         *
+         * @param expected The expected byte.
+         * @throws IOException If the channel can not be read.
+         */
+        void expect(char expected) throws IOException {
+            if (read() != expected)
+                throw error(ConstErrorMessages.INVALID_RATE_DUMP);
+        }
+
+        /**
+         * Reads a fixed number of decimal digits.
+         *
+         * @param count The number of digits.
+         * @return Their value.
+         * @throws IOException If the channel can not be read.
+         */
+        int readDigits(int count) throws IOException {
+            int value = 0;
+            for (int i = 0; i < count; i++) {
+                int c = read();
+                if (c < '0' || c > '9')
+                    throw error(ConstErrorMessages.INVALID_RATE_DUMP);
+                value = value * 10 + (c - '0');
+            }
+            return value;
+        }
+
+        /**
+         * Reads a name of letters and underscores into the token buffer.
+         *
+         * @return The length of the name.
+         * @throws IOException If the channel can not be read.
+         */
+        int readName() throws IOException {
+            int length = 0;
+            while (isLetter(peek()) || peek() == '_')
+                appendToken(length++, read());
+            return length;
+        }
+
+        /**
+         * Reads bytes up to a terminator, which is not consumed, into the token buffer.
+         *
+         * @param terminator The byte ending the token.
+         * @return The length of the token.
+         * @throws IOException If the channel can not be read.
+         */
+        int readToken(char terminator) throws IOException {
+            int length = 0;
+            while (peek() != terminator && peek() != -1)
+                appendToken(length++, read());
+            return length;
+        }
+
+        /**
+         * Stores a byte in the token buffer.
+         *
+         * @param index The position in the token.
+         * @param c     The byte.
+         */
+        void appendToken(int index, int c) {
+            if (index >= token.length)
+                throw error(ConstErrorMessages.INVALID_RATE_DUMP);
+            token[index] = (byte) c;
+        }
+
+        /**
+         * Compares the token buffer with a name.
+         *
+         * @param length The length of the token.
+         * @param name   The ASCII name.
+         * @return true if they are equal.
+         */
+        boolean tokenEquals(int length, String name) {
+            if (length != name.length())
+                return false;
+            for (int i = 0; i < length; i++) {
+                if (token[i] != name.charAt(i))
+                    return false;
+            }
+            return true;
+        }
+
+        /**
+         * Compares the token buffer with a name.
+         *
+         * @param length The length of the token.
+         * @param name   The ASCII name.
+         * @return true if they are equal.
+         */
+        boolean tokenEquals(int length, byte[] name) {
+            if (length != name.length)
+                return false;
+            for (int i = 0; i < length; i++) {
+                if (token[i] != name[i])
+                    return false;
+            }
+            return true;
+        }
+
+        /**
+         * Consumes spaces, tabs and line breaks.
+         *
+         * @throws IOException If the channel can not be read.
+         */
+        void skipWhitespace() throws IOException {
+            int c = peek();
+            while (c == ' ' || c == '\t' || c == '\r' || c == '\n') {
+                read();
+                c = peek();
+            }
+        }
+
+        /**
+         * Consumes the rest of the current line including the line break.
+         *
+         * @throws IOException If the channel can not be read.
+         */
+        void skipLine() throws IOException {
+            int c;
+            do {
+                c = read();
+            } while (c != '\n' && c != -1);
+        }
+
+        /**
+         * Creates the exception for a malformed dump.
+         *
+         * @param message The error message.
+         * @return The exception naming the current line.
+         */
+        RuntimeException error(String message) {
+            return new RuntimeException(message + " in line " + line);
+        }
+
+        /**
+         * Reads the next block from the channel.
+         *
+         * @return false at the end of the input.
+         * @throws IOException If the channel can not be read.
+         */
+        private boolean fill() throws IOException {
+            buffer.clear();
+            int read;
+            do {
+                read = channel.read(buffer);
+            } while (read == 0);
+            if (read < 0)
+                return false;
+            position = 0;
+            limit = read;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+/**
+ * An ExchangeRateProvider whose rates are held in immutable RateTable snapshots.
+ * A new set of rates is published by replacing the whole snapshot, never by changing one in place,
+ * so a caller that keeps a snapshot sees the same rates for as long as it uses it.
+ */
+public interface RateSnapshotProvider extends ExchangeRateProvider {
+
+    /**
+     * Returns the snapshot that is currently published.
+     *
+     * @return The current RateTable, never null.
+     */
+    RateTable getSnapshot();
+}
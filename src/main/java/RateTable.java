@@ -0,0 +1,209 @@
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+
+/**
+ * An immutable, dense table of exchange rates indexed by ExchangeRateType, source and target Currency.
+ * Rates are stored in one primitive double[] at position (type * n + from) * n + to, where n is the
+ * number of currencies, so a lookup is two multiplications and an array read without any allocation.
+ * Missing rates are stored as NaN; the rate of a currency to itself is always 1.0.
+ * Every present rate is also kept as a pre-built BigDecimal, so exact conversions need not create one per call.
+ * Since a RateTable can not change after it is built, one instance can be shared by any number of threads.
+ * Each table carries a version, so a table derived from another one with toBuilder is recognizably newer.
+ */
+public final class RateTable {
+    private static final int CURRENCY_COUNT = Currency.values().length;
+    private static final int TYPE_COUNT = ExchangeRateProvider.ExchangeRateType.values().length;
+
+    private final double[] rates;
+    private final BigDecimal[] decimalRates;
+    private final long version;
+
+    /**
+     * Constructs a RateTable around a filled rate array.
+     *
+     * @param rates   The rates, indexed as described in the class documentation.
+     * @param version The version of the table.
+     */
+    private RateTable(double[] rates, long version) {
+        this.rates = rates;
+        this.version = version;
+        this.decimalRates = new BigDecimal[rates.length];
+        for (int i = 0; i < rates.length; i++) {
+            if (Double.isFinite(rates[i]))
+                decimalRates[i] = BigDecimal.valueOf(rates[i]);
+        }
+    }
+
+    /**
+     * Creates a new Builder for a RateTable.
+     *
+     * @return A new Builder without any rates.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the exchange rate from one currency to another.
+     *
+     * @param from The currency to convert from, must not be null.
+     * @param to   The currency to convert to, must not be null.
+     * @param type The type of exchange rate, must not be null.
+     * @return The exchange rate, or NaN if the table has no such rate.
+     */
+    public double getRate(Currency from, Currency to, ExchangeRateProvider.ExchangeRateType type) {
+        return rates[index(from, to, type)];
+    }
+
+    /**
+     * Returns the exchange rate from one currency to another as a BigDecimal.
+     *
+     * @param from The currency to convert from, must not be null.
+     * @param to   The currency to convert to, must not be null.
+     * @param type The type of exchange rate, must not be null.
+     * @return The exchange rate equal to BigDecimal.valueOf(getRate(...)), or null if the table has no such (finite) rate.
+     */
+    public BigDecimal getRateAsBigDecimal(Currency from, Currency to, ExchangeRateProvider.ExchangeRateType type) {
+        return decimalRates[index(from, to, type)];
+    }
+
+    /**
+     * Checks whether the table has an exchange rate from one currency to another.
+     *
+     * @param from The currency to convert from, must not be null.
+     * @param to   The currency to convert to, must not be null.
+     * @param type The type of exchange rate, must not be null.
+     * @return true if the rate is present.
+     */
+    public boolean hasRate(Currency from, Currency to, ExchangeRateProvider.ExchangeRateType type) {
+        return !Double.isNaN(getRate(from, to, type));
+    }
+
+    /**
+     * Returns the version of this table.
+     *
+     * @return The version, 0 for a table built from scratch.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Creates a Builder initialized with all rates of this table and the next version.
+     *
+     * @return A new Builder that does not affect this table.
+     */
+    public Builder toBuilder() {
+        Builder builder = new Builder();
+        System.arraycopy(rates, 0, builder.rates, 0, rates.length);
+        builder.version = version + 1;
+        return builder;
+    }
+
+    /**
+     * Computes the position of a rate in the dense array.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate.
+     * @return The array index of the rate.
+     */
+    static int index(Currency from, Currency to, ExchangeRateProvider.ExchangeRateType type) {
+        return (type.ordinal() * CURRENCY_COUNT + from.ordinal()) * CURRENCY_COUNT + to.ordinal();
+    }
+
+    /**
+     * Returns the number of entries in the dense array, one per type and currency pair.
+     *
+     * @return The size of the dense array.
+     */
+    static int size() {
+        return TYPE_COUNT * CURRENCY_COUNT * CURRENCY_COUNT;
+    }
+
+    /**
+     * A mutable builder for a RateTable. A Builder is not thread-safe.
+     */
+    public static final class Builder {
+        private final double[] rates = new double[size()];
+        private long version;
+
+        /**
+         * Constructs a Builder without rates except 1.0 from every currency to itself.
+         */
+        private Builder() {
+            Arrays.fill(rates, Double.NaN);
+            for (ExchangeRateProvider.ExchangeRateType type : ExchangeRateProvider.ExchangeRateType.values()) {
+                for (Currency currency : Currency.values())
+                    rates[index(currency, currency, type)] = 1.0;
+            }
+        }
+
+        /**
+         * Sets the exchange rate from one currency to another.
+         *
+         * @param type The type of exchange rate.
+         * @param from The currency to convert from.
+         * @param to   The currency to convert to.
+         * @param rate The exchange rate, NaN to remove it.
+         * @return This Builder.
+         * @throws RuntimeException If a currency or the type is null.
+         */
+        public Builder put(ExchangeRateProvider.ExchangeRateType type, Currency from, Currency to, double rate) {
+            if (type == null)
+                throw new RuntimeException(ConstErrorMessages.EXCHANGE_RATE_TYPE_NULL);
+            else if (from == null || to == null)
+                throw new RuntimeException(ConstErrorMessages.CURRENCY_NULL);
+            rates[index(from, to, type)] = rate;
+            return this;
+        }
+
+        /**
+         * Fills every missing rate whose opposite direction is present with the inverse of that rate,
+         * so only one direction per currency pair has to be put. The inverse is computed in BigDecimal
+         * and rounded to the given precision; rates put afterwards are not inverted.
+         *
+         * @param precision The precision of the derived rates; at most 15 digits survive as a double.
+         * @return This Builder.
+         * @throws RuntimeException If the precision is null or unlimited.
+         */
+        public Builder deriveInverses(MathContext precision) {
+            if (precision == null)
+                throw new RuntimeException(ConstErrorMessages.MATH_CONTEXT_NULL);
+            else if (precision.getPrecision() == 0)
+                throw new RuntimeException(ConstErrorMessages.MATH_CONTEXT_UNLIMITED);
+            for (ExchangeRateProvider.ExchangeRateType type : ExchangeRateProvider.ExchangeRateType.values()) {
+                for (Currency from : Currency.values()) {
+                    for (Currency to : Currency.values()) {
+                        int index = index(from, to, type);
+                        double opposite = rates[index(to, from, type)];
+                        if (Double.isNaN(rates[index]) && Double.isFinite(opposite) && opposite != 0)
+                            rates[index] = BigDecimal.ONE.divide(BigDecimal.valueOf(opposite), precision).doubleValue();
+                    }
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Sets the version of the tables built by this Builder.
+         *
+         * @param version The version.
+         * @return This Builder.
+         */
+        public Builder version(long version) {
+            this.version = version;
+            return this;
+        }
+
+        /**
+         * Builds an immutable RateTable from the current rates. The Builder can be reused afterwards.
+         *
+         * @return A new RateTable.
+         */
+        public RateTable build() {
+            return new RateTable(rates.clone(), version);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The layout of a memory-mapped rate table file, shared by MappedRateTableWriter and MappedExchangeRateProvider.
+ * All numbers are little-endian:
+ * <pre>
+ *  0  int    magic "RATE"
+ *  4  int    format version
+ *  8  long   sequence, odd while a writer is updating the rates
+ * 16  int    number of currencies
+ * 20  int    number of exchange rate types
+ * 24  long   version of the stored RateTable
+ * 32  byte[] ISO code of every currency in ordinal order, 4 bytes each
+ *  …  double rates in RateTable index order, 8-byte aligned, NaN for missing rates
+ * </pre>
+ * The sequence works as a seqlock: a reader that sees the same even sequence before and after
+ * reading the rates has read a consistent table.
+ */
+final class RateTableFile {
+    static final int MAGIC = 0x45544152;
+    static final int FORMAT_VERSION = 1;
+    static final int SEQUENCE_OFFSET = 8;
+    static final int CURRENCY_COUNT_OFFSET = 16;
+    static final int TYPE_COUNT_OFFSET = 20;
+    static final int TABLE_VERSION_OFFSET = 24;
+    static final int CODES_OFFSET = 32;
+    static final int RATES_OFFSET = (CODES_OFFSET + 4 * Currency.values().length + 7) & ~7;
+    static final int FILE_SIZE = RATES_OFFSET + Double.BYTES * RateTable.size();
+
+    // Atomic access to the sequence, which is 8-byte aligned in a page-aligned mapping
+    static final VarHandle SEQUENCE = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private RateTableFile() {
+    }
+
+    /**
+     * Writes the header of an empty file.
+     *
+     * @param buffer The mapped file.
+     */
+    static void writeHeader(ByteBuffer buffer) {
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, FORMAT_VERSION);
+        buffer.putInt(CURRENCY_COUNT_OFFSET, Currency.values().length);
+        buffer.putInt(TYPE_COUNT_OFFSET, ExchangeRateProvider.ExchangeRateType.values().length);
+        for (Currency currency : Currency.values()) {
+            byte[] code = currency.getIsoCode().getBytes(StandardCharsets.US_ASCII);
+            for (int i = 0; i < 4; i++)
+                buffer.put(CODES_OFFSET + 4 * currency.ordinal() + i, i < code.length ? code[i] : 0);
+        }
+    }
+
+    /**
+     * Checks that a mapped file was written for the currencies and rate types of this build.
+     *
+     * @param buffer The mapped file.
+     * @throws RuntimeException If the file is too small or its header does not match.
+     */
+    static void checkHeader(ByteBuffer buffer) {
+        if (buffer.capacity() < FILE_SIZE
+                || buffer.getInt(0) != MAGIC
+                || buffer.getInt(4) != FORMAT_VERSION
+                || buffer.getInt(CURRENCY_COUNT_OFFSET) != Currency.values().length
+                || buffer.getInt(TYPE_COUNT_OFFSET) != ExchangeRateProvider.ExchangeRateType.values().length)
+            throw new RuntimeException(ConstErrorMessages.INVALID_RATE_FILE);
+        for (Currency currency : Currency.values()) {
+            byte[] code = currency.getIsoCode().getBytes(StandardCharsets.US_ASCII);
+            for (int i = 0; i < 4; i++) {
+                if (buffer.get(CODES_OFFSET + 4 * currency.ordinal() + i) != (i < code.length ? code[i] : 0))
+                    throw new RuntimeException(ConstErrorMessages.INVALID_RATE_FILE);
+            }
+        }
+    }
+
+    /**
+     * Computes the file offset of a rate.
+     *
+     * @param index The RateTable index of the rate.
+     * @return The offset of the rate in the file.
+     */
+    static int rateOffset(int index) {
+        return RATES_OFFSET + Double.BYTES * index;
+    }
+}
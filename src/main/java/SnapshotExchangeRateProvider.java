@@ -0,0 +1,180 @@
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * A RateSnapshotProvider that serves its rates from an atomically swapped RateTable.
+ * Readers only read the current reference and never lock; writers build a complete new table
+ * and publish it in one step. A table is only published if it is newer than the current one, so a writer
+ * working from an outdated snapshot can not overwrite a newer table; such a publish fails instead of being dropped.
+ */
+public class SnapshotExchangeRateProvider implements RateSnapshotProvider {
+    private final AtomicReference<RateTable> snapshot;
+
+    /**
+     * Constructs a SnapshotExchangeRateProvider without rates.
+     */
+    public SnapshotExchangeRateProvider() {
+        this(RateTable.builder().build());
+    }
+
+    /**
+     * Constructs a SnapshotExchangeRateProvider serving the given table.
+     *
+     * @param initial The first published table.
+     * @throws RuntimeException If the table is null.
+     */
+    public SnapshotExchangeRateProvider(RateTable initial) {
+        if (initial == null)
+            throw new RuntimeException(ConstErrorMessages.RATE_TABLE_NULL);
+        this.snapshot = new AtomicReference<>(initial);
+    }
+
+    /**
+     * Returns the snapshot that is currently published.
+     *
+     * @return The current RateTable.
+     */
+    @Override
+    public RateTable getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Publishes a table whose version is newer than the one of the current table.
+     * Build the table with toBuilder from the current snapshot, or set a newer version explicitly.
+     *
+     * @param table The table to publish.
+     * @throws RuntimeException If the table is null or the current table is as new or newer.
+     */
+    public void publish(RateTable table) {
+        if (table == null)
+            throw new RuntimeException(ConstErrorMessages.RATE_TABLE_NULL);
+        while (true) {
+            RateTable current = snapshot.get();
+            if (table.getVersion() <= current.getVersion())
+                throw new RuntimeException(ConstErrorMessages.RATE_TABLE_OUTDATED);
+            if (snapshot.compareAndSet(current, table))
+                return;
+        }
+    }
+
+    /**
+     * Publishes a copy of the current table with some rates changed.
+     * If another writer publishes in between, the changes are applied again to its table.
+     *
+     * @param changes The changes, applied to a Builder holding the current rates; may run more than once.
+     * @return The published table.
+     * @throws RuntimeException If the changes are null.
+     */
+    public RateTable update(Consumer<RateTable.Builder> changes) {
+        if (changes == null)
+            throw new RuntimeException(ConstErrorMessages.RATE_UPDATE_NULL);
+        while (true) {
+            RateTable current = snapshot.get();
+            RateTable.Builder builder = current.toBuilder();
+            changes.accept(builder);
+            RateTable next = builder.build();
+            if (snapshot.compareAndSet(current, next))
+                return next;
+        }
+    }
+
+    /**
+     * Retrieves the exchange rate from the current snapshot.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate (e.g., REALTIME, MONTHLY, DAILY).
+     * @return The exchange rate from currency 'from' to currency 'to' as a Double value.
+     * @throws RuntimeException If a currency or the type is null.
+     * @throws IllegalArgumentException If the snapshot has no such rate.
+     */
+    @Override
+    public Double getExchangeRate(Currency from, Currency to, ExchangeRateType type) {
+        return getExchangeRateAsDouble(from, to, type);
+    }
+
+    /**
+     * Retrieves the exchange rate from the current snapshot as a primitive double, without allocating.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate (e.g., REALTIME, MONTHLY, DAILY).
+     * @return The exchange rate from currency 'from' to currency 'to'.
+     * @throws RuntimeException If a currency or the type is null.
+     * @throws IllegalArgumentException If the snapshot has no such rate.
+     */
+    @Override
+    public double getExchangeRateAsDouble(Currency from, Currency to, ExchangeRateType type) {
+        return rateOf(snapshot.get(), from, to, type);
+    }
+
+    /**
+     * Retrieves the exchange rate from the current snapshot as a pre-built BigDecimal.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate (e.g., REALTIME, MONTHLY, DAILY).
+     * @return The exchange rate from currency 'from' to currency 'to'.
+     * @throws RuntimeException If a currency or the type is null.
+     * @throws IllegalArgumentException If the snapshot has no such rate.
+     */
+    @Override
+    public BigDecimal getExchangeRateAsBigDecimal(Currency from, Currency to, ExchangeRateType type) {
+        return decimalRateOf(snapshot.get(), from, to, type);
+    }
+
+    /**
+     * Reads a rate from a table, failing like a provider if it is missing.
+     *
+     * @param table The table to read from.
+     * @param from  The currency to convert from.
+     * @param to    The currency to convert to.
+     * @param type  The type of exchange rate.
+     * @return The exchange rate.
+     * @throws RuntimeException If a currency or the type is null.
+     * @throws IllegalArgumentException If the table has no such rate.
+     */
+    static double rateOf(RateTable table, Currency from, Currency to, ExchangeRateType type) {
+        checkArguments(from, to, type);
+        double rate = table.getRate(from, to, type);
+        if (Double.isNaN(rate))
+            throw new IllegalArgumentException("Exchange rate not found for: " + from + " to " + to);
+        return rate;
+    }
+
+    /**
+     * Reads a rate as a BigDecimal from a table, failing like a provider if it is missing.
+     *
+     * @param table The table to read from.
+     * @param from  The currency to convert from.
+     * @param to    The currency to convert to.
+     * @param type  The type of exchange rate.
+     * @return The exchange rate.
+     * @throws RuntimeException If a currency or the type is null.
+     * @throws IllegalArgumentException If the table has no such rate.
+     */
+    static BigDecimal decimalRateOf(RateTable table, Currency from, Currency to, ExchangeRateType type) {
+        checkArguments(from, to, type);
+        BigDecimal rate = table.getRateAsBigDecimal(from, to, type);
+        if (rate == null)
+            throw new IllegalArgumentException("Exchange rate not found for: " + from + " to " + to);
+        return rate;
+    }
+
+    /**
+     * Checks the arguments of a lookup.
+     *
+     * @param from The currency to convert from.
+     * @param to   The currency to convert to.
+     * @param type The type of exchange rate.
+     * @throws RuntimeException If a currency or the type is null.
+     */
+    private static void checkArguments(Currency from, Currency to, ExchangeRateType type) {
+        if (from == null || to == null)
+            throw new RuntimeException(ConstErrorMessages.CURRENCY_NULL);
+        else if (type == null)
+            throw new RuntimeException(ConstErrorMessages.EXCHANGE_RATE_TYPE_NULL);
+    }
+}
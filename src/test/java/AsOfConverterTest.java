@@ -0,0 +1,144 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsOfConverterTest {
+
+    private final String MONEY_VALUE_NULL = "Money Value can not be null";
+    private final String PROVIDER_NULL = "ExchangeRateProvider can not be null";
+
+    private HistoricalExchangeRateProvider history;
+    private AsOfConverter converter;
+
+    @BeforeEach
+    public void setUp() {
+        history = HistoricalExchangeRateProvider.builder()
+                .put(ExchangeRateProvider.ExchangeRateType.DAILY, Currency.US_DOLLAR, Currency.EURO, LocalDate.of(2024, 1, 1), 0.90)
+                .put(ExchangeRateProvider.ExchangeRateType.DAILY, Currency.US_DOLLAR, Currency.EURO, LocalDate.of(2024, 1, 3), 0.92)
+                .put(ExchangeRateProvider.ExchangeRateType.DAILY, Currency.US_DOLLAR, Currency.EURO, LocalDate.of(2024, 1, 6), 0.95)
+                .put(ExchangeRateProvider.ExchangeRateType.DAILY, Currency.BRITISH_POUND, Currency.EURO, LocalDate.of(2024, 1, 2), 1.20)
+                .build();
+        converter = new AsOfConverter(history, Currency.EURO, ExchangeRateProvider.ExchangeRateType.DAILY);
+    }
+
+    private DatedMoneyValue row(int day, double amount, Currency currency) {
+        return new DatedMoneyValue(LocalDate.of(2024, 1, day), new MoneyValue(amount, currency));
+    }
+
+    @Nested
+    class testAsOfConverterStream {
+        @Test
+        public void testRowsUseRateOfTheirDate() {
+            // Given
+            Stream<DatedMoneyValue> rows = Stream.of(
+                    row(1, 100.0, Currency.US_DOLLAR),
+                    row(2, 100.0, Currency.US_DOLLAR),
+                    row(2, 100.0, Currency.BRITISH_POUND),
+                    row(3, 100.0, Currency.US_DOLLAR),
+                    row(5, 10.0, Currency.EURO),
+                    row(7, 100.0, Currency.US_DOLLAR));
+
+            // When
+            List<MoneyValue> result = converter.convertAll(rows).collect(Collectors.toList());
+
+            // Then
+            assertEquals(List.of(
+                    new MoneyValue(90.0, Currency.EURO),
+                    new MoneyValue(90.0, Currency.EURO),
+                    new MoneyValue(120.0, Currency.EURO),
+                    new MoneyValue(92.0, Currency.EURO),
+                    new MoneyValue(10.0, Currency.EURO),
+                    new MoneyValue(95.0, Currency.EURO)), result);
+        }
+
+        @Test
+        public void testMatchesAsOfLookups() {
+            // Given
+            AsOfConverter streaming = new AsOfConverter(history, Currency.EURO, ExchangeRateProvider.ExchangeRateType.DAILY);
+
+            // When & Then
+            IntStream.rangeClosed(1, 31).forEach(day -> {
+                DatedMoneyValue row = row(day, 12.34, Currency.US_DOLLAR);
+                double rate = history.getExchangeRateAsOf(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.DAILY, row.getDate());
+                assertEquals(new Converter((from, to, type) -> rate).convertTo(row.getValue(), Currency.EURO), streaming.convert(row));
+            });
+        }
+
+        @Test
+        public void testRowOutOfOrder() {
+            // When
+            converter.convert(row(6, 100.0, Currency.US_DOLLAR));
+            MoneyValue earlier = converter.convert(row(2, 100.0, Currency.US_DOLLAR));
+
+            // Then
+            assertEquals(new MoneyValue(90.0, Currency.EURO), earlier);
+        }
+
+        @Test
+        public void testRowBeforeFirstRate() {
+            // When & Then
+            assertThrows(IllegalArgumentException.class, () -> converter.convert(row(1, 100.0, Currency.BRITISH_POUND)));
+            assertEquals(new MoneyValue(120.0, Currency.EURO), converter.convert(row(2, 100.0, Currency.BRITISH_POUND)));
+        }
+
+        @Test
+        public void testSameCurrencyReturnsCopy() {
+            // Given
+            DatedMoneyValue row = row(5, 10.0, Currency.EURO);
+
+            // When
+            MoneyValue first = converter.convert(row);
+            first.add(new MoneyValue(5.0, Currency.EURO));
+            MoneyValue second = converter.convert(row);
+
+            // Then
+            assertNotSame(first, second);
+            assertEquals(new MoneyValue(15.0, Currency.EURO), first);
+            assertEquals(new MoneyValue(10.0, Currency.EURO), second);
+            assertEquals(new MoneyValue(10.0, Currency.EURO), row.getValue());
+        }
+
+        @Test
+        public void testFarDateUsesLastRate() {
+            // Given
+            DatedMoneyValue row = new DatedMoneyValue(LocalDate.MAX, new MoneyValue(100.0, Currency.US_DOLLAR));
+
+            // When
+            MoneyValue result = converter.convert(row);
+
+            // Then
+            assertEquals(new MoneyValue(95.0, Currency.EURO), result);
+            assertThrows(IllegalArgumentException.class,
+                    () -> converter.convert(new DatedMoneyValue(LocalDate.MIN, new MoneyValue(100.0, Currency.US_DOLLAR))));
+        }
+
+        @Test
+        public void testNullHistory() {
+            // When
+            Exception exception = assertThrows(Exception.class,
+                    () -> new AsOfConverter(null, Currency.EURO, ExchangeRateProvider.ExchangeRateType.DAILY));
+
+            // Then
+            assertEquals(RuntimeException.class, exception.getClass());
+            assertEquals(PROVIDER_NULL, exception.getMessage());
+        }
+
+        @Test
+        public void testNullRow() {
+            // When
+            Exception exception = assertThrows(Exception.class, () -> converter.convert(null));
+
+            // Then
+            assertEquals(RuntimeException.class, exception.getClass());
+            assertEquals(MONEY_VALUE_NULL, exception.getMessage());
+        }
+    }
+}
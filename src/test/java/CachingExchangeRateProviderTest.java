@@ -0,0 +1,288 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingExchangeRateProviderTest {
+
+    private final String CACHE_CONFIGURATION_NULL = "Cache configuration can not be null";
+    private final String CURRENCY_NULL = "Currency can not be null";
+
+    private MutableClock clock;
+    private AtomicInteger backendCalls;
+    private CachingExchangeRateProvider provider;
+
+    /**
+     * A clock that only moves when the test advances it.
+     */
+    static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-31T22:00:00Z"));
+        backendCalls = new AtomicInteger();
+        FixedExchangeRateProvider fixed = new FixedExchangeRateProvider();
+        ExchangeRateProvider backend = (from, to, type) -> {
+            backendCalls.incrementAndGet();
+            return fixed.getExchangeRate(from, to, type);
+        };
+        provider = new CachingExchangeRateProvider(backend, Duration.ofSeconds(10), clock, ZoneOffset.UTC);
+    }
+
+    @Nested
+    class testCachingExchangeRateProviderHits {
+        @Test
+        public void testRepeatedLookupsHitCache() {
+            // When
+            for (int i = 0; i < 100; i++)
+                assertEquals(0.93, provider.getExchangeRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME));
+
+            // Then
+            assertEquals(1, backendCalls.get());
+            assertEquals(99, provider.getHitCount());
+            assertEquals(1, provider.getMissCount());
+        }
+
+        @Test
+        public void testTypesAndPairsAreCachedSeparately() {
+            // When
+            double realtime = provider.getExchangeRateAsDouble(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME);
+            double daily = provider.getExchangeRateAsDouble(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.DAILY);
+            double inverse = provider.getExchangeRateAsDouble(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.REALTIME);
+
+            // Then
+            assertEquals(0.93, realtime);
+            assertEquals(0.91, daily);
+            assertEquals(1.07, inverse);
+            assertEquals(3, backendCalls.get());
+        }
+
+        @Test
+        public void testBigDecimalIsBuiltOncePerEntry() {
+            // When
+            BigDecimal first = provider.getExchangeRateAsBigDecimal(Currency.EURO, Currency.JAPANESE_YEN, ExchangeRateProvider.ExchangeRateType.MONTHLY);
+            BigDecimal second = provider.getExchangeRateAsBigDecimal(Currency.EURO, Currency.JAPANESE_YEN, ExchangeRateProvider.ExchangeRateType.MONTHLY);
+
+            // Then
+            assertEquals(BigDecimal.valueOf(170.26), first);
+            assertSame(first, second);
+        }
+
+        @Test
+        public void testInvalidateAll() {
+            // Given
+            provider.getExchangeRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.MONTHLY);
+
+            // When
+            provider.invalidateAll();
+            provider.getExchangeRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.MONTHLY);
+
+            // Then
+            assertEquals(2, backendCalls.get());
+        }
+    }
+
+    @Nested
+    class testCachingExchangeRateProviderExpiry {
+        @Test
+        public void testRealtimeExpiresAfterTtl() {
+            // Given
+            provider.getExchangeRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME);
+
+            // When
+            clock.advance(Duration.ofSeconds(9));
+            provider.getExchangeRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME);
+            clock.advance(Duration.ofSeconds(1));
+            provider.getExchangeRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME);
+
+            // Then
+            assertEquals(2, backendCalls.get());
+        }
+
+        @Test
+        public void testDailyExpiresAtDayBoundary() {
+            // Given
+            provider.getExchangeRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.DAILY);
+
+            // When
+            clock.advance(Duration.ofMinutes(119));
+            provider.getExchangeRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.DAILY);
+            clock.advance(Duration.ofMinutes(1));
+            provider.getExchangeRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.DAILY);
+
+            // Then
+            assertEquals(2, backendCalls.get());
+        }
+
+        @Test
+        public void testMonthlyExpiresAtMonthBoundary() {
+            // Given
+            CachingExchangeRateProvider berlin = new CachingExchangeRateProvider(new FixedExchangeRateProvider(),
+                    Duration.ofSeconds(10), clock, ZoneId.of("Europe/Berlin"));
+
+            // When
+            long monthly = berlin.expiresAt(ExchangeRateProvider.ExchangeRateType.MONTHLY, clock.millis());
+            long daily = provider.expiresAt(ExchangeRateProvider.ExchangeRateType.DAILY, clock.millis());
+
+            // Then
+            // In Berlin January ends one hour before it ends in UTC
+            assertEquals(Instant.parse("2024-01-31T23:00:00Z").toEpochMilli(), monthly);
+            assertEquals(Instant.parse("2024-02-01T00:00:00Z").toEpochMilli(), daily);
+        }
+    }
+
+    @Nested
+    class testCachingExchangeRateProviderStaleWhileRevalidate {
+        private final List<Runnable> refreshes = new ArrayList<>();
+        private CachingExchangeRateProvider staleProvider;
+
+        @BeforeEach
+        public void setUp() {
+            staleProvider = new CachingExchangeRateProvider((from, to, type) -> 0.5 + backendCalls.incrementAndGet(),
+                    Duration.ofSeconds(10), clock, ZoneOffset.UTC, refreshes::add, Duration.ofSeconds(30));
+        }
+
+        @Test
+        public void testServesStaleRateWhileRefreshing() {
+            // Given
+            staleProvider.getExchangeRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME);
+            clock.advance(Duration.ofSeconds(15));
+
+            // When
+            double stale = staleProvider.getExchangeRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME);
+            staleProvider.getExchangeRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME);
+            refreshes.forEach(Runnable::run);
+            double refreshed = staleProvider.getExchangeRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME);
+
+            // Then
+            assertEquals(1.5, stale);
+            assertEquals(2.5, refreshed);
+            assertEquals(1, refreshes.size());
+            assertEquals(2, staleProvider.getStaleHitCount());
+        }
+
+        @Test
+        public void testBlocksBeyondMaxStaleness() {
+            // Given
+            staleProvider.getExchangeRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME);
+            clock.advance(Duration.ofSeconds(40));
+
+            // When
+            double rate = staleProvider.getExchangeRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME);
+
+            // Then
+            assertEquals(2.5, rate);
+            assertTrue(refreshes.isEmpty());
+            assertEquals(2, staleProvider.getMissCount());
+        }
+
+        @Test
+        public void testOnlyRealtimeIsServedStale() {
+            // Given
+            staleProvider.getExchangeRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.DAILY);
+            clock.advance(Duration.ofHours(2));
+
+            // When
+            double rate = staleProvider.getExchangeRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.DAILY);
+
+            // Then
+            assertEquals(2.5, rate);
+            assertTrue(refreshes.isEmpty());
+        }
+
+        @Test
+        public void testFailedRefreshKeepsStaleRate() {
+            // Given
+            CachingExchangeRateProvider failing = new CachingExchangeRateProvider((from, to, type) -> {
+                if (backendCalls.incrementAndGet() > 1)
+                    throw new IllegalArgumentException("Exchange rate not found");
+                return 0.93;
+            }, Duration.ofSeconds(10), clock, ZoneOffset.UTC, refreshes::add, Duration.ofSeconds(30));
+            failing.getExchangeRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME);
+            clock.advance(Duration.ofSeconds(15));
+
+            // When
+            failing.getExchangeRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME);
+            refreshes.forEach(Runnable::run);
+            double rate = failing.getExchangeRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME);
+
+            // Then
+            assertEquals(0.93, rate);
+            assertEquals(2, refreshes.size());
+        }
+    }
+
+    @Nested
+    class testCachingExchangeRateProviderInvalidArguments {
+        @Test
+        public void testNullConfiguration() {
+            // When
+            Exception exception = assertThrows(Exception.class, () -> new CachingExchangeRateProvider(null));
+
+            // Then
+            assertEquals(RuntimeException.class, exception.getClass());
+            assertEquals(CACHE_CONFIGURATION_NULL, exception.getMessage());
+        }
+
+        @Test
+        public void testNullCurrency() {
+            // When
+            Exception exception = assertThrows(Exception.class,
+                    () -> provider.getExchangeRate(null, Currency.EURO, ExchangeRateProvider.ExchangeRateType.DAILY));
+
+            // Then
+            assertEquals(CURRENCY_NULL, exception.getMessage());
+            assertEquals(0, backendCalls.get());
+        }
+
+        @Test
+        public void testBackendFailureIsNotCached() {
+            // Given
+            CachingExchangeRateProvider failing = new CachingExchangeRateProvider((from, to, type) -> {
+                backendCalls.incrementAndGet();
+                throw new IllegalArgumentException("Exchange rate not found");
+            });
+
+            // When & Then
+            assertThrows(IllegalArgumentException.class, () -> failing.getExchangeRate(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.DAILY));
+            assertThrows(IllegalArgumentException.class, () -> failing.getExchangeRate(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.DAILY));
+            assertEquals(2, backendCalls.get());
+        }
+    }
+}
@@ -8,6 +8,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -172,6 +176,36 @@ class CalculatorTest {
             assertEquals(expectedResult.getAmount(), y.getAmount());
         }
 
+        @Test
+        public void testAddLeavesInitialMoneyValueUnchanged () {
+            // Given
+            MoneyValue moneyValue = new MoneyValue(100.0, Currency.US_DOLLAR);
+            MoneyValue expectedInitial = new MoneyValue(100.0, Currency.US_DOLLAR);
+
+            // When
+            calculator.add(moneyValue);
+
+            // Then
+            assertEquals(expectedInitial, moneyValueMock);
+            assertEquals(new MoneyValue(200.0, Currency.US_DOLLAR), calculator.getMoneyValueClient());
+        }
+
+        @Test
+        public void testRunningTotalIsNotShared () {
+            // Given
+            MoneyValue moneyValue = new MoneyValue(100.0, Currency.US_DOLLAR);
+            calculator.add(moneyValue);
+
+            // When
+            MoneyValue returned = (MoneyValue) calculator.getMoneyValueClient();
+            returned.add(moneyValue);
+            moneyValueMock.add(moneyValue);
+
+            // Then
+            assertNotSame(returned, calculator.getMoneyValueClient());
+            assertEquals(new MoneyValue(200.0, Currency.US_DOLLAR), calculator.getMoneyValueClient());
+        }
+
         @Test
         public void testAddValidDifferentCurrency () {
             // Given
@@ -192,6 +226,80 @@ class CalculatorTest {
         }
     }
 
+    @Nested
+    class testCalculatorSumAll {
+        @Test
+        public void testSumAllSameCurrency () {
+            // Given
+            MoneyValue[] values = new MoneyValue[100_000];
+            Arrays.fill(values, new MoneyValue(0.01, Currency.US_DOLLAR));
+
+            // When
+            MoneyValue y = (MoneyValue)calculator.sumAll(values).getMoneyValueClient();
+
+            // Then
+            assertEquals(new MoneyValue(1100.0, Currency.US_DOLLAR), y);
+            verifyNoInteractions(converterMock);
+        }
+
+        @Test
+        public void testSumAllConvertsEachCurrencyOnce () {
+            // Given
+            List<MoneyValue> values = new ArrayList<>();
+            for (int i = 0; i < 20_000; i++)
+                values.add(new MoneyValue(i % 2 == 0 ? 1.0 : 0.5, i % 2 == 0 ? Currency.US_DOLLAR : Currency.EURO));
+            when(converterMock.convertAmount(new BigDecimal("5000.00"), Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.REALTIME))
+                    .thenReturn(new BigDecimal("5350"));
+
+            // When
+            MoneyValue y = (MoneyValue)calculator.sumAll(values).getMoneyValueClient();
+
+            // Then
+            assertEquals(new MoneyValue(15450, Currency.US_DOLLAR), y);
+            verify(converterMock, times(1)).convertAmount(any(), any(), any(), any());
+        }
+
+        @Test
+        public void testSumAllRoundsOnlyTheGrandTotal () {
+            // Given
+            Converter converter = new Converter((from, to, type) -> 0.5);
+            Calculator sumCalculator = new Calculator(new MoneyValue(0, Currency.US_DOLLAR), converter);
+            MoneyValue[] values = {new MoneyValue(0.01, Currency.EURO), new MoneyValue(0.01, Currency.BRITISH_POUND)};
+
+            // When
+            MoneyValue y = (MoneyValue)sumCalculator.sumAll(values).getMoneyValueClient();
+
+            // Then
+            // Rounding each converted subtotal would give 0.01 + 0.01
+            assertEquals(new MoneyValue(0.01, Currency.US_DOLLAR), y);
+        }
+
+        @Test
+        public void testSumAllNullValue () {
+            // Given
+            MoneyValue[] values = new MoneyValue[50_000];
+            Arrays.fill(values, new MoneyValue(1, Currency.US_DOLLAR));
+            values[42_000] = null;
+
+            // When
+            Exception exception = assertThrows(Exception.class, () -> calculator.sumAll(values));
+
+            // Then
+            assertEquals(RuntimeException.class, exception.getClass());
+            assertEquals("Money Value can not be null", exception.getMessage());
+            assertEquals(new MoneyValue(100.0, Currency.US_DOLLAR), calculator.getMoneyValueClient());
+        }
+
+        @Test
+        public void testSumAllEmpty () {
+            // When
+            MoneyValue y = (MoneyValue)calculator.sumAll(Collections.emptyList()).getMoneyValueClient();
+
+            // Then
+            assertEquals(new MoneyValue(100.0, Currency.US_DOLLAR), y);
+        }
+    }
+
     @Nested
     class testCalculatorSubtract {
         @Test
@@ -0,0 +1,137 @@
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoalescingExchangeRateProviderTest {
+
+    private static final int THREADS = 8;
+
+    private final AtomicInteger backendCalls = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Starts THREADS lookups of the same rate and waits until all but the fetching one are waiting for it.
+     */
+    private List<Future<Double>> startLookups(ExecutorService executor, CoalescingExchangeRateProvider provider) throws InterruptedException {
+        List<Future<Double>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++)
+            results.add(executor.submit(() -> provider.getExchangeRate(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.REALTIME)));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (provider.getCoalescedCount() < THREADS - 1 && System.nanoTime() < deadline)
+            Thread.sleep(1);
+        return results;
+    }
+
+    @Nested
+    class testCoalescingExchangeRateProviderConcurrency {
+        @Test
+        public void testConcurrentLookupsShareOneFetch() throws Exception {
+            // Given
+            CoalescingExchangeRateProvider provider = new CoalescingExchangeRateProvider((from, to, type) -> {
+                backendCalls.incrementAndGet();
+                awaitRelease();
+                return 1.07;
+            });
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+            // When
+            List<Future<Double>> results = startLookups(executor, provider);
+            release.countDown();
+
+            // Then
+            for (Future<Double> result : results)
+                assertEquals(1.07, result.get(10, TimeUnit.SECONDS));
+            assertEquals(1, backendCalls.get());
+            assertEquals(THREADS - 1, provider.getCoalescedCount());
+            executor.shutdown();
+        }
+
+        @Test
+        public void testFailureIsSharedWithWaiters() throws Exception {
+            // Given
+            CoalescingExchangeRateProvider provider = new CoalescingExchangeRateProvider((from, to, type) -> {
+                backendCalls.incrementAndGet();
+                awaitRelease();
+                throw new IllegalArgumentException("Exchange rate not found");
+            });
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+            // When
+            List<Future<Double>> results = startLookups(executor, provider);
+            release.countDown();
+
+            // Then
+            for (Future<Double> result : results) {
+                Exception exception = assertThrows(Exception.class, () -> result.get(10, TimeUnit.SECONDS));
+                assertEquals(IllegalArgumentException.class, exception.getCause().getClass());
+            }
+            assertEquals(1, backendCalls.get());
+            executor.shutdown();
+        }
+    }
+
+    @Nested
+    class testCoalescingExchangeRateProviderSequential {
+        @Test
+        public void testCompletedFetchIsNotReused() {
+            // Given
+            CoalescingExchangeRateProvider provider = new CoalescingExchangeRateProvider((from, to, type) -> {
+                backendCalls.incrementAndGet();
+                return 0.84;
+            });
+
+            // When
+            provider.getExchangeRate(Currency.EURO, Currency.BRITISH_POUND, ExchangeRateProvider.ExchangeRateType.DAILY);
+            double rate = provider.getExchangeRateAsDouble(Currency.EURO, Currency.BRITISH_POUND, ExchangeRateProvider.ExchangeRateType.DAILY);
+
+            // Then
+            assertEquals(0.84, rate);
+            assertEquals(2, backendCalls.get());
+            assertEquals(0, provider.getCoalescedCount());
+        }
+
+        @Test
+        public void testComposesWithCache() {
+            // Given
+            CachingExchangeRateProvider provider = new CachingExchangeRateProvider(new CoalescingExchangeRateProvider((from, to, type) -> {
+                backendCalls.incrementAndGet();
+                return 169.26;
+            }));
+
+            // When
+            for (int i = 0; i < 10; i++)
+                provider.getExchangeRate(Currency.EURO, Currency.JAPANESE_YEN, ExchangeRateProvider.ExchangeRateType.MONTHLY);
+
+            // Then
+            assertEquals(1, backendCalls.get());
+        }
+
+        @Test
+        public void testNullProvider() {
+            // When
+            Exception exception = assertThrows(Exception.class, () -> new CoalescingExchangeRateProvider(null));
+
+            // Then
+            assertEquals(RuntimeException.class, exception.getClass());
+            assertEquals("ExchangeRateProvider can not be null", exception.getMessage());
+        }
+    }
+}
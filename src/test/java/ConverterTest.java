@@ -2,19 +2,23 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
         import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class ConverterTest {
-    @Mock
+    // Real default methods, so that the rate accessors fall back to the stubbed getExchangeRate
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private ExchangeRateProvider exchangeRateProvider;
 
     @InjectMocks
@@ -139,4 +143,191 @@ public class ConverterTest {
             assertEquals("ExchangeRateType can not be null", exception.getMessage());
         }
     }
+
+    @Nested
+    class testConverterRateAccessor {
+        @Test
+        public void testConvertToUsesBigDecimalAccessor() {
+            // Given
+            ExchangeRateProvider decimalProvider = new ExchangeRateProvider() {
+                @Override
+                public Double getExchangeRate(Currency from, Currency to, ExchangeRateType type) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public BigDecimal getExchangeRateAsBigDecimal(Currency from, Currency to, ExchangeRateType type) {
+                    return new BigDecimal("0.925");
+                }
+            };
+
+            // When
+            MoneyValue result = new Converter(decimalProvider).convertTo(mv, Currency.EURO);
+
+            // Then
+            assertEquals(new MoneyValue(92.5, Currency.EURO), result);
+        }
+    }
+
+    @Nested
+    class testConverterConvertAll {
+        @Test
+        public void testConvertAllLooksUpEachRateOnce() {
+            // Given
+            when(exchangeRateProvider.getExchangeRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.DAILY))
+                    .thenReturn(0.91);
+            when(exchangeRateProvider.getExchangeRate(Currency.JAPANESE_YEN, Currency.EURO, ExchangeRateProvider.ExchangeRateType.DAILY))
+                    .thenReturn(0.0057);
+            List<MoneyValue> values = Arrays.asList(mv, new MoneyValue(1234.5, Currency.JAPANESE_YEN),
+                    new MoneyValue(0.55, Currency.US_DOLLAR), new MoneyValue(-10, Currency.JAPANESE_YEN));
+
+            // When
+            List<MoneyValue> result = converter.convertAll(values, Currency.EURO, ExchangeRateProvider.ExchangeRateType.DAILY);
+
+            // Then
+            assertEquals(Arrays.asList(new MoneyValue(91, Currency.EURO), new MoneyValue(7.04, Currency.EURO),
+                    new MoneyValue(0.5, Currency.EURO), new MoneyValue(-0.06, Currency.EURO)), result);
+            verify(exchangeRateProvider, times(2)).getExchangeRate(any(), any(), any());
+        }
+
+        @Test
+        public void testConvertAllMatchesConvertTo() {
+            // Given
+            Converter fixedConverter = new Converter(new FixedExchangeRateProvider());
+            MoneyValue[] values = {new MoneyValue(new BigDecimal("123456789012345678901.23"), Currency.BRITISH_POUND),
+                    new MoneyValue(new BigDecimal("90000000000000000.00"), Currency.JAPANESE_YEN),
+                    new MoneyValue(new BigDecimal("-0.05"), Currency.EURO), new MoneyValue(19.99, Currency.US_DOLLAR)};
+
+            // When
+            MoneyValue[] result = fixedConverter.convertAll(values, Currency.JAPANESE_YEN, ExchangeRateProvider.ExchangeRateType.MONTHLY);
+
+            // Then
+            for (int i = 0; i < values.length; i++)
+                assertEquals(fixedConverter.convertTo(values[i], Currency.JAPANESE_YEN, ExchangeRateProvider.ExchangeRateType.MONTHLY), result[i]);
+        }
+
+        @Test
+        public void testConvertAllAtLongMinValueBoundary() {
+            // Given
+            Converter fixedConverter = new Converter(new FixedExchangeRateProvider());
+            MoneyValue[] values = {new MoneyValue(new BigDecimal("-92233720368547758.08"), Currency.EURO),
+                    new MoneyValue(new BigDecimal("-92233720368547758.07"), Currency.EURO)};
+
+            // When
+            MoneyValue[] result = fixedConverter.convertAll(values, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.DAILY);
+
+            // Then
+            for (int i = 0; i < values.length; i++)
+                assertEquals(fixedConverter.convertTo(values[i], Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.DAILY), result[i]);
+        }
+
+        @Test
+        public void testConvertAllNullValue() {
+            // Given
+            MoneyValue[] values = {mv, null};
+            when(exchangeRateProvider.getExchangeRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME))
+                    .thenReturn(0.93);
+
+            // When
+            Exception exception = assertThrows(Exception.class,
+                    () -> converter.convertAll(values, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME));
+
+            // Then
+            assertEquals(RuntimeException.class, exception.getClass());
+            assertEquals("Invalid Money Value", exception.getMessage());
+        }
+
+        @Test
+        public void testConvertAllCurrencyNull() {
+            // When
+            Exception exception = assertThrows(Exception.class,
+                    () -> converter.convertAll(new MoneyValue[]{mv}, null, ExchangeRateProvider.ExchangeRateType.REALTIME));
+
+            // Then
+            assertEquals("Converter can not be null", exception.getMessage());
+        }
+    }
+
+    @Nested
+    class testConverterSnapshots {
+        @Test
+        public void testPinnedConverterKeepsRates() {
+            // Given
+            SnapshotExchangeRateProvider provider = new SnapshotExchangeRateProvider(RateTable.builder()
+                    .put(ExchangeRateProvider.ExchangeRateType.REALTIME, Currency.US_DOLLAR, Currency.EURO, 0.93)
+                    .build());
+            Converter pinned = new Converter(provider).pinSnapshot();
+
+            // When
+            provider.update(rates -> rates.put(ExchangeRateProvider.ExchangeRateType.REALTIME, Currency.US_DOLLAR, Currency.EURO, 0.5));
+            MoneyValue result = pinned.convertTo(mv, Currency.EURO);
+            MoneyValue current = new Converter(provider).convertTo(mv, Currency.EURO);
+
+            // Then
+            assertEquals(new MoneyValue(93.0, Currency.EURO), result);
+            assertEquals(new MoneyValue(50.0, Currency.EURO), current);
+        }
+
+        @Test
+        public void testConvertAllUsesOneSnapshot() {
+            // Given
+            SnapshotExchangeRateProvider provider = new SnapshotExchangeRateProvider(FixedExchangeRateProvider.getRateTable());
+            RateSnapshotProvider publishingDuringBatch = new RateSnapshotProvider() {
+                @Override
+                public RateTable getSnapshot() {
+                    RateTable snapshot = provider.getSnapshot();
+                    provider.update(rates -> rates.put(ExchangeRateProvider.ExchangeRateType.DAILY, Currency.EURO, Currency.US_DOLLAR, 2.0));
+                    return snapshot;
+                }
+
+                @Override
+                public Double getExchangeRate(Currency from, Currency to, ExchangeRateProvider.ExchangeRateType type) {
+                    return provider.getExchangeRate(from, to, type);
+                }
+            };
+            MoneyValue[] values = {new MoneyValue(10.0, Currency.EURO), new MoneyValue(20.0, Currency.EURO)};
+
+            // When
+            MoneyValue[] result = new Converter(publishingDuringBatch).convertAll(values, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.DAILY);
+
+            // Then
+            assertEquals(new MoneyValue(10.9, Currency.US_DOLLAR), result[0]);
+            assertEquals(new MoneyValue(21.8, Currency.US_DOLLAR), result[1]);
+            assertEquals(2.0, provider.getExchangeRateAsDouble(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.DAILY));
+        }
+
+        @Test
+        public void testPinWithoutSnapshotsReturnsSameConverter() {
+            // When & Then
+            assertSame(converter, converter.pinSnapshot());
+        }
+    }
+
+    @Nested
+    class testConverterIsoCurrencies {
+        @Test
+        public void testConvertToIsoCurrency() {
+            // Given
+            when(exchangeRateProvider.getExchangeRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.DAILY))
+                    .thenReturn(0.9);
+
+            // When
+            MoneyValue result = converter.convertToIsoCurrency(mv, IsoCurrencyRegistry.fromCode("EUR"), ExchangeRateProvider.ExchangeRateType.DAILY);
+
+            // Then
+            assertEquals(new MoneyValue(90.0, Currency.EURO), result);
+        }
+
+        @Test
+        public void testConvertToUnsupportedIsoCurrency() {
+            // Given
+            IsoCurrency franc = IsoCurrencyRegistry.fromCode("CHF");
+
+            // When
+            Exception exception = assertThrows(RuntimeException.class, () -> converter.convertToIsoCurrency(mv, franc, ExchangeRateProvider.ExchangeRateType.DAILY));
+
+            // Then
+            assertEquals("Currency is not supported", exception.getMessage());
+        }
+    }
 }
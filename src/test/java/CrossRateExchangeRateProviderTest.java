@@ -0,0 +1,195 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CrossRateExchangeRateProviderTest {
+
+    private final String PROVIDER_NULL = "ExchangeRateProvider can not be null";
+    private final String CURRENCY_NULL = "Currency can not be null";
+    private final String MATH_CONTEXT_NULL = "MathContext can not be null";
+    private final String MATH_CONTEXT_UNLIMITED = "MathContext must have a limited precision";
+
+    private SnapshotExchangeRateProvider pivotRates;
+    private CrossRateExchangeRateProvider provider;
+
+    @BeforeEach
+    public void setUp() {
+        // Only rates against the US dollar, partly in the opposite direction
+        pivotRates = new SnapshotExchangeRateProvider(RateTable.builder()
+                .put(ExchangeRateProvider.ExchangeRateType.REALTIME, Currency.EURO, Currency.US_DOLLAR, 1.25)
+                .put(ExchangeRateProvider.ExchangeRateType.REALTIME, Currency.BRITISH_POUND, Currency.US_DOLLAR, 1.5)
+                .put(ExchangeRateProvider.ExchangeRateType.REALTIME, Currency.US_DOLLAR, Currency.JAPANESE_YEN, 150.0)
+                .build());
+        provider = new CrossRateExchangeRateProvider(pivotRates, Currency.US_DOLLAR);
+    }
+
+    @Nested
+    class testCrossRateExchangeRateProviderDerivation {
+        @Test
+        public void testDirectRate() {
+            // When & Then
+            assertEquals(1.25, provider.getExchangeRate(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.REALTIME));
+            assertEquals(0, provider.getDerivationCount());
+        }
+
+        @Test
+        public void testInvertedPivotRate() {
+            // When & Then
+            assertEquals(0.8, provider.getExchangeRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME));
+        }
+
+        @Test
+        public void testCrossRate() {
+            // When
+            double euroToPound = provider.getExchangeRateAsDouble(Currency.EURO, Currency.BRITISH_POUND, ExchangeRateProvider.ExchangeRateType.REALTIME);
+            double poundToYen = provider.getExchangeRateAsDouble(Currency.BRITISH_POUND, Currency.JAPANESE_YEN, ExchangeRateProvider.ExchangeRateType.REALTIME);
+            double yenToEuro = provider.getExchangeRateAsDouble(Currency.JAPANESE_YEN, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME);
+
+            // Then
+            assertEquals(1.25 * 0.6666666667, euroToPound);
+            assertEquals(225.0, poundToYen, 1e-12);
+            assertEquals(0.006666666667 * 0.8, yenToEuro);
+        }
+
+        @Test
+        public void testLegsMatchInverseRates() {
+            // Given
+            MathContext precision = new MathContext(2);
+            CrossRateExchangeRateProvider cross = new CrossRateExchangeRateProvider(pivotRates, Currency.US_DOLLAR, precision);
+            InverseRateExchangeRateProvider inverse = new InverseRateExchangeRateProvider(pivotRates, precision);
+
+            // When
+            double poundToEuro = cross.getExchangeRateAsDouble(Currency.BRITISH_POUND, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME);
+
+            // Then
+            assertEquals(0.8, cross.getExchangeRateAsDouble(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME));
+            assertEquals(inverse.getExchangeRateAsDouble(Currency.JAPANESE_YEN, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.REALTIME),
+                    cross.getExchangeRateAsDouble(Currency.JAPANESE_YEN, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.REALTIME));
+            assertEquals(0.0067, cross.getExchangeRateAsDouble(Currency.JAPANESE_YEN, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.REALTIME));
+            assertEquals(1.5 * inverse.getExchangeRateAsDouble(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME), poundToEuro);
+        }
+
+        @Test
+        public void testMissingLeg() {
+            // When & Then
+            assertThrows(IllegalArgumentException.class,
+                    () -> provider.getExchangeRate(Currency.EURO, Currency.BRITISH_POUND, ExchangeRateProvider.ExchangeRateType.DAILY));
+        }
+
+        @Test
+        public void testConverterWithCrossRates() {
+            // Given
+            Converter converter = new Converter(provider);
+
+            // When
+            MoneyValue result = converter.convertTo(new MoneyValue(100.0, Currency.BRITISH_POUND), Currency.JAPANESE_YEN);
+
+            // Then
+            assertEquals(new MoneyValue(22500.0, Currency.JAPANESE_YEN), result);
+        }
+    }
+
+    @Nested
+    class testCrossRateExchangeRateProviderCache {
+        @Test
+        public void testDerivedOncePerSnapshot() {
+            // When
+            for (int i = 0; i < 100; i++)
+                provider.getExchangeRateAsDouble(Currency.EURO, Currency.JAPANESE_YEN, ExchangeRateProvider.ExchangeRateType.REALTIME);
+            BigDecimal first = provider.getExchangeRateAsBigDecimal(Currency.EURO, Currency.JAPANESE_YEN, ExchangeRateProvider.ExchangeRateType.REALTIME);
+            BigDecimal second = provider.getExchangeRateAsBigDecimal(Currency.EURO, Currency.JAPANESE_YEN, ExchangeRateProvider.ExchangeRateType.REALTIME);
+
+            // Then
+            assertEquals(1, provider.getDerivationCount());
+            assertSame(first, second);
+        }
+
+        @Test
+        public void testNewSnapshotDropsDerivedRates() {
+            // Given
+            provider.getExchangeRateAsDouble(Currency.EURO, Currency.JAPANESE_YEN, ExchangeRateProvider.ExchangeRateType.REALTIME);
+
+            // When
+            pivotRates.update(rates -> rates.put(ExchangeRateProvider.ExchangeRateType.REALTIME, Currency.US_DOLLAR, Currency.JAPANESE_YEN, 160.0));
+            double rate = provider.getExchangeRateAsDouble(Currency.EURO, Currency.JAPANESE_YEN, ExchangeRateProvider.ExchangeRateType.REALTIME);
+
+            // Then
+            assertEquals(200.0, rate, 1e-12);
+            assertEquals(2, provider.getDerivationCount());
+        }
+    }
+
+    @Nested
+    class testCrossRateExchangeRateProviderSnapshots {
+        @Test
+        public void testSnapshotContainsDerivedRates() {
+            // When
+            RateTable snapshot = provider.getSnapshot();
+
+            // Then
+            assertEquals(pivotRates.getSnapshot().getVersion(), snapshot.getVersion());
+            assertEquals(1.25, snapshot.getRate(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.REALTIME));
+            assertEquals(1.25 * 0.6666666667, snapshot.getRate(Currency.EURO, Currency.BRITISH_POUND, ExchangeRateProvider.ExchangeRateType.REALTIME));
+            assertTrue(Double.isNaN(snapshot.getRate(Currency.EURO, Currency.BRITISH_POUND, ExchangeRateProvider.ExchangeRateType.DAILY)));
+            assertSame(snapshot, provider.getSnapshot());
+        }
+
+        @Test
+        public void testPinnedConverterKeepsDerivedRatesOfOneSnapshot() {
+            // Given
+            Converter pinned = new Converter(provider).pinSnapshot();
+
+            // When
+            pivotRates.update(rates -> rates.put(ExchangeRateProvider.ExchangeRateType.REALTIME, Currency.EURO, Currency.US_DOLLAR, 3.0));
+            MoneyValue result = pinned.convertTo(new MoneyValue(15, Currency.EURO), Currency.BRITISH_POUND);
+
+            // Then
+            assertEquals(new MoneyValue(12.5, Currency.BRITISH_POUND), result);
+            assertEquals(3.0 * 0.6666666667, provider.getExchangeRateAsDouble(Currency.EURO, Currency.BRITISH_POUND, ExchangeRateProvider.ExchangeRateType.REALTIME));
+        }
+    }
+
+    @Nested
+    class testCrossRateExchangeRateProviderInvalidArguments {
+        @Test
+        public void testNullConfiguration() {
+            // When
+            Exception sourceException = assertThrows(Exception.class, () -> new CrossRateExchangeRateProvider(null, Currency.US_DOLLAR));
+            Exception pivotException = assertThrows(Exception.class, () -> new CrossRateExchangeRateProvider(pivotRates, null));
+
+            // Then
+            assertEquals(RuntimeException.class, pivotException.getClass());
+            assertEquals(PROVIDER_NULL, sourceException.getMessage());
+            assertEquals(CURRENCY_NULL, pivotException.getMessage());
+        }
+
+        @Test
+        public void testInvalidPrecision() {
+            // When
+            Exception nullException = assertThrows(Exception.class,
+                    () -> new CrossRateExchangeRateProvider(pivotRates, Currency.US_DOLLAR, null));
+            Exception unlimitedException = assertThrows(Exception.class,
+                    () -> new CrossRateExchangeRateProvider(pivotRates, Currency.US_DOLLAR, MathContext.UNLIMITED));
+
+            // Then
+            assertEquals(RuntimeException.class, unlimitedException.getClass());
+            assertEquals(MATH_CONTEXT_NULL, nullException.getMessage());
+            assertEquals(MATH_CONTEXT_UNLIMITED, unlimitedException.getMessage());
+        }
+
+        @Test
+        public void testNullCurrency() {
+            // When
+            Exception exception = assertThrows(Exception.class,
+                    () -> provider.getExchangeRate(null, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME));
+
+            // Then
+            assertEquals(CURRENCY_NULL, exception.getMessage());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
 import java.util.Locale;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -62,6 +63,31 @@ class CurrencyFormatterTest {
         assertEquals(expected, formatted);
     }
 
+    @Test
+    public void testToISOCodeWithMinorDigits() {
+        // Given
+        BigDecimal amount = new BigDecimal("1234.5678");
+
+        // When
+        String yen = CurrencyFormatter.formatISOCode(amount, IsoCurrencyRegistry.fromCode("JPY"), Locale.GERMANY);
+        String dinar = CurrencyFormatter.formatISOCode(amount, IsoCurrencyRegistry.fromCode("KWD"), Locale.GERMANY);
+        String franc = CurrencyFormatter.formatISOCode(amount, IsoCurrencyRegistry.fromCode("CHF"), Locale.US);
+
+        // Then
+        assertEquals("1.235 JPY", yen);
+        assertEquals("1.234,568 KWD", dinar);
+        assertEquals("CHF 1,234.57", franc);
+    }
+
+    @Test
+    public void testToISOCodeWithNullCurrency() {
+        // When
+        Exception exception = assertThrows(RuntimeException.class, () -> CurrencyFormatter.formatISOCode(BigDecimal.ONE, null, Locale.GERMANY));
+
+        // Then
+        assertEquals("Currency can not be null", exception.getMessage());
+    }
+
 
 
 }
\ No newline at end of file
@@ -26,4 +26,39 @@ class CurrencyTest {
         // Then
         assertEquals(Currency.EURO, result);
     }
-}
\ No newline at end of file
+
+    @Test
+    void fromIsoCodeUnknown() {
+        // When & Then
+        assertNull(Currency.fromIsoCode("CHF"));
+        assertNull(Currency.fromIsoCode("eur"));
+        assertNull(Currency.fromIsoCode("EURO"));
+        assertNull(Currency.fromIsoCode(null));
+    }
+
+    @Test
+    void fromPackedCode() {
+        // Given
+        int packedCode = IsoCurrencyRegistry.pack("GBP");
+
+        // When
+        Currency result = Currency.fromPackedCode(packedCode);
+
+        // Then
+        assertEquals(Currency.BRITISH_POUND, result);
+        assertEquals(packedCode, result.getPackedCode());
+        assertNull(Currency.fromPackedCode(-1));
+    }
+
+    @Test
+    void isoCurrency() {
+        // When
+        IsoCurrency result = Currency.JAPANESE_YEN.toIsoCurrency();
+
+        // Then
+        assertEquals("JPY", result.getCode());
+        assertEquals(392, Currency.JAPANESE_YEN.getNumericCode());
+        assertEquals(0, Currency.JAPANESE_YEN.getMinorDigits());
+        assertEquals(Currency.JAPANESE_YEN, result.getCurrency());
+    }
+}
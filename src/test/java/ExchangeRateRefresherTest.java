@@ -0,0 +1,250 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExchangeRateRefresherTest {
+
+    private final String REFRESH_CONFIGURATION_NULL = "Refresh configuration can not be null";
+    private final String PROVIDER_NULL = "ExchangeRateProvider can not be null";
+    private final String CURRENCY_NULL = "Currency can not be null";
+
+    private AtomicInteger backendCalls;
+    private ExchangeRateProvider backend;
+    private ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    public void setUp() {
+        backendCalls = new AtomicInteger();
+        FixedExchangeRateProvider fixed = new FixedExchangeRateProvider();
+        backend = (from, to, type) -> {
+            backendCalls.incrementAndGet();
+            return fixed.getExchangeRate(from, to, type);
+        };
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Nested
+    class testExchangeRateRefresherWarmUp {
+        @Test
+        public void testStartLoadsEveryRate() {
+            // Given
+            ExchangeRateRefresher refresher = new ExchangeRateRefresher(backend, scheduler, Duration.ofHours(1));
+            int currencies = Currency.values().length;
+
+            // When
+            refresher.start();
+            int callsAfterStart = backendCalls.get();
+            for (int i = 0; i < 100; i++)
+                assertEquals(0.93, refresher.getExchangeRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME));
+
+            // Then
+            assertEquals(ExchangeRateProvider.ExchangeRateType.values().length * currencies * (currencies - 1), callsAfterStart);
+            assertEquals(callsAfterStart, backendCalls.get());
+            assertEquals(1, refresher.getRefreshCount());
+            assertEquals(BigDecimal.valueOf(171.26), refresher.getExchangeRateAsBigDecimal(Currency.EURO, Currency.JAPANESE_YEN, ExchangeRateProvider.ExchangeRateType.DAILY));
+            assertEquals(1.0, refresher.getExchangeRateAsDouble(Currency.EURO, Currency.EURO, ExchangeRateProvider.ExchangeRateType.DAILY));
+            refresher.stop();
+        }
+
+        @Test
+        public void testNotStartedHasNoRates() {
+            // Given
+            ExchangeRateRefresher refresher = new ExchangeRateRefresher(backend, scheduler, Duration.ofHours(1));
+
+            // When & Then
+            assertThrows(IllegalArgumentException.class,
+                    () -> refresher.getExchangeRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME));
+            assertEquals(0, backendCalls.get());
+        }
+    }
+
+    @Nested
+    class testExchangeRateRefresherRefresh {
+        @Test
+        public void testRefreshPublishesNewTable() {
+            // Given
+            AtomicInteger generation = new AtomicInteger();
+            ExchangeRateRefresher refresher = new ExchangeRateRefresher((from, to, type) -> (double) generation.get(),
+                    scheduler, Duration.ofHours(1));
+            refresher.start();
+            RateTable first = refresher.getSnapshot();
+
+            // When
+            generation.set(2);
+            RateTable second = refresher.refresh();
+
+            // Then
+            assertNotSame(first, second);
+            assertSame(second, refresher.getSnapshot());
+            assertEquals(0.0, first.getRate(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.MONTHLY));
+            assertEquals(2.0, refresher.getExchangeRateAsDouble(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.MONTHLY));
+            refresher.stop();
+        }
+
+        @Test
+        public void testFailedLookupKeepsPreviousRate() {
+            // Given
+            AtomicInteger generation = new AtomicInteger(1);
+            ExchangeRateRefresher refresher = new ExchangeRateRefresher((from, to, type) -> {
+                if (generation.get() > 1 && from == Currency.EURO)
+                    throw new IllegalArgumentException("Exchange rate not found");
+                return (double) generation.get();
+            }, scheduler, Duration.ofHours(1));
+            refresher.start();
+
+            // When
+            generation.set(2);
+            refresher.refresh();
+
+            // Then
+            assertEquals(1.0, refresher.getExchangeRateAsDouble(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.REALTIME));
+            assertEquals(2.0, refresher.getExchangeRateAsDouble(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME));
+            assertEquals(ExchangeRateProvider.ExchangeRateType.values().length * (Currency.values().length - 1), refresher.getFailureCount());
+            refresher.stop();
+        }
+
+        @Test
+        public void testScheduledRefreshes() throws InterruptedException {
+            // Given
+            ExchangeRateRefresher refresher = new ExchangeRateRefresher(backend, scheduler, Duration.ofMillis(5), Duration.ofMillis(5));
+
+            // When
+            refresher.start();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (refresher.getRefreshCount() < 3 && System.nanoTime() < deadline)
+                Thread.sleep(1);
+            refresher.stop();
+
+            // Then
+            assertTrue(refresher.getRefreshCount() >= 3);
+        }
+
+        @Test
+        public void testRestartDuringRefreshKeepsOneChain() throws InterruptedException {
+            // Given
+            ScheduledThreadPoolExecutor single = new ScheduledThreadPoolExecutor(1);
+            AtomicReference<CountDownLatch> entered = new AtomicReference<>();
+            AtomicReference<CountDownLatch> release = new AtomicReference<>(new CountDownLatch(1));
+            ExchangeRateRefresher refresher = new ExchangeRateRefresher((from, to, type) -> {
+                CountDownLatch latch = entered.get();
+                if (latch != null) {
+                    latch.countDown();
+                    try {
+                        release.get().await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return 1.0;
+            }, single, Duration.ofMillis(5), Duration.ZERO);
+            try {
+                refresher.start();
+                CountDownLatch scheduledRefresh = new CountDownLatch(1);
+                entered.set(scheduledRefresh);
+                assertTrue(scheduledRefresh.await(10, TimeUnit.SECONDS));
+
+                // When
+                refresher.stop();
+                Thread restart = new Thread(refresher::start);
+                restart.start();
+                while (restart.getState() != Thread.State.BLOCKED)
+                    Thread.sleep(1);
+                entered.set(null);
+                release.getAndSet(new CountDownLatch(1)).countDown();
+                restart.join();
+                CountDownLatch nextRefresh = new CountDownLatch(1);
+                entered.set(nextRefresh);
+                assertTrue(nextRefresh.await(10, TimeUnit.SECONDS));
+
+                // Then
+                assertEquals(0, single.getQueue().size());
+            } finally {
+                entered.set(null);
+                release.get().countDown();
+                refresher.stop();
+                single.shutdownNow();
+            }
+        }
+
+        @Test
+        public void testSecondStartIsIgnored() {
+            // Given
+            ExchangeRateRefresher refresher = new ExchangeRateRefresher(backend, scheduler, Duration.ofHours(1));
+            refresher.start();
+            int callsAfterStart = backendCalls.get();
+
+            // When
+            refresher.start();
+
+            // Then
+            assertEquals(callsAfterStart, backendCalls.get());
+            assertEquals(1, refresher.getRefreshCount());
+            refresher.stop();
+        }
+
+        @Test
+        public void testDelayIncludesJitter() {
+            // Given
+            ExchangeRateRefresher refresher = new ExchangeRateRefresher(backend, scheduler, Duration.ofSeconds(60), Duration.ofSeconds(6));
+
+            // When & Then
+            for (int i = 0; i < 1000; i++) {
+                long delay = refresher.nextDelayMillis();
+                assertTrue(delay >= 60_000 && delay <= 66_000);
+            }
+        }
+    }
+
+    @Nested
+    class testExchangeRateRefresherInvalidArguments {
+        @Test
+        public void testNullConfiguration() {
+            // When
+            Exception exception = assertThrows(Exception.class, () -> new ExchangeRateRefresher(backend, null, Duration.ofSeconds(1)));
+
+            // Then
+            assertEquals(RuntimeException.class, exception.getClass());
+            assertEquals(REFRESH_CONFIGURATION_NULL, exception.getMessage());
+        }
+
+        @Test
+        public void testNullDelegate() {
+            // When
+            Exception exception = assertThrows(Exception.class, () -> new ExchangeRateRefresher(null, scheduler, Duration.ofSeconds(1)));
+
+            // Then
+            assertEquals(PROVIDER_NULL, exception.getMessage());
+        }
+
+        @Test
+        public void testNullCurrency() {
+            // Given
+            ExchangeRateRefresher refresher = new ExchangeRateRefresher(backend, scheduler, Duration.ofHours(1));
+
+            // When
+            Exception exception = assertThrows(Exception.class,
+                    () -> refresher.getExchangeRate(Currency.EURO, null, ExchangeRateProvider.ExchangeRateType.DAILY));
+
+            // Then
+            assertEquals(CURRENCY_NULL, exception.getMessage());
+        }
+    }
+}
@@ -1,6 +1,8 @@
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
+
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -116,4 +118,50 @@ class FixedExchangeRateProviderTest {
         // Then
         assertEquals(exception.getClass(), NullPointerException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetExchangeRateAsDouble() {
+        // Given
+        FixedExchangeRateProvider provider = new FixedExchangeRateProvider();
+
+        // When
+        double result = provider.getExchangeRateAsDouble(Currency.BRITISH_POUND, Currency.JAPANESE_YEN, ExchangeRateProvider.ExchangeRateType.DAILY);
+
+        // Then
+        assertEquals(202.43, result);
+        assertEquals(provider.getExchangeRate(Currency.BRITISH_POUND, Currency.JAPANESE_YEN, ExchangeRateProvider.ExchangeRateType.DAILY), result);
+    }
+
+    @Test
+    public void testRateTableIsShared() {
+        // When
+        RateTable table = FixedExchangeRateProvider.getRateTable();
+
+        // Then
+        assertSame(table, FixedExchangeRateProvider.getRateTable());
+        assertEquals(0.0058, table.getRate(Currency.JAPANESE_YEN, Currency.EURO, ExchangeRateProvider.ExchangeRateType.MONTHLY));
+    }
+
+    @Test
+    public void testGetExchangeRateAsBigDecimal() {
+        // Given
+        FixedExchangeRateProvider provider = new FixedExchangeRateProvider();
+
+        // When
+        BigDecimal result = provider.getExchangeRateAsBigDecimal(Currency.EURO, Currency.JAPANESE_YEN, ExchangeRateProvider.ExchangeRateType.REALTIME);
+
+        // Then
+        assertEquals(BigDecimal.valueOf(169.26), result);
+        assertSame(result, provider.getExchangeRateAsBigDecimal(Currency.EURO, Currency.JAPANESE_YEN, ExchangeRateProvider.ExchangeRateType.REALTIME));
+    }
+
+    @Test
+    public void testDefaultRateAccessors() {
+        // Given
+        ExchangeRateProvider provider = (from, to, type) -> 0.0063;
+
+        // When & Then
+        assertEquals(0.0063, provider.getExchangeRateAsDouble(Currency.JAPANESE_YEN, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.REALTIME));
+        assertEquals(new BigDecimal("0.0063"), provider.getExchangeRateAsBigDecimal(Currency.JAPANESE_YEN, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.REALTIME));
+    }
+}
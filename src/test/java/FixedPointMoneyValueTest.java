@@ -0,0 +1,242 @@
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedPointMoneyValueTest {
+
+    private final String INVALID_MONEY_VALUE = "Invalid Money Value";
+    private final String CURRENCIES_NOT_EQUAL = "Currencies are not equal for operation";
+    private final String DIVIDE_BY_ZERO = "Can not divide by zero";
+    private final String AMOUNT_OVERFLOW = "Amount exceeds the fixed-point range";
+
+    @Nested
+    class testFixedPointMoneyValueConstructor {
+        @Test
+        public void testConstructorMinorUnits() {
+            // Given
+            long minorUnits = 1050;
+
+            // When
+            FixedPointMoneyValue value = new FixedPointMoneyValue(minorUnits, Currency.EURO);
+
+            // Then
+            assertEquals(1050, value.getMinorUnits());
+            assertEquals(new BigDecimal("10.50"), value.getAmount());
+            assertEquals(Currency.EURO, value.getCurrency());
+        }
+
+        @Test
+        public void testConstructorNullCurrency() {
+            // When
+            Exception exception = assertThrows(Exception.class, () -> new FixedPointMoneyValue(100, null));
+
+            // Then
+            assertEquals(RuntimeException.class, exception.getClass());
+            assertEquals(INVALID_MONEY_VALUE, exception.getMessage());
+        }
+
+        @Test
+        public void testConstructorNullMoneyValue() {
+            // When
+            Exception exception = assertThrows(Exception.class, () -> new FixedPointMoneyValue(null));
+
+            // Then
+            assertEquals(RuntimeException.class, exception.getClass());
+            assertEquals(INVALID_MONEY_VALUE, exception.getMessage());
+        }
+
+        @Test
+        public void testConstructorMoneyValueOverflow() {
+            // Given
+            MoneyValue huge = new MoneyValue(new BigDecimal("1e20"), Currency.US_DOLLAR);
+
+            // When
+            Exception exception = assertThrows(Exception.class, () -> new FixedPointMoneyValue(huge));
+
+            // Then
+            assertEquals(RuntimeException.class, exception.getClass());
+            assertEquals(AMOUNT_OVERFLOW, exception.getMessage());
+        }
+    }
+
+    @Nested
+    class testFixedPointMoneyValueConversion {
+        @Test
+        public void testRoundTripMoneyValue() {
+            // Given
+            MoneyValue mv = new MoneyValue(new BigDecimal("-1234.57"), Currency.JAPANESE_YEN);
+
+            // When
+            MoneyValue result = new FixedPointMoneyValue(mv).toMoneyValue();
+
+            // Then
+            assertEquals(mv, result);
+        }
+
+        @Test
+        public void testFromMoneyValue() {
+            // Given
+            MoneyValue mv = new MoneyValue(12.345, Currency.US_DOLLAR);
+
+            // When
+            FixedPointMoneyValue value = new FixedPointMoneyValue(mv);
+
+            // Then
+            assertEquals(1235, value.getMinorUnits());
+            assertEquals(Currency.US_DOLLAR, value.getCurrency());
+        }
+    }
+
+    @Nested
+    class testFixedPointMoneyValueOperations {
+        @Test
+        public void testAdd() {
+            // Given
+            FixedPointMoneyValue a = new FixedPointMoneyValue(1050, Currency.US_DOLLAR);
+            FixedPointMoneyValue b = new FixedPointMoneyValue(250, Currency.US_DOLLAR);
+
+            // When
+            FixedPointMoneyValue result = a.add(b);
+
+            // Then
+            assertEquals(new FixedPointMoneyValue(1300, Currency.US_DOLLAR), result);
+            assertEquals(1050, a.getMinorUnits());
+        }
+
+        @Test
+        public void testSubtract() {
+            // Given
+            FixedPointMoneyValue a = new FixedPointMoneyValue(1050, Currency.US_DOLLAR);
+            FixedPointMoneyValue b = new FixedPointMoneyValue(2000, Currency.US_DOLLAR);
+
+            // When
+            FixedPointMoneyValue result = a.subtract(b);
+
+            // Then
+            assertEquals(-950, result.getMinorUnits());
+        }
+
+        @Test
+        public void testMultiplyMatchesMoneyValue() {
+            // Given
+            MoneyValue a = new MoneyValue(new BigDecimal("12.35"), Currency.EURO);
+            MoneyValue b = new MoneyValue(new BigDecimal("-0.55"), Currency.EURO);
+
+            // When
+            FixedPointMoneyValue result = new FixedPointMoneyValue(a).multiply(new FixedPointMoneyValue(b));
+
+            // Then
+            assertEquals(a.multiply(b).getAmount(), result.getAmount());
+        }
+
+        @Test
+        public void testDivideMatchesMoneyValue() {
+            // Given
+            MoneyValue a = new MoneyValue(new BigDecimal("-10.00"), Currency.EURO);
+            MoneyValue b = new MoneyValue(new BigDecimal("3.00"), Currency.EURO);
+
+            // When
+            FixedPointMoneyValue result = new FixedPointMoneyValue(a).divide(new FixedPointMoneyValue(b));
+
+            // Then
+            assertEquals(a.divide(b).getAmount(), result.getAmount());
+        }
+
+        @Test
+        public void testMultiplyLargeIntermediateProduct() {
+            // Given
+            FixedPointMoneyValue a = new FixedPointMoneyValue(Long.MAX_VALUE / 10, Currency.EURO);
+            FixedPointMoneyValue b = new FixedPointMoneyValue(100, Currency.EURO);
+
+            // When
+            FixedPointMoneyValue result = a.multiply(b);
+
+            // Then
+            assertEquals(Long.MAX_VALUE / 10, result.getMinorUnits());
+        }
+
+        @Test
+        public void testAddOverflow() {
+            // Given
+            FixedPointMoneyValue a = new FixedPointMoneyValue(Long.MAX_VALUE, Currency.EURO);
+            FixedPointMoneyValue b = new FixedPointMoneyValue(1, Currency.EURO);
+
+            // When
+            Exception exception = assertThrows(Exception.class, () -> a.add(b));
+
+            // Then
+            assertEquals(RuntimeException.class, exception.getClass());
+            assertEquals(AMOUNT_OVERFLOW, exception.getMessage());
+        }
+
+        @Test
+        public void testDivideByZero() {
+            // Given
+            FixedPointMoneyValue a = new FixedPointMoneyValue(100, Currency.EURO);
+            FixedPointMoneyValue zero = new FixedPointMoneyValue(0, Currency.EURO);
+
+            // When
+            Exception exception = assertThrows(Exception.class, () -> a.divide(zero));
+
+            // Then
+            assertEquals(DIVIDE_BY_ZERO, exception.getMessage());
+        }
+
+        @Test
+        public void testDifferentCurrencies() {
+            // Given
+            FixedPointMoneyValue a = new FixedPointMoneyValue(100, Currency.EURO);
+            FixedPointMoneyValue b = new FixedPointMoneyValue(100, Currency.US_DOLLAR);
+
+            // When
+            Exception exception = assertThrows(Exception.class, () -> a.add(b));
+
+            // Then
+            assertEquals(CURRENCIES_NOT_EQUAL, exception.getMessage());
+        }
+
+        @Test
+        public void testAddMoneyValue() {
+            // Given
+            FixedPointMoneyValue a = new FixedPointMoneyValue(100, Currency.EURO);
+            MoneyValue b = new MoneyValue(2.5, Currency.EURO);
+
+            // When
+            MoneyValue result = a.add(b);
+
+            // Then
+            assertEquals(new MoneyValue(3.5, Currency.EURO), result);
+            assertEquals(100, a.getMinorUnits());
+        }
+    }
+
+    @Nested
+    class testFixedPointMoneyValueComparison {
+        @Test
+        public void testEqualsAndHashCode() {
+            // Given
+            FixedPointMoneyValue a = new FixedPointMoneyValue(100, Currency.EURO);
+            FixedPointMoneyValue b = new FixedPointMoneyValue(100, Currency.EURO);
+
+            // When & Then
+            assertEquals(a, b);
+            assertEquals(a.hashCode(), b.hashCode());
+            assertNotEquals(a, new FixedPointMoneyValue(100, Currency.US_DOLLAR));
+        }
+
+        @Test
+        public void testCompareTo() {
+            // Given
+            FixedPointMoneyValue small = new FixedPointMoneyValue(100, Currency.EURO);
+            FixedPointMoneyValue large = new FixedPointMoneyValue(200, Currency.EURO);
+
+            // When & Then
+            assertTrue(small.compareTo(large) < 0);
+            assertTrue(large.compareTo(small) > 0);
+            assertEquals(0, small.compareTo(new FixedPointMoneyValue(100, Currency.EURO)));
+        }
+    }
+}
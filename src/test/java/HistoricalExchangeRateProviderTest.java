@@ -0,0 +1,134 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HistoricalExchangeRateProviderTest {
+
+    private final String DATE_NULL = "Date can not be null";
+    private final String CURRENCY_NULL = "Currency can not be null";
+    private final String DATE_OUT_OF_RANGE = "Date is out of the supported range";
+
+    private HistoricalExchangeRateProvider provider;
+
+    @BeforeEach
+    public void setUp() {
+        provider = HistoricalExchangeRateProvider.builder()
+                .put(ExchangeRateProvider.ExchangeRateType.DAILY, Currency.EURO, Currency.US_DOLLAR, LocalDate.of(2024, 1, 2), 1.09)
+                .put(ExchangeRateProvider.ExchangeRateType.DAILY, Currency.EURO, Currency.US_DOLLAR, LocalDate.of(2024, 1, 3), 1.10)
+                .put(ExchangeRateProvider.ExchangeRateType.DAILY, Currency.EURO, Currency.US_DOLLAR, LocalDate.of(2024, 1, 5), 1.08)
+                .build();
+    }
+
+    @Nested
+    class testHistoricalExchangeRateProviderAsOf {
+        @Test
+        public void testExactDay() {
+            // When & Then
+            assertEquals(1.10, provider.getExchangeRateAsOf(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.DAILY, LocalDate.of(2024, 1, 3)));
+        }
+
+        @Test
+        public void testDatesBeyondTheEpochDayRange() {
+            // When & Then
+            assertEquals(1.08, provider.getExchangeRateAsOf(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.DAILY, LocalDate.MAX));
+            assertThrows(IllegalArgumentException.class,
+                    () -> provider.getExchangeRateAsOf(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.DAILY, LocalDate.MIN));
+        }
+
+        @Test
+        public void testDayWithoutRateUsesPreviousRate() {
+            // When & Then
+            assertEquals(1.10, provider.getExchangeRateAsOf(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.DAILY, LocalDate.of(2024, 1, 4)));
+            assertEquals(1.08, provider.getExchangeRateAsOf(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.DAILY, LocalDate.of(2025, 6, 1)));
+            assertEquals(BigDecimal.valueOf(1.09), provider.getExchangeRateAsOfAsBigDecimal(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.DAILY, LocalDate.of(2024, 1, 2)));
+        }
+
+        @Test
+        public void testDayBeforeSeries() {
+            // When & Then
+            assertThrows(IllegalArgumentException.class,
+                    () -> provider.getExchangeRateAsOf(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.DAILY, LocalDate.of(2024, 1, 1)));
+        }
+
+        @Test
+        public void testCurrentRateIsLatest() {
+            // When & Then
+            assertEquals(1.08, provider.getExchangeRate(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.DAILY));
+            assertEquals(1.0, provider.getExchangeRate(Currency.EURO, Currency.EURO, ExchangeRateProvider.ExchangeRateType.DAILY));
+            assertThrows(IllegalArgumentException.class,
+                    () -> provider.getExchangeRate(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.MONTHLY));
+        }
+
+        @Test
+        public void testNullArguments() {
+            // When
+            Exception dateException = assertThrows(Exception.class,
+                    () -> provider.getExchangeRateAsOf(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.DAILY, null));
+            Exception currencyException = assertThrows(Exception.class,
+                    () -> provider.getExchangeRateAsOf(null, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.DAILY, LocalDate.of(2024, 1, 3)));
+
+            // Then
+            assertEquals(DATE_NULL, dateException.getMessage());
+            assertEquals(CURRENCY_NULL, currencyException.getMessage());
+        }
+    }
+
+    @Nested
+    class testHistoricalExchangeRateProviderBuilder {
+        @Test
+        public void testPutDateOutOfRange() {
+            // Given
+            HistoricalExchangeRateProvider.Builder builder = HistoricalExchangeRateProvider.builder();
+
+            // When
+            Exception exception = assertThrows(Exception.class,
+                    () -> builder.put(ExchangeRateProvider.ExchangeRateType.DAILY, Currency.EURO, Currency.US_DOLLAR, LocalDate.MAX, 1.0));
+
+            // Then
+            assertEquals(RuntimeException.class, exception.getClass());
+            assertEquals(DATE_OUT_OF_RANGE, exception.getMessage());
+            assertEquals(0, builder.build().getSeriesLength(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.DAILY));
+        }
+
+        @Test
+        public void testUnorderedPutsAreSorted() {
+            // Given
+            HistoricalExchangeRateProvider unordered = HistoricalExchangeRateProvider.builder()
+                    .put(ExchangeRateProvider.ExchangeRateType.DAILY, Currency.US_DOLLAR, Currency.JAPANESE_YEN, 19_730, 157.0)
+                    .put(ExchangeRateProvider.ExchangeRateType.DAILY, Currency.US_DOLLAR, Currency.JAPANESE_YEN, 19_728, 155.0)
+                    .put(ExchangeRateProvider.ExchangeRateType.DAILY, Currency.US_DOLLAR, Currency.JAPANESE_YEN, 19_729, 156.0)
+                    .put(ExchangeRateProvider.ExchangeRateType.DAILY, Currency.US_DOLLAR, Currency.JAPANESE_YEN, 19_728, 154.0)
+                    .build();
+
+            // When & Then
+            assertEquals(3, unordered.getSeriesLength(Currency.US_DOLLAR, Currency.JAPANESE_YEN, ExchangeRateProvider.ExchangeRateType.DAILY));
+            assertEquals(154.0, unordered.getExchangeRateAsOf(Currency.US_DOLLAR, Currency.JAPANESE_YEN, ExchangeRateProvider.ExchangeRateType.DAILY, 19_728));
+            assertEquals(156.0, unordered.getExchangeRateAsOf(Currency.US_DOLLAR, Currency.JAPANESE_YEN, ExchangeRateProvider.ExchangeRateType.DAILY, 19_729));
+            assertEquals(157.0, unordered.getExchangeRateAsOf(Currency.US_DOLLAR, Currency.JAPANESE_YEN, ExchangeRateProvider.ExchangeRateType.DAILY, 19_731));
+        }
+
+        @Test
+        public void testYearsOfDailyRatesForAllPairs() {
+            // Given
+            HistoricalExchangeRateProvider.Builder builder = HistoricalExchangeRateProvider.builder();
+            int start = (int) LocalDate.of(2000, 1, 1).toEpochDay();
+            int end = (int) LocalDate.of(2024, 12, 31).toEpochDay();
+            for (Currency from : Currency.values())
+                for (Currency to : Currency.values())
+                    for (int day = start; day <= end; day++)
+                        builder.put(ExchangeRateProvider.ExchangeRateType.DAILY, from, to, day, day);
+
+            // When
+            HistoricalExchangeRateProvider history = builder.build();
+
+            // Then
+            assertEquals(end - start + 1, history.getSeriesLength(Currency.BRITISH_POUND, Currency.EURO, ExchangeRateProvider.ExchangeRateType.DAILY));
+            assertEquals(start + 4000, history.getExchangeRateAsOf(Currency.BRITISH_POUND, Currency.EURO, ExchangeRateProvider.ExchangeRateType.DAILY, start + 4000));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImmutableMoneyValueTest {
+
+    @Nested
+    class testImmutableMoneyValueOf {
+        @Test
+        public void testOfRoundsToTwoDecimals() {
+            // When
+            ImmutableMoneyValue value = ImmutableMoneyValue.of(new BigDecimal("1.005"), Currency.EURO);
+
+            // Then
+            assertEquals(new BigDecimal("1.01"), value.getAmount());
+            assertEquals(Currency.EURO, value.getCurrency());
+        }
+
+        @Test
+        public void testOfNull() {
+            // When & Then
+            Exception exception = assertThrows(RuntimeException.class, () -> ImmutableMoneyValue.of(null, Currency.EURO));
+            assertEquals("Invalid Money Value", exception.getMessage());
+        }
+
+        @Test
+        public void testToMoneyValueReturnsIndependentCopies() {
+            // Given
+            ImmutableMoneyValue value = ImmutableMoneyValue.of(BigDecimal.TEN, Currency.EURO);
+
+            // When
+            MoneyValue copy = value.toMoneyValue();
+            copy.add(new MoneyValue(5, Currency.EURO));
+
+            // Then
+            assertNotSame(copy, value.toMoneyValue());
+            assertEquals(new MoneyValue(10, Currency.EURO), value.toMoneyValue());
+        }
+    }
+
+    @Nested
+    class testImmutableMoneyValueOperations {
+        @Test
+        public void testOperationsMatchMutableOperations() {
+            // Given
+            ImmutableMoneyValue a = ImmutableMoneyValue.of(new BigDecimal("12.35"), Currency.EURO);
+            ImmutableMoneyValue b = ImmutableMoneyValue.of(new BigDecimal("0.55"), Currency.EURO);
+
+            // When & Then
+            assertEquals(a.toMoneyValue().add(b.toMoneyValue()), a.plus(b).toMoneyValue());
+            assertEquals(a.toMoneyValue().subtract(b.toMoneyValue()), a.minus(b).toMoneyValue());
+            assertEquals(a.toMoneyValue().multiply(b.toMoneyValue()), a.times(b).toMoneyValue());
+            assertEquals(a.toMoneyValue().divide(b.toMoneyValue()), a.dividedBy(b).toMoneyValue());
+        }
+
+        @Test
+        public void testPlusPromotesOnOverflow() {
+            // Given
+            BigDecimal max = BigDecimal.valueOf(Long.MAX_VALUE, 2);
+            ImmutableMoneyValue value = ImmutableMoneyValue.of(max, Currency.US_DOLLAR);
+
+            // When
+            ImmutableMoneyValue result = value.plus(value);
+
+            // Then
+            assertEquals(max.add(max), result.getAmount());
+            assertEquals(ImmutableMoneyValue.of(max.add(max), Currency.US_DOLLAR), result);
+        }
+
+        @Test
+        public void testDividedByZero() {
+            // Given
+            ImmutableMoneyValue value = ImmutableMoneyValue.of(BigDecimal.TEN, Currency.EURO);
+            ImmutableMoneyValue zero = ImmutableMoneyValue.of(BigDecimal.ZERO, Currency.EURO);
+
+            // When & Then
+            Exception exception = assertThrows(RuntimeException.class, () -> value.dividedBy(zero));
+            assertEquals("Can not divide by zero", exception.getMessage());
+        }
+
+        @Test
+        public void testDifferentCurrencies() {
+            // Given
+            ImmutableMoneyValue euro = ImmutableMoneyValue.of(BigDecimal.TEN, Currency.EURO);
+            ImmutableMoneyValue dollar = ImmutableMoneyValue.of(BigDecimal.TEN, Currency.US_DOLLAR);
+
+            // When & Then
+            Exception exception = assertThrows(RuntimeException.class, () -> euro.plus(dollar));
+            assertEquals("Currencies are not equal for operation", exception.getMessage());
+        }
+
+        @Test
+        public void testEqualsAndHashCode() {
+            // Given
+            ImmutableMoneyValue a = ImmutableMoneyValue.of(new BigDecimal("3.10"), Currency.EURO);
+            ImmutableMoneyValue b = new MoneyValue(new BigDecimal("3.1"), Currency.EURO).toImmutable();
+
+            // When & Then
+            assertEquals(a, b);
+            assertEquals(a.hashCode(), b.hashCode());
+            assertEquals(a.toMoneyValue().hashCode(), a.hashCode());
+            assertNotEquals(a, ImmutableMoneyValue.of(new BigDecimal("3.10"), Currency.US_DOLLAR));
+        }
+    }
+}
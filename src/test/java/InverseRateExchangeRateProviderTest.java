@@ -0,0 +1,113 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InverseRateExchangeRateProviderTest {
+
+    private final String PROVIDER_NULL = "ExchangeRateProvider can not be null";
+    private final String MATH_CONTEXT_NULL = "MathContext can not be null";
+    private final String MATH_CONTEXT_UNLIMITED = "MathContext must have a limited precision";
+
+    private SnapshotExchangeRateProvider oneDirection;
+    private InverseRateExchangeRateProvider provider;
+
+    @BeforeEach
+    public void setUp() {
+        oneDirection = new SnapshotExchangeRateProvider(RateTable.builder()
+                .put(ExchangeRateProvider.ExchangeRateType.REALTIME, Currency.US_DOLLAR, Currency.EURO, 0.8)
+                .put(ExchangeRateProvider.ExchangeRateType.REALTIME, Currency.EURO, Currency.JAPANESE_YEN, 169.26)
+                .put(ExchangeRateProvider.ExchangeRateType.REALTIME, Currency.BRITISH_POUND, Currency.EURO, 1.18)
+                .put(ExchangeRateProvider.ExchangeRateType.REALTIME, Currency.EURO, Currency.BRITISH_POUND, 0.84)
+                .build());
+        provider = new InverseRateExchangeRateProvider(oneDirection);
+    }
+
+    @Nested
+    class testInverseRateExchangeRateProviderDerivation {
+        @Test
+        public void testInverseIsDerived() {
+            // When & Then
+            assertEquals(0.8, provider.getExchangeRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME));
+            assertEquals(1.25, provider.getExchangeRate(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.REALTIME));
+        }
+
+        @Test
+        public void testInverseIsRoundedToPrecision() {
+            // Given
+            InverseRateExchangeRateProvider fourDigits = new InverseRateExchangeRateProvider(oneDirection, new MathContext(4));
+
+            // When
+            BigDecimal tenDigits = provider.getExchangeRateAsBigDecimal(Currency.JAPANESE_YEN, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME);
+            BigDecimal rounded = fourDigits.getExchangeRateAsBigDecimal(Currency.JAPANESE_YEN, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME);
+
+            // Then
+            assertEquals(new BigDecimal("0.005908070424"), tenDigits);
+            assertEquals(new BigDecimal("0.005908"), rounded);
+        }
+
+        @Test
+        public void testStoredDirectionsAreKept() {
+            // When & Then
+            assertEquals(0.84, provider.getExchangeRate(Currency.EURO, Currency.BRITISH_POUND, ExchangeRateProvider.ExchangeRateType.REALTIME));
+            assertEquals(1.18, provider.getExchangeRate(Currency.BRITISH_POUND, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME));
+        }
+
+        @Test
+        public void testMissingPair() {
+            // When & Then
+            assertThrows(IllegalArgumentException.class,
+                    () -> provider.getExchangeRate(Currency.US_DOLLAR, Currency.JAPANESE_YEN, ExchangeRateProvider.ExchangeRateType.REALTIME));
+        }
+    }
+
+    @Nested
+    class testInverseRateExchangeRateProviderSnapshots {
+        @Test
+        public void testSnapshotIsCompletedOnce() {
+            // When
+            RateTable first = provider.getSnapshot();
+            RateTable second = provider.getSnapshot();
+
+            // Then
+            assertSame(first, second);
+            assertEquals(oneDirection.getSnapshot().getVersion(), first.getVersion());
+        }
+
+        @Test
+        public void testUpdateChangesBothDirections() {
+            // When
+            oneDirection.update(rates -> rates.put(ExchangeRateProvider.ExchangeRateType.REALTIME, Currency.US_DOLLAR, Currency.EURO, 0.5));
+
+            // Then
+            assertEquals(2.0, provider.getExchangeRate(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.REALTIME));
+            assertEquals(1, provider.getSnapshot().getVersion());
+        }
+
+        @Test
+        public void testNullConfiguration() {
+            // When
+            Exception sourceException = assertThrows(Exception.class, () -> new InverseRateExchangeRateProvider(null));
+            Exception exception = assertThrows(Exception.class, () -> new InverseRateExchangeRateProvider(oneDirection, null));
+
+            // Then
+            assertEquals(RuntimeException.class, exception.getClass());
+            assertEquals(PROVIDER_NULL, sourceException.getMessage());
+            assertEquals(MATH_CONTEXT_NULL, exception.getMessage());
+        }
+
+        @Test
+        public void testUnlimitedPrecision() {
+            // When
+            Exception exception = assertThrows(Exception.class, () -> new InverseRateExchangeRateProvider(oneDirection, MathContext.UNLIMITED));
+
+            // Then
+            assertEquals(RuntimeException.class, exception.getClass());
+            assertEquals(MATH_CONTEXT_UNLIMITED, exception.getMessage());
+        }
+    }
+}
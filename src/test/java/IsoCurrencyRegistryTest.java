@@ -0,0 +1,114 @@
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IsoCurrencyRegistryTest {
+
+    @Nested
+    class testIsoCurrencyRegistryPack {
+        @Test
+        public void testPackIsDenseAndOrdered() {
+            // When & Then
+            assertEquals(0, IsoCurrencyRegistry.pack("AAA"));
+            assertEquals(IsoCurrencyRegistry.PACKED_CODE_COUNT - 1, IsoCurrencyRegistry.pack("ZZZ"));
+            assertTrue(IsoCurrencyRegistry.pack("EUR") < IsoCurrencyRegistry.pack("USD"));
+            assertEquals(IsoCurrencyRegistry.pack("CHF"), IsoCurrencyRegistry.pack('C', 'H', 'F'));
+        }
+
+        @Test
+        public void testPackRejectsInvalidCodes() {
+            // When & Then
+            assertEquals(-1, IsoCurrencyRegistry.pack("chf"));
+            assertEquals(-1, IsoCurrencyRegistry.pack("CH"));
+            assertEquals(-1, IsoCurrencyRegistry.pack("CHFR"));
+            assertEquals(-1, IsoCurrencyRegistry.pack("C1F"));
+            assertEquals(-1, IsoCurrencyRegistry.pack(null));
+        }
+    }
+
+    @Nested
+    class testIsoCurrencyRegistryLookup {
+        @Test
+        public void testFromCode() {
+            // When
+            IsoCurrency result = IsoCurrencyRegistry.fromCode("KWD");
+
+            // Then
+            assertEquals("KWD", result.getCode());
+            assertEquals(414, result.getNumericCode());
+            assertEquals(3, result.getMinorDigits());
+            assertNull(result.getCurrency());
+        }
+
+        @Test
+        public void testFromCodeAcceptsCharSequence() {
+            // Given
+            StringBuilder code = new StringBuilder("CH").append('F');
+
+            // When & Then
+            assertSame(IsoCurrencyRegistry.fromCode("CHF"), IsoCurrencyRegistry.fromCode(code));
+        }
+
+        @Test
+        public void testFromNumericCode() {
+            // When & Then
+            assertSame(IsoCurrencyRegistry.fromCode("EUR"), IsoCurrencyRegistry.fromNumericCode(978));
+            assertSame(IsoCurrencyRegistry.fromCode("ALL"), IsoCurrencyRegistry.fromNumericCode(8));
+            assertNull(IsoCurrencyRegistry.fromNumericCode(999));
+            assertNull(IsoCurrencyRegistry.fromNumericCode(-1));
+            assertNull(IsoCurrencyRegistry.fromNumericCode(1000));
+        }
+
+        @Test
+        public void testUnknownCodes() {
+            // When & Then
+            assertNull(IsoCurrencyRegistry.fromCode("ABC"));
+            assertNull(IsoCurrencyRegistry.fromCode("usd"));
+            assertNull(IsoCurrencyRegistry.fromPackedCode(-1));
+            assertNull(IsoCurrencyRegistry.fromPackedCode(IsoCurrencyRegistry.PACKED_CODE_COUNT));
+        }
+
+        @Test
+        public void testEnumCurrenciesAreRegistered() {
+            // When & Then
+            for (Currency currency : Currency.values()) {
+                IsoCurrency isoCurrency = IsoCurrencyRegistry.fromCode(currency.getIsoCode());
+                assertNotNull(isoCurrency);
+                assertSame(currency, isoCurrency.getCurrency());
+                assertEquals(currency.getPackedCode(), isoCurrency.getPackedCode());
+            }
+        }
+    }
+
+    @Nested
+    class testIsoCurrencyRegistryAll {
+        @Test
+        public void testAllCodesAndNumericCodesAreUnique() {
+            // Given
+            List<IsoCurrency> all = IsoCurrencyRegistry.all();
+            Set<Integer> numericCodes = new HashSet<>();
+
+            // When & Then
+            assertTrue(all.size() > 150);
+            for (int i = 0; i < all.size(); i++) {
+                IsoCurrency currency = all.get(i);
+                assertTrue(numericCodes.add(currency.getNumericCode()));
+                assertSame(currency, IsoCurrencyRegistry.fromCode(currency.getCode()));
+                assertSame(currency, IsoCurrencyRegistry.fromNumericCode(currency.getNumericCode()));
+                if (i > 0)
+                    assertTrue(all.get(i - 1).getCode().compareTo(currency.getCode()) < 0);
+            }
+        }
+
+        @Test
+        public void testAllIsUnmodifiable() {
+            // When & Then
+            assertThrows(UnsupportedOperationException.class, () -> IsoCurrencyRegistry.all().clear());
+        }
+    }
+}
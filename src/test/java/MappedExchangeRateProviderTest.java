@@ -0,0 +1,231 @@
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedExchangeRateProviderTest {
+
+    private final String INVALID_RATE_FILE = "Invalid rate table file";
+    private final String PATH_NULL = "Path can not be null";
+    private final String RATE_TABLE_NULL = "RateTable can not be null";
+    private final String RATE_FILE_STALLED = "Rate table file is not being updated to completion";
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Builds a table in which every rate between different currencies is the given value.
+     */
+    private static RateTable uniformTable(long version, double rate) {
+        RateTable.Builder builder = RateTable.builder().version(version);
+        for (ExchangeRateProvider.ExchangeRateType type : ExchangeRateProvider.ExchangeRateType.values())
+            for (Currency from : Currency.values())
+                for (Currency to : Currency.values())
+                    if (from != to)
+                        builder.put(type, from, to, rate);
+        return builder.build();
+    }
+
+    /**
+     * Sets the sequence of a rate table file as a writer that died while publishing would have left it.
+     */
+    private static void setSequence(Path file, long sequence) throws Exception {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, RateTableFile.FILE_SIZE);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            RateTableFile.SEQUENCE.setVolatile(buffer, RateTableFile.SEQUENCE_OFFSET, sequence);
+            buffer.force();
+        }
+    }
+
+    @Nested
+    class testMappedExchangeRateProviderRead {
+        @Test
+        public void testReadsWrittenTable() throws Exception {
+            // Given
+            Path file = directory.resolve("rates.bin");
+            MappedRateTableWriter.write(file, FixedExchangeRateProvider.getRateTable());
+
+            // When
+            MappedExchangeRateProvider provider = new MappedExchangeRateProvider(file);
+
+            // Then
+            FixedExchangeRateProvider fixed = new FixedExchangeRateProvider();
+            for (ExchangeRateProvider.ExchangeRateType type : ExchangeRateProvider.ExchangeRateType.values())
+                for (Currency from : Currency.values())
+                    for (Currency to : Currency.values())
+                        assertEquals(fixed.getExchangeRate(from, to, type), provider.getExchangeRate(from, to, type));
+            assertEquals(RateTableFile.FILE_SIZE, Files.size(file));
+        }
+
+        @Test
+        public void testMissingRate() throws Exception {
+            // Given
+            Path file = directory.resolve("rates.bin");
+            MappedRateTableWriter.open(file);
+
+            // When
+            MappedExchangeRateProvider provider = new MappedExchangeRateProvider(file);
+
+            // Then
+            assertThrows(IllegalArgumentException.class,
+                    () -> provider.getExchangeRate(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.DAILY));
+            assertEquals(1.0, provider.getExchangeRate(Currency.EURO, Currency.EURO, ExchangeRateProvider.ExchangeRateType.DAILY));
+        }
+
+        @Test
+        public void testInvalidFile() throws Exception {
+            // Given
+            Path file = directory.resolve("rates.bin");
+            Files.write(file, new byte[RateTableFile.FILE_SIZE]);
+            Path small = directory.resolve("small.bin");
+            Files.write(small, new byte[16]);
+
+            // When
+            Exception exception = assertThrows(Exception.class, () -> new MappedExchangeRateProvider(file));
+            Exception smallException = assertThrows(Exception.class, () -> new MappedExchangeRateProvider(small));
+
+            // Then
+            assertEquals(RuntimeException.class, exception.getClass());
+            assertEquals(INVALID_RATE_FILE, exception.getMessage());
+            assertEquals(INVALID_RATE_FILE, smallException.getMessage());
+        }
+    }
+
+    @Nested
+    class testMappedExchangeRateProviderNullArguments {
+        @Test
+        public void testNullPath() {
+            // When
+            Exception providerException = assertThrows(Exception.class, () -> new MappedExchangeRateProvider(null));
+            Exception openException = assertThrows(Exception.class, () -> MappedRateTableWriter.open(null));
+            Exception writeException = assertThrows(Exception.class, () -> MappedRateTableWriter.write(null, RateTable.builder().build()));
+
+            // Then
+            assertEquals(RuntimeException.class, providerException.getClass());
+            assertEquals(PATH_NULL, providerException.getMessage());
+            assertEquals(PATH_NULL, openException.getMessage());
+            assertEquals(PATH_NULL, writeException.getMessage());
+        }
+
+        @Test
+        public void testNullTable() throws Exception {
+            // Given
+            Path file = directory.resolve("rates.bin");
+            MappedRateTableWriter writer = MappedRateTableWriter.open(file);
+
+            // When
+            Exception writeException = assertThrows(Exception.class, () -> MappedRateTableWriter.write(file, null));
+            Exception publishException = assertThrows(Exception.class, () -> writer.publish(null));
+
+            // Then
+            assertEquals(RuntimeException.class, publishException.getClass());
+            assertEquals(RATE_TABLE_NULL, writeException.getMessage());
+            assertEquals(RATE_TABLE_NULL, publishException.getMessage());
+        }
+    }
+
+    @Nested
+    class testMappedExchangeRateProviderUpdates {
+        @Test
+        public void testRecoversFromDeadWriter() throws Exception {
+            // Given
+            Path file = directory.resolve("rates.bin");
+            MappedRateTableWriter.write(file, uniformTable(1, 2.0));
+            setSequence(file, 7);
+            MappedExchangeRateProvider provider = new MappedExchangeRateProvider(file);
+
+            // When
+            Exception exception = assertThrows(Exception.class,
+                    () -> provider.getExchangeRate(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.DAILY));
+            MappedRateTableWriter.open(file).publish(uniformTable(2, 3.0));
+
+            // Then
+            assertEquals(RuntimeException.class, exception.getClass());
+            assertEquals(RATE_FILE_STALLED, exception.getMessage());
+            assertEquals(3.0, provider.getExchangeRate(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.DAILY));
+            assertEquals(2, provider.getSnapshot().getVersion());
+            assertEquals(2, provider.getVersion());
+        }
+
+        @Test
+        public void testReaderSeesWrittenTable() throws Exception {
+            // Given
+            Path file = directory.resolve("rates.bin");
+            MappedRateTableWriter.write(file, uniformTable(1, 2.0));
+            MappedExchangeRateProvider provider = new MappedExchangeRateProvider(file);
+            RateTable first = provider.getSnapshot();
+
+            // When
+            MappedRateTableWriter.write(file, uniformTable(2, 3.0));
+
+            // Then
+            assertEquals(1, first.getVersion());
+            assertEquals(3.0, provider.getExchangeRate(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.REALTIME));
+            assertEquals(2, provider.getSnapshot().getVersion());
+            assertEquals(2, provider.getVersion());
+        }
+
+        @Test
+        public void testReaderSeesPublishedTable() throws Exception {
+            // Given
+            Path file = directory.resolve("rates.bin");
+            MappedRateTableWriter writer = MappedRateTableWriter.open(file);
+            MappedExchangeRateProvider provider = new MappedExchangeRateProvider(file);
+            writer.publish(uniformTable(1, 2.0));
+            RateTable first = provider.getSnapshot();
+
+            // When
+            writer.publish(uniformTable(2, 3.0));
+
+            // Then
+            assertNotSame(first, provider.getSnapshot());
+            assertEquals(3.0, provider.getExchangeRate(Currency.EURO, Currency.BRITISH_POUND, ExchangeRateProvider.ExchangeRateType.MONTHLY));
+            assertEquals(2, provider.getVersion());
+            assertEquals(2, provider.getSnapshot().getVersion());
+            assertSame(provider.getSnapshot(), provider.getSnapshot());
+        }
+
+        @Test
+        public void testSnapshotsAreConsistentDuringUpdates() throws Exception {
+            // Given
+            Path file = directory.resolve("rates.bin");
+            MappedRateTableWriter writer = MappedRateTableWriter.open(file);
+            MappedExchangeRateProvider provider = new MappedExchangeRateProvider(file);
+            writer.publish(uniformTable(1, 1.0));
+            AtomicBoolean running = new AtomicBoolean(true);
+            Thread publisher = new Thread(() -> {
+                for (int version = 2; running.get(); version++)
+                    writer.publish(uniformTable(version, version));
+            });
+
+            // When
+            publisher.start();
+            try {
+                for (int i = 0; i < 2_000; i++) {
+                    RateTable snapshot = provider.getSnapshot();
+
+                    // Then
+                    double expected = snapshot.getVersion();
+                    for (ExchangeRateProvider.ExchangeRateType type : ExchangeRateProvider.ExchangeRateType.values())
+                        for (Currency from : Currency.values())
+                            for (Currency to : Currency.values())
+                                if (from != to)
+                                    assertEquals(expected, snapshot.getRate(from, to, type));
+                }
+            } finally {
+                running.set(false);
+                publisher.join();
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyCollectorsTest {
+
+    private final String MONEY_VALUE_NULL = "Money Value can not be null";
+    private final String CURRENCY_NULL = "Currency can not be null";
+    private final String CONVERTER_NULL = "Converter can not be null";
+
+    private List<MoneyValue> values;
+    private AtomicInteger lookups;
+    private Converter converter;
+
+    @BeforeEach
+    public void setUp() {
+        values = Arrays.asList(
+                new MoneyValue(10, Currency.US_DOLLAR),
+                new MoneyValue(2.5, Currency.EURO),
+                new MoneyValue(5, Currency.US_DOLLAR),
+                new MoneyValue(1000, Currency.JAPANESE_YEN),
+                new MoneyValue(-0.5, Currency.EURO));
+        lookups = new AtomicInteger();
+        FixedExchangeRateProvider provider = new FixedExchangeRateProvider();
+        converter = new Converter((from, to, type) -> {
+            lookups.incrementAndGet();
+            return provider.getExchangeRate(from, to, type);
+        });
+    }
+
+    private List<MoneyValue> manyValues() {
+        List<MoneyValue> result = new ArrayList<>();
+        Currency[] currencies = Currency.values();
+        IntStream.range(0, 10_000).forEach(i -> result.add(new MoneyValue(i * 0.01, currencies[i % currencies.length])));
+        return result;
+    }
+
+    @Nested
+    class testMoneyCollectorsSummingByCurrency {
+        @Test
+        public void testSummingByCurrency() {
+            // When
+            Map<Currency, MoneyValue> result = values.stream().collect(MoneyCollectors.summingByCurrency());
+
+            // Then
+            assertEquals(3, result.size());
+            assertEquals(new MoneyValue(15, Currency.US_DOLLAR), result.get(Currency.US_DOLLAR));
+            assertEquals(new MoneyValue(2, Currency.EURO), result.get(Currency.EURO));
+            assertEquals(new MoneyValue(1000, Currency.JAPANESE_YEN), result.get(Currency.JAPANESE_YEN));
+        }
+
+        @Test
+        public void testParallelMatchesSequential() {
+            // Given
+            List<MoneyValue> many = manyValues();
+
+            // When
+            Map<Currency, MoneyValue> sequential = many.stream().collect(MoneyCollectors.summingByCurrency());
+            Map<Currency, MoneyValue> parallel = many.parallelStream().collect(MoneyCollectors.summingByCurrency());
+            Map<Currency, MoneyValue> concurrent = many.parallelStream().collect(MoneyCollectors.summingByCurrencyConcurrent());
+
+            // Then
+            assertEquals(sequential, parallel);
+            assertEquals(sequential, concurrent);
+            assertEquals(new MoneyValue(new BigDecimal("124950.00"), Currency.US_DOLLAR), sequential.get(Currency.US_DOLLAR));
+        }
+
+        @Test
+        public void testSumBeyondLongRange() {
+            // Given
+            MoneyValue large = new MoneyValue(new BigDecimal("90000000000000000.00"), Currency.EURO);
+
+            // When
+            Map<Currency, MoneyValue> result = Stream.of(large, large, large).collect(MoneyCollectors.summingByCurrency());
+
+            // Then
+            assertEquals(new BigDecimal("270000000000000000.00"), result.get(Currency.EURO).getAmount());
+        }
+
+        @Test
+        public void testEmptyStream() {
+            // When
+            Map<Currency, MoneyValue> result = Stream.<MoneyValue>empty().collect(MoneyCollectors.summingByCurrencyConcurrent());
+
+            // Then
+            assertTrue(result.isEmpty());
+        }
+
+        @Test
+        public void testNullValue() {
+            // When
+            Exception exception = assertThrows(Exception.class,
+                    () -> Stream.of(values.get(0), null).collect(MoneyCollectors.summingByCurrency()));
+
+            // Then
+            assertEquals(RuntimeException.class, exception.getClass());
+            assertEquals(MONEY_VALUE_NULL, exception.getMessage());
+        }
+    }
+
+    @Nested
+    class testMoneyCollectorsSummingTo {
+        @Test
+        public void testSummingToConvertsEachCurrencyOnce() {
+            // When
+            MoneyValue result = values.stream().collect(MoneyCollectors.summingTo(Currency.EURO, converter));
+
+            // Then
+            // 15 USD * 0.93 + 2 EUR + 1000 JPY * 0.0059
+            assertEquals(new MoneyValue(new BigDecimal("21.85"), Currency.EURO), result);
+            assertEquals(2, lookups.get());
+        }
+
+        @Test
+        public void testSummingToWithRateType() {
+            // When
+            MoneyValue result = values.stream()
+                    .collect(MoneyCollectors.summingTo(Currency.US_DOLLAR, converter, ExchangeRateProvider.ExchangeRateType.DAILY));
+
+            // Then
+            // 15 USD + 2 EUR * 1.09 + 1000 JPY * 0.0061
+            assertEquals(new MoneyValue(new BigDecimal("23.28"), Currency.US_DOLLAR), result);
+        }
+
+        @Test
+        public void testConcurrentMatchesSequential() {
+            // Given
+            List<MoneyValue> many = manyValues();
+
+            // When
+            MoneyValue sequential = many.stream().collect(MoneyCollectors.summingTo(Currency.BRITISH_POUND, converter));
+            MoneyValue concurrent = many.parallelStream().collect(MoneyCollectors.summingToConcurrent(Currency.BRITISH_POUND, converter));
+
+            // Then
+            assertEquals(sequential, concurrent);
+            assertEquals(6, lookups.get());
+        }
+
+        @Test
+        public void testEmptyStream() {
+            // When
+            MoneyValue result = Stream.<MoneyValue>empty().collect(MoneyCollectors.summingTo(Currency.EURO, converter));
+
+            // Then
+            assertEquals(new MoneyValue(0, Currency.EURO), result);
+        }
+
+        @Test
+        public void testNullArguments() {
+            // When
+            Exception currencyException = assertThrows(Exception.class, () -> MoneyCollectors.summingTo(null, converter));
+            Exception converterException = assertThrows(Exception.class, () -> MoneyCollectors.summingToConcurrent(Currency.EURO, null));
+
+            // Then
+            assertEquals(CURRENCY_NULL, currencyException.getMessage());
+            assertEquals(CONVERTER_NULL, converterException.getMessage());
+        }
+    }
+}
@@ -0,0 +1,265 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyValueParserTest {
+
+    private MoneyValueParser parser;
+
+    @BeforeEach
+    public void setUp() {
+        parser = new MoneyValueParser();
+    }
+
+    @Nested
+    class testMoneyValueParserValidInput {
+        @Test
+        public void testCurrencySymbolFirst() {
+            // When
+            boolean result = parser.parse("$1,200,000.00");
+
+            // Then
+            assertTrue(result);
+            assertEquals(Currency.US_DOLLAR, parser.getCurrency());
+            assertEquals(new BigDecimal("1200000.00"), parser.getAmount());
+        }
+
+        @Test
+        public void testAmountFirstWithEuropeanSeparators() {
+            // When
+            boolean result = parser.parse("1.200.000,00 €");
+
+            // Then
+            assertTrue(result);
+            assertEquals(Currency.EURO, parser.getCurrency());
+            assertEquals(new BigDecimal("1200000.00"), parser.getAmount());
+        }
+
+        @Test
+        public void testIsoCodeFirst() {
+            // When
+            boolean result = parser.parse("GBP 12.345");
+
+            // Then
+            assertTrue(result);
+            assertEquals(Currency.BRITISH_POUND, parser.getCurrency());
+            assertEquals(new BigDecimal("12345.00"), parser.getAmount());
+        }
+
+        @Test
+        public void testRoundsHalfUp() {
+            // When
+            boolean result = parser.parse("1,234.565 JPY");
+
+            // Then
+            assertTrue(result);
+            assertEquals(new BigDecimal("1234.57"), parser.getAmount());
+        }
+
+        @Test
+        public void testSubSequence() {
+            // Given
+            StringBuilder text = new StringBuilder("xx$ 5,5yy");
+
+            // When
+            boolean result = parser.parse(text, 2, 7);
+
+            // Then
+            assertTrue(result);
+            assertEquals(Currency.US_DOLLAR, parser.getCurrency());
+            assertEquals(new BigDecimal("5.50"), parser.getAmount());
+        }
+
+        @Test
+        public void testAmountBeyondLongRange() {
+            // When
+            boolean result = parser.parse("123,456,789,012,345,678,901,234.567 EUR");
+
+            // Then
+            assertTrue(result);
+            assertEquals(new BigDecimal("123456789012345678901234.57"), parser.getAmount());
+        }
+
+        @Test
+        public void testReuseAfterInvalidInput() {
+            // Given
+            parser.parse("100.0");
+
+            // When
+            boolean result = parser.parse("£ 3");
+
+            // Then
+            assertTrue(result);
+            assertEquals(new MoneyValue(3, Currency.BRITISH_POUND), parser.toMoneyValue());
+        }
+    }
+
+    @Nested
+    class testMoneyValueParserInvalidInput {
+        @Test
+        public void testOnlyAmount() {
+            // When & Then
+            assertFalse(parser.parse("100.0"));
+            assertNull(parser.getCurrency());
+        }
+
+        @Test
+        public void testOnlyCurrency() {
+            // When & Then
+            assertFalse(parser.parse("$"));
+        }
+
+        @Test
+        public void testOnlySeparator() {
+            // When & Then
+            assertFalse(parser.parse("$ ."));
+        }
+
+        @Test
+        public void testTooManySeparators() {
+            // When & Then
+            assertFalse(parser.parse("1.2.3,4,5 €"));
+        }
+
+        @Test
+        public void testNullAndEmpty() {
+            // When & Then
+            assertFalse(parser.parse(null));
+            assertFalse(parser.parse(""));
+        }
+    }
+
+    @Nested
+    class testMoneyValueParserUtf8Input {
+        @Test
+        public void testMultiByteSymbolAfterAmount() {
+            // Given
+            byte[] bytes = "1.200,00 €".getBytes(StandardCharsets.UTF_8);
+
+            // When
+            boolean result = parser.parse(bytes, 0, bytes.length);
+
+            // Then
+            assertTrue(result);
+            assertEquals(Currency.EURO, parser.getCurrency());
+            assertEquals(new BigDecimal("1200.00"), parser.getAmount());
+        }
+
+        @Test
+        public void testMultiByteSymbolsBeforeAmount() {
+            // Given
+            byte[] yen = "¥ 157,74".getBytes(StandardCharsets.UTF_8);
+            byte[] pound = "£0.79".getBytes(StandardCharsets.UTF_8);
+
+            // When & Then
+            assertTrue(parser.parse(yen, 0, yen.length));
+            assertEquals(new MoneyValue(new BigDecimal("157.74"), Currency.JAPANESE_YEN), parser.toMoneyValue());
+            assertTrue(parser.parse(pound, 0, pound.length));
+            assertEquals(new MoneyValue(new BigDecimal("0.79"), Currency.BRITISH_POUND), parser.toMoneyValue());
+        }
+
+        @Test
+        public void testSliceOfRecord() {
+            // Given
+            byte[] bytes = "id-7;USD 42.10;ok".getBytes(StandardCharsets.UTF_8);
+
+            // When
+            boolean result = parser.parse(bytes, 5, 9);
+
+            // Then
+            assertTrue(result);
+            assertEquals(new MoneyValue(42.1, Currency.US_DOLLAR), parser.toMoneyValue());
+        }
+
+        @Test
+        public void testDirectByteBuffer() {
+            // Given
+            byte[] bytes = "xx99.95 £".getBytes(StandardCharsets.UTF_8);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+            buffer.put(bytes).flip();
+
+            // When
+            boolean result = parser.parse(buffer, 2, bytes.length - 2);
+
+            // Then
+            assertTrue(result);
+            assertEquals(new MoneyValue(new BigDecimal("99.95"), Currency.BRITISH_POUND), parser.toMoneyValue());
+            assertEquals(0, buffer.position());
+        }
+
+        @Test
+        public void testMatchesCharSequenceParser() {
+            // Given
+            String[] inputs = {"$ 100.00", "1.200.000,00 €", "100.0", "$", "100.0 (", "EUR1,5", "1,2,3.45 JPY", "12 ¥"};
+            MoneyValueParser charParser = new MoneyValueParser();
+
+            for (String input : inputs) {
+                byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+
+                // When
+                boolean expected = charParser.parse(input);
+                boolean result = parser.parse(bytes, 0, bytes.length);
+
+                // Then
+                assertEquals(expected, result, input);
+                if (expected)
+                    assertEquals(charParser.toMoneyValue(), parser.toMoneyValue(), input);
+            }
+        }
+    }
+
+    @Nested
+    class testMoneyValueParserStatusCodes {
+        @Test
+        public void testStatusForEachFailure() {
+            // When & Then
+            assertFalse(parser.parse(""));
+            assertEquals(MoneyValueParser.STATUS_EMPTY, parser.getStatus());
+            assertFalse(parser.parse("$"));
+            assertEquals(MoneyValueParser.STATUS_NO_AMOUNT, parser.getStatus());
+            assertFalse(parser.parse("100.0 ("));
+            assertEquals(MoneyValueParser.STATUS_NO_CURRENCY, parser.getStatus());
+            assertFalse(parser.parse("$ ,"));
+            assertEquals(MoneyValueParser.STATUS_INVALID_AMOUNT, parser.getStatus());
+            assertTrue(parser.parse("$ 1"));
+            assertEquals(MoneyValueParser.STATUS_OK, parser.getStatus());
+        }
+
+        @Test
+        public void testTryParse() {
+            // When & Then
+            assertEquals(new MoneyValue(100, Currency.US_DOLLAR), MoneyValueParser.tryParse("$ 100.00"));
+            assertNull(MoneyValueParser.tryParse("100.0"));
+            assertNull(MoneyValueParser.tryParse(null));
+        }
+
+        @Test
+        public void testParseAll() {
+            // Given
+            List<String> rows = Arrays.asList("$ 1", "bad", "2,50 €", null, "1.2.3,4,5 €");
+            MoneyValue[] values = new MoneyValue[rows.size()];
+            int[] statuses = new int[rows.size()];
+
+            // When
+            int failures = parser.parseAll(rows, values, statuses);
+
+            // Then
+            assertEquals(3, failures);
+            assertArrayEquals(new int[]{MoneyValueParser.STATUS_OK, MoneyValueParser.STATUS_NO_AMOUNT,
+                    MoneyValueParser.STATUS_OK, MoneyValueParser.STATUS_EMPTY, MoneyValueParser.STATUS_INVALID_AMOUNT}, statuses);
+            assertEquals(new MoneyValue(1, Currency.US_DOLLAR), values[0]);
+            assertNull(values[1]);
+            assertEquals(new MoneyValue(2.5, Currency.EURO), values[2]);
+            assertNull(values[3]);
+            assertNull(values[4]);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
 import java.math.RoundingMode;
 import java.util.HashMap;
 import java.util.Map;
@@ -1090,4 +1091,267 @@ class MoneyValueTest {
             assertEquals(expected, moneyValue1);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    public class testMoneyValueOverflowPromotion {
+        @Test
+        public void testAddPromotesOnOverflow() {
+            // Given
+            BigDecimal max = BigDecimal.valueOf(Long.MAX_VALUE, 2);
+            MoneyValue moneyValue1 = new MoneyValue(max, Currency.US_DOLLAR);
+            MoneyValue moneyValue2 = new MoneyValue(max, Currency.US_DOLLAR);
+
+            // When
+            moneyValue1.add(moneyValue2);
+
+            // Then
+            assertEquals(max.add(max), moneyValue1.getAmount());
+        }
+
+        @Test
+        public void testSubtractReturnsToLongRange() {
+            // Given
+            BigDecimal max = BigDecimal.valueOf(Long.MAX_VALUE, 2);
+            MoneyValue moneyValue1 = new MoneyValue(max, Currency.US_DOLLAR);
+            MoneyValue moneyValue2 = new MoneyValue(max, Currency.US_DOLLAR);
+            MoneyValue expected = new MoneyValue(max, Currency.US_DOLLAR);
+
+            // When
+            moneyValue1.add(moneyValue2).subtract(moneyValue2);
+
+            // Then
+            assertEquals(expected, moneyValue1);
+            assertEquals(expected.hashCode(), moneyValue1.hashCode());
+        }
+
+        @Test
+        public void testMultiplyPromotesOnOverflow() {
+            // Given
+            BigDecimal large = new BigDecimal("123456789012.34");
+            MoneyValue moneyValue1 = new MoneyValue(large, Currency.EURO);
+            MoneyValue moneyValue2 = new MoneyValue(large, Currency.EURO);
+
+            // When
+            moneyValue1.multiply(moneyValue2);
+
+            // Then
+            assertEquals(large.multiply(large).setScale(2, RoundingMode.HALF_UP), moneyValue1.getAmount());
+        }
+
+        @Test
+        public void testDivideLargeAmount() {
+            // Given
+            BigDecimal large = new BigDecimal("92233720368547758.07");
+            MoneyValue moneyValue1 = new MoneyValue(large, Currency.EURO);
+            MoneyValue moneyValue2 = new MoneyValue(3.0, Currency.EURO);
+
+            // When
+            moneyValue1.divide(moneyValue2);
+
+            // Then
+            assertEquals(large.divide(BigDecimal.valueOf(3), 2, RoundingMode.HALF_UP), moneyValue1.getAmount());
+        }
+
+        @Test
+        public void testLongConstructorBeyondLongRangeOfHundredths() {
+            // Given
+            long amount = Long.MAX_VALUE;
+
+            // When
+            MoneyValue moneyValue = new MoneyValue(amount, Currency.US_DOLLAR);
+
+            // Then
+            assertEquals(new BigDecimal(amount).setScale(2, RoundingMode.HALF_UP), moneyValue.getAmount());
+        }
+
+        @Test
+        public void testHashCodeMatchesObjectsHash() {
+            // Given
+            MoneyValue moneyValue = new MoneyValue(new BigDecimal("-1234.57"), Currency.EURO);
+
+            // When & Then
+            assertEquals(Objects.hash(-1234.57, Currency.EURO.getIsoCode()), moneyValue.hashCode());
+        }
+
+        @Test
+        public void testCompareToMatchesBigDecimalRounding() {
+            // Given
+            long[] amounts = {0, 1, 99, 100, 101, 999, 12345, -12345, 99999999, -4200000000L};
+
+            for (long a : amounts) {
+                for (long b : amounts) {
+                    MoneyValue moneyValue1 = new MoneyValue(BigDecimal.valueOf(a, 2), Currency.US_DOLLAR);
+                    MoneyValue moneyValue2 = new MoneyValue(BigDecimal.valueOf(b, 2), Currency.US_DOLLAR);
+                    int expected = a == b ? 0 : BigDecimal.valueOf(b, 2).subtract(BigDecimal.valueOf(a, 2))
+                            .round(new MathContext(2, RoundingMode.UP)).intValue();
+
+                    // When & Then
+                    assertEquals(expected, moneyValue1.compareTo(moneyValue2));
+                }
+            }
+        }
+    }
+
+    @Nested
+    public class testMoneyValueImmutableOperations {
+        @Test
+        public void testPlusLeavesOperandsUnchanged() {
+            // Given
+            MoneyValue moneyValue1 = new MoneyValue(100.0, Currency.US_DOLLAR);
+            MoneyValue moneyValue2 = new MoneyValue(10.5, Currency.US_DOLLAR);
+
+            // When
+            ImmutableMoneyValue result = moneyValue1.plus(moneyValue2);
+
+            // Then
+            assertEquals(new MoneyValue(110.5, Currency.US_DOLLAR), result.toMoneyValue());
+            assertEquals(new MoneyValue(100.0, Currency.US_DOLLAR), moneyValue1);
+            assertEquals(new MoneyValue(10.5, Currency.US_DOLLAR), moneyValue2);
+        }
+
+        @Test
+        public void testMinus() {
+            // Given
+            MoneyValue moneyValue1 = new MoneyValue(100.0, Currency.US_DOLLAR);
+            MoneyValue moneyValue2 = new MoneyValue(10.5, Currency.US_DOLLAR);
+
+            // When
+            ImmutableMoneyValue result = moneyValue1.minus(moneyValue2);
+
+            // Then
+            assertEquals(new MoneyValue(89.5, Currency.US_DOLLAR), result.toMoneyValue());
+            assertEquals(new MoneyValue(100.0, Currency.US_DOLLAR), moneyValue1);
+        }
+
+        @Test
+        public void testTimesMatchesMultiply() {
+            // Given
+            MoneyValue moneyValue1 = new MoneyValue(new BigDecimal("12.35"), Currency.EURO);
+            MoneyValue moneyValue2 = new MoneyValue(new BigDecimal("0.55"), Currency.EURO);
+
+            // When
+            ImmutableMoneyValue result = moneyValue1.times(moneyValue2);
+
+            // Then
+            assertEquals(new MoneyValue(new BigDecimal("12.35"), Currency.EURO).multiply(moneyValue2), result.toMoneyValue());
+        }
+
+        @Test
+        public void testDividedByMatchesDivide() {
+            // Given
+            MoneyValue moneyValue1 = new MoneyValue(10.0, Currency.EURO);
+            MoneyValue moneyValue2 = new MoneyValue(3.0, Currency.EURO);
+
+            // When
+            ImmutableMoneyValue result = moneyValue1.dividedBy(moneyValue2);
+
+            // Then
+            assertEquals(new MoneyValue(10.0, Currency.EURO).divide(moneyValue2), result.toMoneyValue());
+        }
+
+        @Test
+        public void testDividedByZero() {
+            // Given
+            MoneyValue moneyValue1 = new MoneyValue(10.0, Currency.EURO);
+            MoneyValue zero = new MoneyValue(0, Currency.EURO);
+
+            // When
+            Exception exception = assertThrows(Exception.class, () -> moneyValue1.dividedBy(zero));
+
+            // Then
+            assertEquals(DIVIDE_BY_ZERO, exception.getMessage());
+        }
+
+        @Test
+        public void testPlusDifferentCurrencies() {
+            // Given
+            MoneyValue moneyValue1 = new MoneyValue(10.0, Currency.EURO);
+            MoneyValue moneyValue2 = new MoneyValue(10.0, Currency.US_DOLLAR);
+
+            // When
+            Exception exception = assertThrows(Exception.class, () -> moneyValue1.plus(moneyValue2));
+
+            // Then
+            assertEquals(CURRENCIES_NOT_EQUAL, exception.getMessage());
+        }
+
+        @Test
+        public void testPlusPromotesOnOverflow() {
+            // Given
+            BigDecimal max = BigDecimal.valueOf(Long.MAX_VALUE, 2);
+            MoneyValue moneyValue = new MoneyValue(max, Currency.US_DOLLAR);
+
+            // When
+            ImmutableMoneyValue result = moneyValue.plus(moneyValue);
+
+            // Then
+            assertEquals(max.add(max), result.getAmount());
+            assertEquals(max, moneyValue.getAmount());
+        }
+
+        @Test
+        public void testPlusSharedAcrossThreads() throws InterruptedException {
+            // Given
+            ImmutableMoneyValue oneDollar = new MoneyValue(1, Currency.US_DOLLAR).toImmutable();
+            ImmutableMoneyValue[] results = new ImmutableMoneyValue[10];
+            Thread[] threads = new Thread[results.length];
+
+            // When
+            for (int i = 0; i < threads.length; ++i) {
+                int index = i;
+                threads[i] = new Thread(() -> {
+                    ImmutableMoneyValue total = new MoneyValue(0, Currency.US_DOLLAR).toImmutable();
+                    for (int j = 0; j < 1000; ++j)
+                        total = total.plus(oneDollar);
+                    results[index] = total;
+                });
+                threads[i].start();
+            }
+            for (Thread t : threads)
+                t.join();
+
+            // Then
+            for (ImmutableMoneyValue result : results)
+                assertEquals(new MoneyValue(1000, Currency.US_DOLLAR).toImmutable(), result);
+            assertEquals(new MoneyValue(1, Currency.US_DOLLAR).toImmutable(), oneDollar);
+        }
+
+        @Test
+        public void testToImmutableIsNotAffectedByLaterMutation() {
+            // Given
+            MoneyValue moneyValue = new MoneyValue(10.0, Currency.EURO);
+            ImmutableMoneyValue snapshot = moneyValue.toImmutable();
+
+            // When
+            moneyValue.add(new MoneyValue(5.0, Currency.EURO));
+
+            // Then
+            assertEquals(new BigDecimal("10.00"), snapshot.getAmount());
+            assertEquals(new MoneyValue(10.0, Currency.EURO), snapshot.toMoneyValue());
+        }
+
+        @Test
+        public void testPlusWhileSharedValueIsMutated() throws InterruptedException {
+            // Given
+            MoneyValue shared = new MoneyValue(BigDecimal.valueOf(Long.MAX_VALUE - 100, 2), Currency.US_DOLLAR);
+            MoneyValue step = new MoneyValue(BigDecimal.valueOf(1, 2), Currency.US_DOLLAR);
+            MoneyValue zero = new MoneyValue(0, Currency.US_DOLLAR);
+            Thread writer = new Thread(() -> {
+                for (int i = 0; i < 200; ++i)
+                    shared.add(step);
+            });
+
+            // When
+            writer.start();
+            BigDecimal previous = BigDecimal.ZERO;
+            while (writer.isAlive()) {
+                BigDecimal amount = shared.plus(zero).getAmount();
+                // Then
+                assertTrue(amount.compareTo(previous) >= 0);
+                previous = amount;
+            }
+            writer.join();
+            assertEquals(BigDecimal.valueOf(Long.MAX_VALUE - 100, 2).add(new BigDecimal("2.00")), shared.plus(zero).getAmount());
+        }
+    }
+}
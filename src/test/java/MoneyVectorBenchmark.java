@@ -0,0 +1,79 @@
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * A simple benchmark comparing per-currency sums and conversions over a MoneyVector
+ * with looping MoneyValue.add over the same amounts.
+ * Build it with the vector profile and run it with and without --add-modules jdk.incubator.vector
+ * to compare the SIMD and scalar paths:
+ * <pre>
+ * mvn test-compile -Pvector
+ * java --add-modules jdk.incubator.vector -cp target/classes:target/test-classes MoneyVectorBenchmark
+ * </pre>
+ */
+public class MoneyVectorBenchmark {
+    private static final int SIZE = 1_000_000;
+    private static final int ROUNDS = 20;
+
+    /**
+     * Runs the benchmark and prints the average time per round.
+     *
+     * @param args Unused.
+     */
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        Currency[] currencies = Currency.values();
+        MoneyVector vector = new MoneyVector(SIZE);
+        for (int i = 0; i < SIZE; i++)
+            vector.add(random.nextInt(10_000_000), currencies[random.nextInt(currencies.length)]);
+        MoneyValue[] values = vector.toList().toArray(new MoneyValue[0]);
+        FixedExchangeRateProvider provider = new FixedExchangeRateProvider();
+
+        System.out.println("Vector API enabled: " + MoneyVector.isVectorized());
+        long blackhole = 0;
+        for (int warmup = 0; warmup < 10; warmup++) {
+            blackhole += loopAdd(values).size();
+            blackhole += vector.sumByCurrency().size();
+            blackhole += vector.convertTo(Currency.EURO, provider, ExchangeRateProvider.ExchangeRateType.REALTIME).size();
+        }
+
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++)
+            blackhole += loopAdd(values).size();
+        long loopNanos = (System.nanoTime() - start) / ROUNDS;
+
+        start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++)
+            blackhole += vector.sumByCurrency().size();
+        long vectorNanos = (System.nanoTime() - start) / ROUNDS;
+
+        start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++)
+            blackhole += vector.convertTo(Currency.EURO, provider, ExchangeRateProvider.ExchangeRateType.REALTIME).size();
+        long convertNanos = (System.nanoTime() - start) / ROUNDS;
+
+        System.out.printf("MoneyValue.add loop:         %8.2f ms%n", loopNanos / 1e6);
+        System.out.printf("MoneyVector.sumByCurrency:   %8.2f ms (%.1fx)%n", vectorNanos / 1e6, (double) loopNanos / vectorNanos);
+        System.out.printf("MoneyVector.convertTo:       %8.2f ms%n", convertNanos / 1e6);
+        System.out.println(blackhole);
+    }
+
+    /**
+     * Sums the values per currency by looping MoneyValue.add.
+     *
+     * @param values The values to sum.
+     * @return The sums per currency.
+     */
+    private static Map<Currency, MoneyValue> loopAdd(MoneyValue[] values) {
+        Map<Currency, MoneyValue> sums = new EnumMap<>(Currency.class);
+        for (MoneyValue value : values) {
+            MoneyValue sum = sums.get(value.getCurrency());
+            if (sum == null)
+                sums.put(value.getCurrency(), new MoneyValue(value.getAmount(), value.getCurrency()));
+            else
+                sum.add(value);
+        }
+        return sums;
+    }
+}
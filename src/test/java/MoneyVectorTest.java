@@ -0,0 +1,264 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class MoneyVectorTest {
+
+    private final String MONEY_VALUE_NULL = "Money Value can not be null";
+    private final String CURRENCY_NULL = "Currency can not be null";
+    private final String AMOUNT_OVERFLOW = "Amount exceeds the fixed-point range";
+
+    private MoneyVector vector;
+
+    @BeforeEach
+    public void setUp() {
+        vector = new MoneyVector(2);
+        vector.add(new MoneyValue(10.5, Currency.US_DOLLAR));
+        vector.add(new MoneyValue(2.25, Currency.EURO));
+        vector.add(new MoneyValue(-3, Currency.US_DOLLAR));
+        vector.add(new MoneyValue(100, Currency.JAPANESE_YEN));
+    }
+
+    @Nested
+    class testMoneyVectorStorage {
+        @Test
+        public void testAddGrowsAndKeepsOrder() {
+            // When & Then
+            assertEquals(4, vector.size());
+            assertEquals(1050, vector.getMinorUnits(0));
+            assertEquals(Currency.EURO, vector.getCurrency(1));
+            assertEquals(new MoneyValue(-3, Currency.US_DOLLAR), vector.get(2));
+        }
+
+        @Test
+        public void testConstructorFromCollection() {
+            // Given
+            List<MoneyValue> values = Arrays.asList(new MoneyValue(1, Currency.EURO), new MoneyValue(2, Currency.BRITISH_POUND));
+
+            // When
+            MoneyVector result = new MoneyVector(values);
+
+            // Then
+            assertEquals(values, result.toList());
+        }
+
+        @Test
+        public void testAddNullValues() {
+            // When
+            Exception valueException = assertThrows(Exception.class, () -> vector.add(null));
+            Exception currencyException = assertThrows(Exception.class, () -> vector.add(100, null));
+
+            // Then
+            assertEquals(MONEY_VALUE_NULL, valueException.getMessage());
+            assertEquals(CURRENCY_NULL, currencyException.getMessage());
+        }
+
+        @Test
+        public void testAddAmountBeyondLongRange() {
+            // Given
+            MoneyValue huge = new MoneyValue(new BigDecimal("1e20"), Currency.EURO);
+
+            // When
+            Exception exception = assertThrows(Exception.class, () -> vector.add(huge));
+
+            // Then
+            assertEquals(RuntimeException.class, exception.getClass());
+            assertEquals(AMOUNT_OVERFLOW, exception.getMessage());
+        }
+
+        @Test
+        public void testIndexOutOfBounds() {
+            // When & Then
+            assertThrows(IndexOutOfBoundsException.class, () -> vector.get(4));
+            assertThrows(IndexOutOfBoundsException.class, () -> vector.getMinorUnits(-1));
+        }
+    }
+
+    @Nested
+    class testMoneyVectorAggregation {
+        @Test
+        public void testSum() {
+            // When & Then
+            assertEquals(new MoneyValue(7.5, Currency.US_DOLLAR), vector.sum(Currency.US_DOLLAR));
+            assertEquals(new MoneyValue(0, Currency.BRITISH_POUND), vector.sum(Currency.BRITISH_POUND));
+        }
+
+        @Test
+        public void testSumBeyondLongRange() {
+            // Given
+            MoneyVector large = new MoneyVector();
+            large.add(Long.MAX_VALUE, Currency.EURO);
+            large.add(Long.MAX_VALUE, Currency.EURO);
+
+            // When
+            MoneyValue result = large.sum(Currency.EURO);
+
+            // Then
+            BigDecimal expected = BigDecimal.valueOf(Long.MAX_VALUE, 2).multiply(BigDecimal.valueOf(2));
+            assertEquals(expected, result.getAmount());
+            assertEquals(expected, large.sumByCurrency().get(Currency.EURO).getAmount());
+        }
+
+        @Test
+        public void testSumByCurrency() {
+            // When
+            Map<Currency, MoneyValue> result = vector.sumByCurrency();
+
+            // Then
+            assertEquals(3, result.size());
+            assertEquals(new MoneyValue(7.5, Currency.US_DOLLAR), result.get(Currency.US_DOLLAR));
+            assertEquals(new MoneyValue(2.25, Currency.EURO), result.get(Currency.EURO));
+            assertFalse(result.containsKey(Currency.BRITISH_POUND));
+        }
+
+        @Test
+        public void testMinAndMax() {
+            // When & Then
+            assertEquals(new MoneyValue(-3, Currency.US_DOLLAR), vector.min(Currency.US_DOLLAR));
+            assertEquals(new MoneyValue(10.5, Currency.US_DOLLAR), vector.max(Currency.US_DOLLAR));
+            assertNull(vector.max(Currency.BRITISH_POUND));
+        }
+
+        @Test
+        public void testFilter() {
+            // When
+            MoneyVector dollars = vector.filter(Currency.US_DOLLAR);
+            MoneyVector positive = vector.filter(units -> units > 0);
+
+            // Then
+            assertEquals(2, dollars.size());
+            assertEquals(-300, dollars.getMinorUnits(1));
+            assertEquals(3, positive.size());
+            assertEquals(Currency.JAPANESE_YEN, positive.getCurrency(2));
+        }
+    }
+
+    @Nested
+    class testMoneyVectorConversion {
+        @Test
+        public void testConvertToMatchesConverter() {
+            // Given
+            FixedExchangeRateProvider provider = new FixedExchangeRateProvider();
+            Converter converter = new Converter(provider);
+
+            // When
+            MoneyVector result = vector.convertTo(Currency.EURO, provider, ExchangeRateProvider.ExchangeRateType.DAILY);
+
+            // Then
+            assertEquals(vector.size(), result.size());
+            for (int i = 0; i < vector.size(); i++)
+                assertEquals(converter.convertTo(vector.get(i), Currency.EURO, ExchangeRateProvider.ExchangeRateType.DAILY), result.get(i));
+        }
+
+        @Test
+        public void testConvertToFetchesEachRateOnce() {
+            // Given
+            int[] lookups = new int[1];
+            ExchangeRateProvider provider = (from, to, type) -> {
+                lookups[0]++;
+                return 0.5;
+            };
+
+            // When
+            vector.convertTo(Currency.BRITISH_POUND, provider, ExchangeRateProvider.ExchangeRateType.REALTIME);
+
+            // Then
+            assertEquals(3, lookups[0]);
+        }
+
+        @Test
+        public void testConvertToNullCurrency() {
+            // When
+            Exception exception = assertThrows(Exception.class,
+                    () -> vector.convertTo(null, new FixedExchangeRateProvider(), ExchangeRateProvider.ExchangeRateType.REALTIME));
+
+            // Then
+            assertEquals(CURRENCY_NULL, exception.getMessage());
+        }
+    }
+
+    @Nested
+    class testMoneyVectorBulk {
+        private MoneyVector randomVector(int size, long bound) {
+            Random random = new Random(42);
+            MoneyVector result = new MoneyVector(size);
+            Currency[] currencies = Currency.values();
+            for (int i = 0; i < size; i++)
+                result.add(random.nextLong() % bound, currencies[random.nextInt(currencies.length)]);
+            return result;
+        }
+
+        @Test
+        public void testSumByCurrencyMatchesMoneyValueAdd() {
+            // Given
+            MoneyVector values = randomVector(1003, 1_000_000_000L);
+            Map<Currency, MoneyValue> expected = new EnumMap<>(Currency.class);
+            for (MoneyValue value : values.toList())
+                expected.merge(value.getCurrency(), value, (a, b) -> a.plus(b).toMoneyValue());
+
+            // When
+            Map<Currency, MoneyValue> result = values.sumByCurrency();
+
+            // Then
+            assertEquals(expected, result);
+            assertEquals(expected.get(Currency.EURO), values.sum(Currency.EURO));
+        }
+
+        @Test
+        public void testConvertToMatchesScalarArithmetic() {
+            // Given
+            MoneyVector values = randomVector(1003, Long.MAX_VALUE / 500);
+            FixedExchangeRateProvider provider = new FixedExchangeRateProvider();
+
+            // When
+            MoneyVector result = values.convertTo(Currency.JAPANESE_YEN, provider, ExchangeRateProvider.ExchangeRateType.MONTHLY);
+
+            // Then
+            for (int i = 0; i < values.size(); i++) {
+                BigDecimal rate = BigDecimal.valueOf(provider.getExchangeRate(values.getCurrency(i), Currency.JAPANESE_YEN,
+                        ExchangeRateProvider.ExchangeRateType.MONTHLY));
+                long expected = FixedPointMath.multiplyByRate(values.getMinorUnits(i), rate.unscaledValue().longValueExact(), rate.scale());
+                assertEquals(expected, result.getMinorUnits(i));
+            }
+        }
+
+        @Test
+        public void testSimdKernelsMatchScalarKernels() {
+            assumeTrue(MoneyVector.isVectorized());
+
+            // Given
+            MoneyVector values = randomVector(515, Long.MAX_VALUE / 1000);
+            long[] units = new long[values.size()];
+            byte[] currencies = new byte[values.size()];
+            for (int i = 0; i < values.size(); i++) {
+                units[i] = values.getMinorUnits(i);
+                currencies[i] = (byte) values.getCurrency(i).ordinal();
+            }
+            long[] rateUnscaled = {93, -15774, 0, 1};
+            int[] rateScale = {2, 2, 0, 5};
+            long[] converted = new long[units.length];
+            MoneyVector overflowing = new MoneyVector();
+            for (int i = 0; i < 64; i++)
+                overflowing.add(Long.MAX_VALUE / 2, Currency.EURO);
+
+            // When
+            MoneyVector.simdKernels().multiplyByRate(units, currencies, units.length, rateUnscaled, rateScale, converted);
+
+            // Then
+            for (int i = 0; i < units.length; i++)
+                assertEquals(FixedPointMath.multiplyByRate(units[i], rateUnscaled[currencies[i]], rateScale[currencies[i]]), converted[i]);
+            assertEquals(BigDecimal.valueOf(Long.MAX_VALUE / 2, 2).multiply(BigDecimal.valueOf(64)),
+                    overflowing.sum(Currency.EURO).getAmount());
+        }
+    }
+}
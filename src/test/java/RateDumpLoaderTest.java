@@ -0,0 +1,209 @@
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateDumpLoaderTest {
+
+    @TempDir
+    Path directory;
+
+    private static ReadableByteChannel channel(String content) {
+        return Channels.newChannel(new ByteArrayInputStream(content.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @Nested
+    class testRateDumpLoaderCsv {
+        @Test
+        public void testLoadCsv() throws Exception {
+            // Given
+            String csv = "date,type,from,to,rate\n"
+                    + "2024-01-02,DAILY,EUR,USD,1.0912\r\n"
+                    + "2024-01-03,DAILY,EUR,USD,1.1\n"
+                    + "\n"
+                    + "2024-01-03,MONTHLY,JPY,GBP,5.4e-3";
+            HistoricalExchangeRateProvider.Builder builder = HistoricalExchangeRateProvider.builder();
+
+            // When
+            int rows = RateDumpLoader.loadCsv(channel(csv), builder);
+            HistoricalExchangeRateProvider history = builder.build();
+
+            // Then
+            assertEquals(3, rows);
+            assertEquals(1.0912, history.getExchangeRateAsOf(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.DAILY, LocalDate.of(2024, 1, 2)));
+            assertEquals(1.1, history.getExchangeRateAsOf(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.DAILY, LocalDate.of(2024, 1, 9)));
+            assertEquals(0.0054, history.getExchangeRate(Currency.JAPANESE_YEN, Currency.BRITISH_POUND, ExchangeRateProvider.ExchangeRateType.MONTHLY));
+        }
+
+        @Test
+        public void testUnknownCurrency() {
+            // Given
+            String csv = "2024-01-02,DAILY,EUR,USD,1.09\n2024-01-02,DAILY,EUR,CHF,0.94\n";
+
+            // When
+            Exception exception = assertThrows(Exception.class,
+                    () -> RateDumpLoader.loadCsv(channel(csv), HistoricalExchangeRateProvider.builder()));
+
+            // Then
+            assertEquals(RuntimeException.class, exception.getClass());
+            assertEquals("Unknown currency in line 2", exception.getMessage());
+        }
+
+        @Test
+        public void testMalformedRows() {
+            // Given
+            String[] rows = {
+                    "2024-02-30,DAILY,EUR,USD,1.09",
+                    "2024-01-02,WEEKLY,EUR,USD,1.09",
+                    "2024-01-02,DAILY,EUR,USD,",
+                    "2024-01-02,DAILY,EUR,USD,1.09x",
+                    "2024-01-02;DAILY;EUR;USD;1.09"
+            };
+
+            // When & Then
+            for (String row : rows) {
+                Exception exception = assertThrows(Exception.class,
+                        () -> RateDumpLoader.loadCsv(channel(row), HistoricalExchangeRateProvider.builder()));
+                assertEquals("Invalid rate dump in line 1", exception.getMessage());
+            }
+        }
+
+        @Test
+        public void testNonPositiveRates() {
+            // Given
+            String[] rates = {"0", "0.0", "-1.09", "-0", "1e400"};
+
+            // When & Then
+            for (String rate : rates) {
+                String csv = "date,type,from,to,rate\n2024-01-02,DAILY,EUR,USD," + rate + "\n";
+                Exception exception = assertThrows(Exception.class,
+                        () -> RateDumpLoader.loadCsv(channel(csv), HistoricalExchangeRateProvider.builder()));
+                assertEquals(RuntimeException.class, exception.getClass());
+                assertEquals("Exchange rate must be positive in line 2", exception.getMessage());
+            }
+        }
+
+        @Test
+        public void testRatesMatchDoubleParsing() throws Exception {
+            // Given
+            String[] rates = {"0.93", "157.74", "0.0063", "1", "123456789.123456", "0.1234567890123456789", "1e3", "2.5E-4", "3.0000000000000004"};
+            StringBuilder csv = new StringBuilder();
+            for (int i = 0; i < rates.length; i++)
+                csv.append(LocalDate.ofEpochDay(19_000 + i)).append(",REALTIME,USD,EUR,").append(rates[i]).append('\n');
+            HistoricalExchangeRateProvider.Builder builder = HistoricalExchangeRateProvider.builder();
+
+            // When
+            RateDumpLoader.loadCsv(channel(csv.toString()), builder);
+            HistoricalExchangeRateProvider history = builder.build();
+
+            // Then
+            for (int i = 0; i < rates.length; i++)
+                assertEquals(Double.parseDouble(rates[i]), history.getExchangeRateAsOf(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME, 19_000 + i));
+        }
+
+        @Test
+        public void testEpochDay() {
+            // When & Then
+            for (long day = LocalDate.of(1899, 1, 1).toEpochDay(); day <= LocalDate.of(2101, 12, 31).toEpochDay(); day++) {
+                LocalDate date = LocalDate.ofEpochDay(day);
+                assertEquals(day, RateDumpLoader.epochDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth()));
+            }
+        }
+
+        @Test
+        public void testLargeDumpFile() throws Exception {
+            // Given
+            Path file = directory.resolve("rates.csv");
+            int start = (int) LocalDate.of(2000, 1, 1).toEpochDay();
+            int expectedRows = 0;
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+                writer.write("date,type,from,to,rate\n");
+                for (int day = start; expectedRows < 300_000; day++) {
+                    for (Currency from : Currency.values()) {
+                        for (Currency to : Currency.values()) {
+                            if (from == to)
+                                continue;
+                            writer.write(LocalDate.ofEpochDay(day) + ",DAILY," + from.getIsoCode() + "," + to.getIsoCode() + "," + (1 + (day - start) / 10_000.0) + "\n");
+                            expectedRows++;
+                        }
+                    }
+                }
+            }
+            HistoricalExchangeRateProvider.Builder builder = HistoricalExchangeRateProvider.builder();
+
+            // When
+            int rows = RateDumpLoader.loadCsv(file, builder);
+            HistoricalExchangeRateProvider history = builder.build();
+
+            // Then
+            assertEquals(expectedRows, rows);
+            assertEquals(1.5, history.getExchangeRateAsOf(Currency.BRITISH_POUND, Currency.JAPANESE_YEN, ExchangeRateProvider.ExchangeRateType.DAILY, start + 5000));
+        }
+    }
+
+    @Nested
+    class testRateDumpLoaderJson {
+        @Test
+        public void testLoadJson() throws Exception {
+            // Given
+            String json = "[\n"
+                    + "  {\"date\": \"2024-01-02\", \"type\": \"DAILY\", \"from\": \"EUR\", \"to\": \"USD\", \"rate\": 1.0912},\n"
+                    + "  {\"rate\":171.26,\"to\":\"JPY\",\"from\":\"EUR\",\"type\":\"MONTHLY\",\"date\":\"2024-02-29\"}\n"
+                    + "]\n";
+            Path file = directory.resolve("rates.json");
+            Files.writeString(file, json);
+            HistoricalExchangeRateProvider.Builder builder = HistoricalExchangeRateProvider.builder();
+
+            // When
+            int rows = RateDumpLoader.loadJson(file, builder);
+            HistoricalExchangeRateProvider history = builder.build();
+
+            // Then
+            assertEquals(2, rows);
+            assertEquals(1.0912, history.getExchangeRate(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.DAILY));
+            assertEquals(171.26, history.getExchangeRateAsOf(Currency.EURO, Currency.JAPANESE_YEN, ExchangeRateProvider.ExchangeRateType.MONTHLY, LocalDate.of(2024, 2, 29)));
+        }
+
+        @Test
+        public void testEmptyArray() throws Exception {
+            // When & Then
+            assertEquals(0, RateDumpLoader.loadJson(channel(" [ ] "), HistoricalExchangeRateProvider.builder()));
+        }
+
+        @Test
+        public void testMissingField() {
+            // Given
+            String json = "[{\"date\": \"2024-01-02\", \"type\": \"DAILY\",\n \"from\": \"EUR\", \"rate\": 1.09}]";
+
+            // When
+            Exception exception = assertThrows(Exception.class,
+                    () -> RateDumpLoader.loadJson(channel(json), HistoricalExchangeRateProvider.builder()));
+
+            // Then
+            assertEquals("Invalid rate dump in line 2", exception.getMessage());
+        }
+
+        @Test
+        public void testNegativeRate() {
+            // Given
+            String json = "[{\"date\": \"2024-01-02\", \"type\": \"DAILY\", \"from\": \"EUR\", \"to\": \"USD\", \"rate\": -1.09}]";
+
+            // When
+            Exception exception = assertThrows(Exception.class,
+                    () -> RateDumpLoader.loadJson(channel(json), HistoricalExchangeRateProvider.builder()));
+
+            // Then
+            assertEquals("Exchange rate must be positive in line 1", exception.getMessage());
+        }
+    }
+}
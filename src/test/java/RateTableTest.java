@@ -0,0 +1,141 @@
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.MathContext;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateTableTest {
+
+    private final String CURRENCY_NULL = "Currency can not be null";
+    private final String EXCHANGE_RATE_TYPE_NULL = "ExchangeRateType can not be null";
+
+    @Nested
+    class testRateTableLookup {
+        @Test
+        public void testGetRate() {
+            // Given
+            RateTable table = RateTable.builder()
+                    .put(ExchangeRateProvider.ExchangeRateType.DAILY, Currency.EURO, Currency.US_DOLLAR, 1.09)
+                    .build();
+
+            // When & Then
+            assertEquals(1.09, table.getRate(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.DAILY));
+            assertTrue(table.hasRate(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.DAILY));
+        }
+
+        @Test
+        public void testMissingRateIsNaN() {
+            // Given
+            RateTable table = RateTable.builder().build();
+
+            // When & Then
+            assertTrue(Double.isNaN(table.getRate(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.REALTIME)));
+            assertFalse(table.hasRate(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.REALTIME));
+        }
+
+        @Test
+        public void testSameCurrencyIsOne() {
+            // Given
+            RateTable table = RateTable.builder().build();
+
+            // When & Then
+            for (Currency currency : Currency.values())
+                assertEquals(1.0, table.getRate(currency, currency, ExchangeRateProvider.ExchangeRateType.MONTHLY));
+        }
+    }
+
+    @Nested
+    class testRateTableBuilder {
+        @Test
+        public void testBuiltTableIsImmutable() {
+            // Given
+            RateTable.Builder builder = RateTable.builder()
+                    .put(ExchangeRateProvider.ExchangeRateType.REALTIME, Currency.US_DOLLAR, Currency.EURO, 0.93);
+            RateTable table = builder.build();
+
+            // When
+            builder.put(ExchangeRateProvider.ExchangeRateType.REALTIME, Currency.US_DOLLAR, Currency.EURO, 0.5);
+
+            // Then
+            assertEquals(0.93, table.getRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME));
+            assertEquals(0.5, builder.build().getRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME));
+        }
+
+        @Test
+        public void testToBuilderCopiesRates() {
+            // Given
+            RateTable table = RateTable.builder()
+                    .put(ExchangeRateProvider.ExchangeRateType.MONTHLY, Currency.BRITISH_POUND, Currency.EURO, 1.17)
+                    .build();
+
+            // When
+            RateTable copy = table.toBuilder()
+                    .put(ExchangeRateProvider.ExchangeRateType.MONTHLY, Currency.EURO, Currency.BRITISH_POUND, 0.83)
+                    .build();
+
+            // Then
+            assertEquals(1.17, copy.getRate(Currency.BRITISH_POUND, Currency.EURO, ExchangeRateProvider.ExchangeRateType.MONTHLY));
+            assertFalse(table.hasRate(Currency.EURO, Currency.BRITISH_POUND, ExchangeRateProvider.ExchangeRateType.MONTHLY));
+        }
+
+        @Test
+        public void testVersions() {
+            // Given
+            RateTable table = RateTable.builder().build();
+
+            // When
+            RateTable next = table.toBuilder().build();
+            RateTable explicit = RateTable.builder().version(42).build();
+
+            // Then
+            assertEquals(0, table.getVersion());
+            assertEquals(1, next.getVersion());
+            assertEquals(42, explicit.getVersion());
+        }
+
+        @Test
+        public void testDeriveInverses() {
+            // Given
+            RateTable.Builder builder = RateTable.builder()
+                    .put(ExchangeRateProvider.ExchangeRateType.MONTHLY, Currency.EURO, Currency.US_DOLLAR, 1.25);
+
+            // When
+            RateTable table = builder.deriveInverses(new MathContext(10)).build();
+            Exception exception = assertThrows(Exception.class, () -> builder.deriveInverses(null));
+
+            // Then
+            assertEquals(0.8, table.getRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.MONTHLY));
+            assertFalse(table.hasRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.DAILY));
+            assertEquals("MathContext can not be null", exception.getMessage());
+        }
+
+        @Test
+        public void testDeriveInversesUnlimitedPrecision() {
+            // Given
+            RateTable.Builder builder = RateTable.builder()
+                    .put(ExchangeRateProvider.ExchangeRateType.MONTHLY, Currency.EURO, Currency.US_DOLLAR, 3.0);
+
+            // When
+            Exception exception = assertThrows(Exception.class, () -> builder.deriveInverses(MathContext.UNLIMITED));
+
+            // Then
+            assertEquals(RuntimeException.class, exception.getClass());
+            assertEquals("MathContext must have a limited precision", exception.getMessage());
+            assertFalse(builder.build().hasRate(Currency.US_DOLLAR, Currency.EURO, ExchangeRateProvider.ExchangeRateType.MONTHLY));
+        }
+
+        @Test
+        public void testPutNullArguments() {
+            // When
+            Exception typeException = assertThrows(Exception.class,
+                    () -> RateTable.builder().put(null, Currency.EURO, Currency.US_DOLLAR, 1.0));
+            Exception currencyException = assertThrows(Exception.class,
+                    () -> RateTable.builder().put(ExchangeRateProvider.ExchangeRateType.DAILY, null, Currency.US_DOLLAR, 1.0));
+
+            // Then
+            assertEquals(EXCHANGE_RATE_TYPE_NULL, typeException.getMessage());
+            assertEquals(CURRENCY_NULL, currencyException.getMessage());
+        }
+    }
+}
@@ -0,0 +1,134 @@
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotExchangeRateProviderTest {
+
+    private final String RATE_TABLE_NULL = "RateTable can not be null";
+    private final String RATE_UPDATE_NULL = "Rate table update can not be null";
+    private final String RATE_TABLE_OUTDATED = "RateTable is not newer than the published one";
+    private final String CURRENCY_NULL = "Currency can not be null";
+
+    @Nested
+    class testSnapshotExchangeRateProviderPublish {
+        @Test
+        public void testPublishNewerTable() {
+            // Given
+            SnapshotExchangeRateProvider provider = new SnapshotExchangeRateProvider();
+            RateTable old = provider.getSnapshot();
+            RateTable next = old.toBuilder()
+                    .put(ExchangeRateProvider.ExchangeRateType.DAILY, Currency.EURO, Currency.US_DOLLAR, 1.09)
+                    .build();
+
+            // When
+            provider.publish(next);
+
+            // Then
+            assertSame(next, provider.getSnapshot());
+            assertFalse(old.hasRate(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.DAILY));
+            assertEquals(1.09, provider.getExchangeRate(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.DAILY));
+        }
+
+        @Test
+        public void testOutdatedTableIsRejected() {
+            // Given
+            SnapshotExchangeRateProvider provider = new SnapshotExchangeRateProvider();
+            RateTable base = provider.getSnapshot();
+            RateTable first = base.toBuilder().put(ExchangeRateProvider.ExchangeRateType.DAILY, Currency.EURO, Currency.US_DOLLAR, 1.0).build();
+            RateTable second = base.toBuilder().put(ExchangeRateProvider.ExchangeRateType.DAILY, Currency.EURO, Currency.US_DOLLAR, 2.0).build();
+
+            // When
+            provider.publish(first);
+            Exception exception = assertThrows(Exception.class, () -> provider.publish(second));
+
+            // Then
+            assertEquals(RuntimeException.class, exception.getClass());
+            assertEquals(RATE_TABLE_OUTDATED, exception.getMessage());
+            assertSame(first, provider.getSnapshot());
+        }
+
+        @Test
+        public void testTableFromScratchNeedsVersion() {
+            // Given
+            SnapshotExchangeRateProvider provider = new SnapshotExchangeRateProvider();
+            RateTable.Builder builder = RateTable.builder()
+                    .put(ExchangeRateProvider.ExchangeRateType.DAILY, Currency.EURO, Currency.US_DOLLAR, 1.09);
+
+            // When
+            Exception exception = assertThrows(Exception.class, () -> provider.publish(builder.build()));
+            provider.publish(builder.version(1).build());
+
+            // Then
+            assertEquals(RATE_TABLE_OUTDATED, exception.getMessage());
+            assertEquals(1.09, provider.getExchangeRate(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.DAILY));
+        }
+
+        @Test
+        public void testConcurrentUpdatesAreNotLost() throws Exception {
+            // Given
+            SnapshotExchangeRateProvider provider = new SnapshotExchangeRateProvider();
+            ExecutorService executor = Executors.newFixedThreadPool(Currency.values().length);
+            List<Future<RateTable>> results = new ArrayList<>();
+
+            // When
+            for (Currency currency : Currency.values())
+                results.add(executor.submit(() -> provider.update(rates ->
+                        rates.put(ExchangeRateProvider.ExchangeRateType.REALTIME, currency, Currency.EURO, 0.5))));
+            for (Future<RateTable> result : results)
+                result.get(10, TimeUnit.SECONDS);
+            executor.shutdown();
+
+            // Then
+            for (Currency currency : Currency.values())
+                assertTrue(provider.getSnapshot().hasRate(currency, Currency.EURO, ExchangeRateProvider.ExchangeRateType.REALTIME));
+            assertEquals(Currency.values().length, provider.getSnapshot().getVersion());
+        }
+    }
+
+    @Nested
+    class testSnapshotExchangeRateProviderLookup {
+        @Test
+        public void testBigDecimalRate() {
+            // Given
+            SnapshotExchangeRateProvider provider = new SnapshotExchangeRateProvider(FixedExchangeRateProvider.getRateTable());
+
+            // When & Then
+            assertEquals(BigDecimal.valueOf(0.0049), provider.getExchangeRateAsBigDecimal(Currency.JAPANESE_YEN, Currency.BRITISH_POUND, ExchangeRateProvider.ExchangeRateType.MONTHLY));
+        }
+
+        @Test
+        public void testMissingRate() {
+            // Given
+            SnapshotExchangeRateProvider provider = new SnapshotExchangeRateProvider();
+
+            // When & Then
+            assertThrows(IllegalArgumentException.class,
+                    () -> provider.getExchangeRateAsBigDecimal(Currency.EURO, Currency.US_DOLLAR, ExchangeRateProvider.ExchangeRateType.DAILY));
+        }
+
+        @Test
+        public void testNullArguments() {
+            // When
+            Exception currencyException = assertThrows(Exception.class,
+                    () -> new SnapshotExchangeRateProvider().getExchangeRate(null, Currency.EURO, ExchangeRateProvider.ExchangeRateType.DAILY));
+            Exception tableException = assertThrows(Exception.class, () -> new SnapshotExchangeRateProvider(null));
+            Exception publishException = assertThrows(Exception.class, () -> new SnapshotExchangeRateProvider().publish(null));
+            Exception updateException = assertThrows(Exception.class, () -> new SnapshotExchangeRateProvider().update(null));
+
+            // Then
+            assertEquals(CURRENCY_NULL, currencyException.getMessage());
+            assertEquals(RATE_TABLE_NULL, tableException.getMessage());
+            assertEquals(RATE_TABLE_NULL, publishException.getMessage());
+            assertEquals(RATE_UPDATE_NULL, updateException.getMessage());
+        }
+    }
+}